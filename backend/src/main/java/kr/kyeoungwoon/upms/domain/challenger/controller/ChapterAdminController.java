@@ -6,6 +6,7 @@ import java.util.List;
 import kr.kyeoungwoon.upms.domain.challenger.dto.ChapterAdminDto;
 import kr.kyeoungwoon.upms.domain.challenger.service.ChapterAdminService;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
 import kr.kyeoungwoon.upms.global.enums.ChapterAdminRole;
 import kr.kyeoungwoon.upms.security.annotation.AdminOnly;
 import lombok.RequiredArgsConstructor;
@@ -59,6 +60,19 @@ public class ChapterAdminController {
     return ApiResponse.onSuccess(chapterAdminService.findAll(chapterId, challengerId));
   }
 
+  @Operation(
+      summary = "챕터 관리자 페이지 조회",
+      description = "전체 챕터 관리자를 커서 기반 페이지로 조회합니다")
+  @GetMapping("/page")
+  public ApiResponse<CursorPage<ChapterAdminDto.Response>> getChapterAdminPage(
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 커서 (첫 페이지는 생략, 이전 응답의 nextCursor)")
+      @RequestParam(required = false) String cursor,
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+      @RequestParam(required = false) Integer size) {
+    log.info("챕터 운영진 페이지 조회 요청 - cursor: {}, size: {}", cursor, size);
+    return ApiResponse.onSuccess(chapterAdminService.findPage(cursor, size));
+  }
+
   @Operation(
       summary = "챌린저의 챕터 역할 조회",
       description = "특정 챌린저의 특정 챕터에서의 역할을 조회합니다. 권한이 없으면 role은 null입니다")
@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
@@ -35,7 +36,9 @@ import lombok.NoArgsConstructor;
 public class Challenger extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "challenger_seq")
+  @SequenceGenerator(name = "challenger_seq", sequenceName = "challenger_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "umsb_id")
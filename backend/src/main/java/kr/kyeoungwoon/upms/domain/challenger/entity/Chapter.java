@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
@@ -29,7 +30,9 @@ import lombok.NoArgsConstructor;
 public class Chapter extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chapter_seq")
+  @SequenceGenerator(name = "chapter_seq", sequenceName = "chapter_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import kr.kyeoungwoon.upms.global.entity.BaseEntity;
 import kr.kyeoungwoon.upms.global.enums.ChapterAdminRole;
 import lombok.AccessLevel;
@@ -21,7 +22,9 @@ import lombok.NoArgsConstructor;
 public class ChapterAdmin extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chapter_admin_seq")
+  @SequenceGenerator(name = "chapter_admin_seq", sequenceName = "chapter_admin_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne
@@ -7,6 +7,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
@@ -25,7 +26,9 @@ import lombok.NoArgsConstructor;
 public class School extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "school_seq")
+  @SequenceGenerator(name = "school_seq", sequenceName = "school_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -3,6 +3,9 @@ package kr.kyeoungwoon.upms.domain.challenger.repository;
 import java.util.List;
 import java.util.Optional;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.challenger.repository.projection.UnplacedChallengerRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -16,8 +19,19 @@ public interface ChallengerRepository extends JpaRepository<Challenger, Long> {
   // UMSB ID로 조회
   Optional<Challenger> findByUmsbId(Long umsbId);
 
-  //  해당 이름을 포함하고 있는 모든 챌린저 검색
-  List<Challenger> findByNameContaining(String name);
+  // 전체 Challenger 페이지 조회 (School 함께 조회)
+  @org.springframework.data.jpa.repository.Query(
+      value = "SELECT c FROM Challenger c JOIN FETCH c.school",
+      countQuery = "SELECT COUNT(c) FROM Challenger c")
+  Page<Challenger> findAllWithSchool(Pageable pageable);
+
+  //  해당 이름을 포함하고 있는 모든 챌린저 검색 (School 함께 조회)
+  @org.springframework.data.jpa.repository.Query(
+      "SELECT c FROM Challenger c "
+          + "JOIN FETCH c.school "
+          + "WHERE c.name LIKE CONCAT('%', :name, '%')")
+  List<Challenger> findByNameContaining(
+      @org.springframework.data.repository.query.Param("name") String name);
 
   // Chapter ID로 모든 Challenger 조회 (ChapterSchool을 통해)
   @org.springframework.data.jpa.repository.Query(
@@ -26,4 +40,25 @@ public interface ChallengerRepository extends JpaRepository<Challenger, Long> {
           + "WHERE cs.chapter.id = :chapterId")
   List<Challenger> findByChapterId(
       @org.springframework.data.repository.query.Param("chapterId") Long chapterId);
+
+  // Chapter ID로 모든 Challenger 조회 (School 함께 조회)
+  @org.springframework.data.jpa.repository.Query(
+      "SELECT DISTINCT c FROM Challenger c "
+          + "JOIN FETCH c.school s "
+          + "JOIN ChapterSchool cs ON s.id = cs.school.id "
+          + "WHERE cs.chapter.id = :chapterId")
+  List<Challenger> findByChapterIdWithSchool(
+      @org.springframework.data.repository.query.Param("chapterId") Long chapterId);
+
+  // Chapter 소속(같은 기수)이면서 어느 프로젝트에도 속하지 않고 PO 도 아닌 Challenger 조회 (ID 순)
+  @org.springframework.data.jpa.repository.Query(
+      "SELECT c.id AS challengerId, c.part AS part FROM Challenger c "
+          + "WHERE c.gisu = (SELECT ch.gisu FROM Chapter ch WHERE ch.id = :chapterId) "
+          + "AND c.school.id IN ("
+          + "SELECT cs.school.id FROM ChapterSchool cs WHERE cs.chapter.id = :chapterId) "
+          + "AND NOT EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.challenger = c) "
+          + "AND NOT EXISTS (SELECT 1 FROM Project p WHERE p.productOwner = c) "
+          + "ORDER BY c.id")
+  List<UnplacedChallengerRow> findUnplacedByChapterId(
+      @org.springframework.data.repository.query.Param("chapterId") Long chapterId);
 }
@@ -3,6 +3,8 @@ package kr.kyeoungwoon.upms.domain.challenger.repository;
 import java.util.List;
 import kr.kyeoungwoon.upms.domain.challenger.entity.ChapterAdmin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -33,5 +35,13 @@ public interface ChapterAdminRepository extends JpaRepository<ChapterAdmin, Long
    */
   java.util.Optional<ChapterAdmin> findByChallengerIdAndChapterId(Long challengerId,
       Long chapterId);
-}
 
+  /**
+   * ID 목록으로 관리자 조회 (Keyset 페이지네이션 2단계, 챕터/챌린저 fetch join)
+   */
+  @Query("SELECT ca FROM ChapterAdmin ca "
+      + "JOIN FETCH ca.chapter "
+      + "JOIN FETCH ca.challenger "
+      + "WHERE ca.id IN :ids")
+  List<ChapterAdmin> findAllWithChapterAndChallengerByIdIn(@Param("ids") List<Long> ids);
+}
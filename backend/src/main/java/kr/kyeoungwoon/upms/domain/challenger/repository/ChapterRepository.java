@@ -1,8 +1,12 @@
 package kr.kyeoungwoon.upms.domain.challenger.repository;
 
+import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Chapter;
+import kr.kyeoungwoon.upms.domain.challenger.repository.projection.ChapterSchoolLinkRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -10,6 +14,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ChapterRepository extends JpaRepository<Chapter, Long> {
 
+  /**
+   * Chapter 를 행 잠금(SELECT ... FOR UPDATE)과 함께 조회
+   * <p>
+   * 같은 Chapter 의 매칭 라운드 생성/수정을 직렬화하여 기간 중복 검증과 저장 사이에 다른 라운드가 끼어들지 않도록 합니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM Chapter c WHERE c.id = :id")
+  Optional<Chapter> findForUpdateById(@Param("id") Long id);
+
   // Chapter 조회 시 ChapterSchool과 School을 함께 fetch join (N+1 문제 방지)
   @Query("SELECT DISTINCT c FROM Chapter c "
       + "LEFT JOIN FETCH c.chapterSchools cs "
@@ -26,4 +39,12 @@ public interface ChapterRepository extends JpaRepository<Chapter, Long> {
       + "JOIN Challenger ch ON ch.school = s "
       + "WHERE ch.id = :challengerId AND ch.gisu = c.gisu")
   Optional<Chapter> findByChallengerId(@Param("challengerId") Long challengerId);
+
+  /**
+   * 전체 Chapter-학교 연결 (Chapter 구성 캐시 적재용, 연결 ID 순)
+   */
+  @Query("SELECT cs.chapter.id AS chapterId, cs.school.id AS schoolId "
+      + "FROM ChapterSchool cs "
+      + "ORDER BY cs.id")
+  List<ChapterSchoolLinkRow> findAllSchoolLinks();
 }
@@ -0,0 +1,11 @@
+package kr.kyeoungwoon.upms.domain.challenger.repository.projection;
+
+/**
+ * Chapter-학교 연결 Projection (Chapter 구성 캐시 적재용)
+ */
+public interface ChapterSchoolLinkRow {
+
+  Long getChapterId();
+
+  Long getSchoolId();
+}
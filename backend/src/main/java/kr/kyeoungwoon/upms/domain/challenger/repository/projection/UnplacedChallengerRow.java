@@ -0,0 +1,13 @@
+package kr.kyeoungwoon.upms.domain.challenger.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 프로젝트에 배정되지 않은 챌린저 Projection
+ */
+public interface UnplacedChallengerRow {
+
+  Long getChallengerId();
+
+  ChallengerPart getPart();
+}
@@ -10,7 +10,6 @@ import kr.kyeoungwoon.upms.domain.challenger.entity.ChapterAdmin;
 import kr.kyeoungwoon.upms.domain.challenger.entity.School;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterAdminRepository;
-import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.SchoolRepository;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
@@ -20,6 +19,7 @@ import kr.kyeoungwoon.upms.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,7 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ChallengerService {
 
   private final ChallengerRepository challengerRepository;
-  private final ChapterRepository chapterRepository;
+  private final ChapterBatchLoader chapterBatchLoader;
   private final ChapterAdminRepository chapterAdminRepository;
   private final SchoolRepository schoolRepository;
   private final PasswordEncoder passwordEncoder;
@@ -105,9 +105,7 @@ public class ChallengerService {
     List<Challenger> savedChallengers = challengerRepository.saveAll(challengers);
 
     // Response로 변환
-    return savedChallengers.stream()
-        .map(this::toResponse)
-        .toList();
+    return toResponses(savedChallengers);
   }
 
   public ChallengerDto.LoginResponse login(ChallengerDto.LoginRequest request) {
@@ -162,8 +160,8 @@ public class ChallengerService {
   public Page<ChallengerDto.Response> findAll(Pageable pageable) {
     log.info("챌린저 페이징 조회 - page: {}, size: {}", pageable.getPageNumber(),
         pageable.getPageSize());
-    return challengerRepository.findAll(pageable)
-        .map(this::toResponse);
+    Page<Challenger> page = challengerRepository.findAllWithSchool(pageable);
+    return new PageImpl<>(toResponses(page.getContent()), pageable, page.getTotalElements());
   }
 
   @Transactional
@@ -215,16 +213,25 @@ public class ChallengerService {
   public List<ChallengerDto.Response> findChallengerByName(String name) {
 
     log.info("챌린저 이름 검색 - keyword: {}", name);
-    return challengerRepository.findByNameContaining(name)
-        .stream().map(this::toResponse)
-        .toList();
+    return toResponses(challengerRepository.findByNameContaining(name));
   }
 
   private ChallengerDto.Response toResponse(Challenger challenger) {
-    // Chapter 정보 조회
-    var chapter = chapterRepository.findByChallengerId(challenger.getId())
-        .orElse(null);
+    return toResponse(challenger, chapterBatchLoader.load().find(challenger));
+  }
+
+  /**
+   * 여러 챌린저 응답 변환 (소속 Chapter 는 한 번에 조회)
+   */
+  private List<ChallengerDto.Response> toResponses(List<Challenger> challengers) {
+    ChapterBatchLoader.Loaded chapters = chapterBatchLoader.load();
+    return challengers.stream()
+        .map(challenger -> toResponse(challenger, chapters.find(challenger)))
+        .toList();
+  }
 
+  private ChallengerDto.Response toResponse(Challenger challenger,
+      ChapterBatchLoader.ChapterRef chapter) {
     return ChallengerDto.Response.builder()
         .id(challenger.getId())
         .umsbId(challenger.getUmsbId())
@@ -238,8 +245,8 @@ public class ChallengerService {
         .schoolLogoImageUrl(challenger.getSchool().getLogoImageUrl())
         .studentId(challenger.getStudentId())
         .profileImageUrl(challenger.getProfileImageUrl())
-        .chapterId(chapter != null ? chapter.getId() : null)
-        .chapterName(chapter != null ? chapter.getName() : null)
+        .chapterId(chapter != null ? chapter.id() : null)
+        .chapterName(chapter != null ? chapter.name() : null)
         .createdAt(challenger.getCreatedAt())
         .updatedAt(challenger.getUpdatedAt())
         .build();
@@ -249,9 +256,7 @@ public class ChallengerService {
    * 공개용 응답 변환 (민감 정보 제외) studentId 등 민감한 정보를 제외한 공개 정보만 반환
    */
   private ChallengerDto.PublicResponse toPublicResponse(Challenger challenger) {
-    // Chapter 정보 조회
-    var chapter = chapterRepository.findByChallengerId(challenger.getId())
-        .orElse(null);
+    ChapterBatchLoader.ChapterRef chapter = chapterBatchLoader.load().find(challenger);
 
     return ChallengerDto.PublicResponse.builder()
         .id(challenger.getId())
@@ -266,8 +271,8 @@ public class ChallengerService {
         .schoolLogoImageUrl(challenger.getSchool().getLogoImageUrl())
         // studentId 제외 (민감 정보)
         .profileImageUrl(challenger.getProfileImageUrl())
-        .chapterId(chapter != null ? chapter.getId() : null)
-        .chapterName(chapter != null ? chapter.getName() : null)
+        .chapterId(chapter != null ? chapter.id() : null)
+        .chapterName(chapter != null ? chapter.name() : null)
         .createdAt(challenger.getCreatedAt())
         .updatedAt(challenger.getUpdatedAt())
         .build();
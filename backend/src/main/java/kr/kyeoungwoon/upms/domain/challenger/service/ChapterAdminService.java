@@ -12,6 +12,8 @@ import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
 import kr.kyeoungwoon.upms.global.enums.ChapterAdminRole;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,7 @@ public class ChapterAdminService {
   private final ChapterAdminRepository chapterAdminRepository;
   private final ChapterRepository chapterRepository;
   private final ChallengerRepository challengerRepository;
+  private final KeysetPaginator keysetPaginator;
 
   @Transactional
   public ChapterAdminDto.Response create(ChapterAdminDto.CreateRequest request) {
@@ -80,6 +83,17 @@ public class ChapterAdminService {
         .toList();
   }
 
+  /**
+   * 전체 챕터 관리자 커서 기반 페이지 조회
+   */
+  public CursorPage<ChapterAdminDto.Response> findPage(String cursor, Integer size) {
+    log.info("챕터 관리자 전체 페이지 조회 - cursor: {}, size: {}", cursor, size);
+    return keysetPaginator.paginate(ChapterAdmin.class, cursor, size,
+        chapterAdminRepository::findAllWithChapterAndChallengerByIdIn,
+        ChapterAdmin::getId,
+        this::toResponse);
+  }
+
   @Transactional
   public ChapterAdminDto.Response update(Long id, ChapterAdminDto.UpdateRequest request) {
     log.info("챕터 관리자 역할 수정 요청 - id: {}, role: {}", id, request.role());
@@ -0,0 +1,52 @@
+package kr.kyeoungwoon.upms.domain.challenger.service;
+
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopology;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopologyCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 챌린저의 소속 Chapter 를 한 번에 조회 (DataLoader 방식)
+ * <p>
+ * 챌린저의 Chapter 는 (학교, 기수) 로 정해지므로 Chapter 구성 캐시(ChapterTopologyCache)의 (학교, 기수) 색인에서 찾습니다. 캐시가 유효하면
+ * 쿼리를 실행하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChapterBatchLoader {
+
+  private final ChapterTopologyCache chapterTopologyCache;
+
+  /**
+   * 변환 도중 캐시가 교체되어도 같은 스냅샷으로 조회하도록, 여러 챌린저를 변환하기 전에 한 번만 호출합니다.
+   */
+  public Loaded load() {
+    return new Loaded(chapterTopologyCache.get());
+  }
+
+  /**
+   * 조회한 Chapter 목록
+   */
+  public static final class Loaded {
+
+    private final ChapterTopology topology;
+
+    private Loaded(ChapterTopology topology) {
+      this.topology = topology;
+    }
+
+    /**
+     * @return 소속 Chapter 가 없으면 null
+     */
+    public ChapterRef find(Challenger challenger) {
+      return topology.findChapter(challenger.getSchool().getId(), challenger.getGisu())
+          .map(chapter -> new ChapterRef(chapter.id(), chapter.name()))
+          .orElse(null);
+    }
+  }
+
+  public record ChapterRef(Long id, String name) {
+
+  }
+}
@@ -10,6 +10,7 @@ import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterSchoolRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.SchoolRepository;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopologyCache;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
@@ -28,6 +29,7 @@ public class ChapterSchoolService {
   private final ChapterRepository chapterRepository;
   private final SchoolRepository schoolRepository;
   private final ChallengerRepository challengerRepository;
+  private final ChapterTopologyCache chapterTopologyCache;
 
   @Transactional
   public ChapterSchoolDto.Response create(ChapterSchoolDto.CreateRequest request) {
@@ -59,6 +61,7 @@ public class ChapterSchoolService {
         .build();
 
     ChapterSchool saved = chapterSchoolRepository.save(chapterSchool);
+    chapterTopologyCache.invalidate();
     log.info("챕터-학교 연동 생성 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -112,6 +115,7 @@ public class ChapterSchoolService {
             ErrorStatus.CHAPTER_VICE_LEADER_NOT_FOUND))
         : null;
 
+    // 리더 정보는 Chapter 구성 캐시에 포함되지 않으므로 무효화하지 않음
     chapterSchool.updateLeaders(leader, viceLeader);
 
     return toResponse(chapterSchool);
@@ -124,6 +128,7 @@ public class ChapterSchoolService {
       throw new DomainException(DomainType.CHAPTER_SCHOOL, ErrorStatus.CHAPTER_SCHOOL_NOT_FOUND);
     }
     chapterSchoolRepository.deleteById(id);
+    chapterTopologyCache.invalidate();
   }
 
   private ChapterSchoolDto.Response toResponse(ChapterSchool chapterSchool) {
@@ -3,10 +3,13 @@ package kr.kyeoungwoon.upms.domain.challenger.service;
 import java.util.List;
 import kr.kyeoungwoon.upms.domain.challenger.dto.ChapterDto;
 import kr.kyeoungwoon.upms.domain.challenger.dto.ChapterDto.Response;
+import kr.kyeoungwoon.upms.domain.challenger.dto.SchoolDto;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Chapter;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopology;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopologyCache;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
@@ -24,6 +27,7 @@ public class ChapterService {
 
   private final ChapterRepository chapterRepository;
   private final ChallengerRepository challengerRepository;
+  private final ChapterTopologyCache chapterTopologyCache;
 
   @Transactional
   public ChapterDto.Response create(ChapterDto.CreateRequest request) {
@@ -35,6 +39,7 @@ public class ChapterService {
         .build();
 
     Chapter saved = chapterRepository.save(chapter);
+    chapterTopologyCache.invalidate();
     log.info("챕터 생성 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -51,6 +56,7 @@ public class ChapterService {
 
     log.info("챕터 일괄 생성 요청 - 건수: {}", chapters.size());
     List<Chapter> savedChapters = chapterRepository.saveAll(chapters);
+    chapterTopologyCache.invalidate();
 
     return savedChapters.stream()
         .map(this::toResponse)
@@ -58,7 +64,7 @@ public class ChapterService {
   }
 
   public ChapterDto.Response findById(Long id) {
-    Chapter chapter = chapterRepository.findByIdWithSchools(id)
+    ChapterTopology.ChapterNode chapter = chapterTopologyCache.get().findChapter(id)
         .orElseThrow(() -> {
           log.warn("챕터 조회 실패 - 존재하지 않는 id: {}", id);
           return new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
@@ -70,36 +76,25 @@ public class ChapterService {
    * 챌린저 ID로 해당 챌린저가 속한 Chapter 조회
    */
   public ChapterDto.Response findByChallengerId(Long challengerId) {
-    Chapter chapter = chapterRepository.findByChallengerId(challengerId)
-        .orElseThrow(() -> {
-          log.warn("챌린저 소속 챕터 조회 실패 - challengerId: {}", challengerId);
-          return new DomainException(DomainType.CHAPTER,
-              ErrorStatus.CHAPTER_FOR_CHALLENGER_NOT_FOUND);
-        });
-    return toResponse(chapter);
+    Challenger challenger = findChallenger(challengerId);
+    return toResponse(findChapterOf(challenger));
   }
 
   public boolean isChallengerPlanInChapter(Long challengerId, Long chapterId) {
-    Chapter chapter = chapterRepository.findByChallengerId(challengerId)
-        .orElseThrow(() -> {
-          log.warn("챌린저 소속 챕터 조회 실패 - challengerId: {}", challengerId);
-          return new DomainException(DomainType.CHAPTER,
-              ErrorStatus.CHAPTER_FOR_CHALLENGER_NOT_FOUND);
-        });
-
     Challenger challenger = challengerRepository.findById(challengerId)
         .orElseThrow(() -> {
           log.warn("챌린저 조회 실패(PLAN 역할 확인) - challengerId: {}", challengerId);
           return new DomainException(DomainType.CHALLENGER,
               ErrorStatus.CHALLENGER_NOT_FOUND);
         });
+    ChapterTopology.ChapterNode chapter = findChapterOf(challenger);
 
-    return challenger.getPart() == ChallengerPart.PLAN && chapter.getId().equals(chapterId);
+    return challenger.getPart() == ChallengerPart.PLAN && chapter.id().equals(chapterId);
   }
 
   public List<Response> findAll() {
     log.info("전체 챕터 목록 조회");
-    return chapterRepository.findAll().stream()
+    return chapterTopologyCache.get().chapters().stream()
         .map(this::toResponseWithSchools)
         .toList();
   }
@@ -113,6 +108,7 @@ public class ChapterService {
         });
 
     chapter.updateInfo(request.name(), request.description());
+    chapterTopologyCache.invalidate();
     log.info("챕터 수정 완료 - id: {}", chapter.getId());
     return toResponse(chapter);
   }
@@ -125,6 +121,7 @@ public class ChapterService {
     }
     log.info("챕터 삭제 진행 - id: {}", id);
     chapterRepository.deleteById(id);
+    chapterTopologyCache.invalidate();
   }
 
   private ChapterDto.Response toResponse(Chapter chapter) {
@@ -139,26 +136,60 @@ public class ChapterService {
         .build();
   }
 
-  private ChapterDto.Response toResponseWithSchools(Chapter chapter) {
-    List<kr.kyeoungwoon.upms.domain.challenger.dto.SchoolDto.Response> schools =
-        chapter.getChapterSchools().stream()
-            .map(cs -> kr.kyeoungwoon.upms.domain.challenger.dto.SchoolDto.Response.builder()
-                .id(cs.getSchool().getId())
-                .name(cs.getSchool().getName())
-                .logoImageUrl(cs.getSchool().getLogoImageUrl())
-                .createdAt(cs.getSchool().getCreatedAt())
-                .updatedAt(cs.getSchool().getUpdatedAt())
-                .build())
-            .toList();
+  private Challenger findChallenger(Long challengerId) {
+    return challengerRepository.findById(challengerId)
+        .orElseThrow(() -> {
+          log.warn("챌린저 소속 챕터 조회 실패 - challengerId: {}", challengerId);
+          return new DomainException(DomainType.CHAPTER,
+              ErrorStatus.CHAPTER_FOR_CHALLENGER_NOT_FOUND);
+        });
+  }
+
+  /**
+   * 챌린저의 (학교, 기수) 로 소속 Chapter 조회
+   */
+  private ChapterTopology.ChapterNode findChapterOf(Challenger challenger) {
+    // School 프록시의 ID 는 외래 키 값이므로 학교를 조회하지 않음
+    return chapterTopologyCache.get()
+        .findChapter(challenger.getSchool().getId(), challenger.getGisu())
+        .orElseThrow(() -> {
+          log.warn("챌린저 소속 챕터 조회 실패 - challengerId: {}", challenger.getId());
+          return new DomainException(DomainType.CHAPTER,
+              ErrorStatus.CHAPTER_FOR_CHALLENGER_NOT_FOUND);
+        });
+  }
+
+  private ChapterDto.Response toResponse(ChapterTopology.ChapterNode chapter) {
+    return ChapterDto.Response.builder()
+        .id(chapter.id())
+        .name(chapter.name())
+        .description(chapter.description())
+        .gisu(chapter.gisu())
+        .schools(null)
+        .createdAt(chapter.createdAt())
+        .updatedAt(chapter.updatedAt())
+        .build();
+  }
+
+  private ChapterDto.Response toResponseWithSchools(ChapterTopology.ChapterNode chapter) {
+    List<SchoolDto.Response> schools = chapter.schools().stream()
+        .map(school -> SchoolDto.Response.builder()
+            .id(school.id())
+            .name(school.name())
+            .logoImageUrl(school.logoImageUrl())
+            .createdAt(school.createdAt())
+            .updatedAt(school.updatedAt())
+            .build())
+        .toList();
 
     return ChapterDto.Response.builder()
-        .id(chapter.getId())
-        .name(chapter.getName())
-        .description(chapter.getDescription())
-        .gisu(chapter.getGisu())
+        .id(chapter.id())
+        .name(chapter.name())
+        .description(chapter.description())
+        .gisu(chapter.gisu())
         .schools(schools)
-        .createdAt(chapter.getCreatedAt())
-        .updatedAt(chapter.getUpdatedAt())
+        .createdAt(chapter.createdAt())
+        .updatedAt(chapter.updatedAt())
         .build();
   }
 }
@@ -5,6 +5,8 @@ import java.util.stream.Collectors;
 import kr.kyeoungwoon.upms.domain.challenger.dto.SchoolDto;
 import kr.kyeoungwoon.upms.domain.challenger.entity.School;
 import kr.kyeoungwoon.upms.domain.challenger.repository.SchoolRepository;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopology;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopologyCache;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SchoolService {
 
   private final SchoolRepository schoolRepository;
+  private final ChapterTopologyCache chapterTopologyCache;
 
   @Transactional
   public SchoolDto.Response create(SchoolDto.CreateRequest request) {
@@ -30,6 +33,7 @@ public class SchoolService {
         .build();
 
     School saved = schoolRepository.save(school);
+    chapterTopologyCache.invalidate();
     log.info("학교 생성 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -45,6 +49,7 @@ public class SchoolService {
         .collect(Collectors.toList());
 
     List<School> savedSchools = schoolRepository.saveAll(schools);
+    chapterTopologyCache.invalidate();
     log.info("학교 일괄 생성 완료 - 저장 건수: {}", savedSchools.size());
 
     return savedSchools.stream()
@@ -54,7 +59,7 @@ public class SchoolService {
 
   public SchoolDto.Response findById(Long id) {
     log.info("학교 단건 조회 - id: {}", id);
-    School school = schoolRepository.findById(id)
+    ChapterTopology.SchoolNode school = chapterTopologyCache.get().findSchool(id)
         .orElseThrow(() -> new DomainException(DomainType.SCHOOL, ErrorStatus.SCHOOL_NOT_FOUND));
     return toResponse(school);
   }
@@ -62,7 +67,7 @@ public class SchoolService {
   // 학교 목록 조회, 전체 조회
   public List<SchoolDto.Response> findAll() {
     log.info("학교 전체 목록 조회");
-    return schoolRepository.findAll()
+    return chapterTopologyCache.get().schools()
         .stream()
         .map(this::toResponse)
         .collect(Collectors.toList());
@@ -75,6 +80,7 @@ public class SchoolService {
         .orElseThrow(() -> new DomainException(DomainType.SCHOOL, ErrorStatus.SCHOOL_NOT_FOUND));
 
     school.updateInfo(request.name(), request.logoImageUrl());
+    chapterTopologyCache.invalidate();
 
     return toResponse(school);
   }
@@ -86,6 +92,7 @@ public class SchoolService {
       throw new DomainException(DomainType.SCHOOL, ErrorStatus.SCHOOL_NOT_FOUND);
     }
     schoolRepository.deleteById(id);
+    chapterTopologyCache.invalidate();
   }
 
   private SchoolDto.Response toResponse(School school) {
@@ -97,4 +104,14 @@ public class SchoolService {
         .updatedAt(school.getUpdatedAt())
         .build();
   }
+
+  private SchoolDto.Response toResponse(ChapterTopology.SchoolNode school) {
+    return SchoolDto.Response.builder()
+        .id(school.id())
+        .name(school.name())
+        .logoImageUrl(school.logoImageUrl())
+        .createdAt(school.createdAt())
+        .updatedAt(school.updatedAt())
+        .build();
+  }
 }
@@ -0,0 +1,127 @@
+package kr.kyeoungwoon.upms.domain.challenger.topology;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 학교, Chapter, Chapter-학교 연결의 불변 스냅샷
+ * <p>
+ * 한 번 만들면 바뀌지 않으므로 여러 요청이 잠금 없이 공유합니다. 변경이 생기면 ChapterTopologyCache 가 새 스냅샷으로 통째로 교체합니다.
+ */
+public final class ChapterTopology {
+
+  private final long version;
+  private final Instant loadedAt;
+  private final Map<Long, SchoolNode> schools;
+  private final Map<Long, ChapterNode> chapters;
+  private final Map<Long, List<ChapterNode>> chaptersByGisu;
+  private final Map<SchoolGisu, ChapterNode> chapterBySchoolGisu;
+
+  /**
+   * @param schools 학교 (ID 순)
+   * @param chapters Chapter 와 소속 학교 ID 목록 (ID 순)
+   */
+  ChapterTopology(long version, Instant loadedAt, List<SchoolNode> schools,
+      List<ChapterSource> chapters) {
+    this.version = version;
+    this.loadedAt = loadedAt;
+
+    Map<Long, SchoolNode> schoolMap = new LinkedHashMap<>();
+    schools.forEach(school -> schoolMap.put(school.id(), school));
+    this.schools = Collections.unmodifiableMap(schoolMap);
+
+    Map<Long, ChapterNode> chapterMap = new LinkedHashMap<>();
+    Map<Long, List<ChapterNode>> byGisu = new HashMap<>();
+    Map<SchoolGisu, ChapterNode> bySchoolGisu = new HashMap<>();
+    for (ChapterSource source : chapters) {
+      List<SchoolNode> chapterSchools = source.schoolIds().stream()
+          .map(schoolMap::get)
+          .filter(Objects::nonNull)
+          .toList();
+      ChapterNode chapter = new ChapterNode(source.id(), source.name(), source.description(),
+          source.gisu(), source.createdAt(), source.updatedAt(), chapterSchools);
+      chapterMap.put(chapter.id(), chapter);
+      byGisu.computeIfAbsent(chapter.gisu(), gisu -> new ArrayList<>()).add(chapter);
+      // 한 (학교, 기수) 가 여러 Chapter 에 속해 있으면 ID 가 작은 Chapter 를 사용
+      chapterSchools.forEach(school ->
+          bySchoolGisu.putIfAbsent(new SchoolGisu(school.id(), chapter.gisu()), chapter));
+    }
+    byGisu.replaceAll((gisu, list) -> List.copyOf(list));
+    this.chapters = Collections.unmodifiableMap(chapterMap);
+    this.chaptersByGisu = Map.copyOf(byGisu);
+    this.chapterBySchoolGisu = Map.copyOf(bySchoolGisu);
+  }
+
+  long version() {
+    return version;
+  }
+
+  Instant loadedAt() {
+    return loadedAt;
+  }
+
+  /**
+   * 전체 학교 (ID 순)
+   */
+  public List<SchoolNode> schools() {
+    return List.copyOf(schools.values());
+  }
+
+  public Optional<SchoolNode> findSchool(Long schoolId) {
+    return Optional.ofNullable(schools.get(schoolId));
+  }
+
+  /**
+   * 전체 Chapter (ID 순)
+   */
+  public List<ChapterNode> chapters() {
+    return List.copyOf(chapters.values());
+  }
+
+  public Optional<ChapterNode> findChapter(Long chapterId) {
+    return Optional.ofNullable(chapters.get(chapterId));
+  }
+
+  /**
+   * 특정 기수의 Chapter (ID 순)
+   */
+  public List<ChapterNode> chaptersOf(Long gisu) {
+    return chaptersByGisu.getOrDefault(gisu, List.of());
+  }
+
+  /**
+   * 학교와 기수로 소속 Chapter 조회 (챌린저의 소속 Chapter)
+   */
+  public Optional<ChapterNode> findChapter(Long schoolId, Long gisu) {
+    return Optional.ofNullable(chapterBySchoolGisu.get(new SchoolGisu(schoolId, gisu)));
+  }
+
+  public record SchoolNode(Long id, String name, String logoImageUrl, Instant createdAt,
+                           Instant updatedAt) {
+
+  }
+
+  public record ChapterNode(Long id, String name, String description, Long gisu,
+                            Instant createdAt, Instant updatedAt, List<SchoolNode> schools) {
+
+  }
+
+  /**
+   * 스냅샷을 만들기 위해 적재한 Chapter 와 소속 학교 ID
+   */
+  record ChapterSource(Long id, String name, String description, Long gisu, Instant createdAt,
+                       Instant updatedAt, List<Long> schoolIds) {
+
+  }
+
+  private record SchoolGisu(Long schoolId, Long gisu) {
+
+  }
+}
@@ -0,0 +1,114 @@
+package kr.kyeoungwoon.upms.domain.challenger.topology;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.SchoolRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.projection.ChapterSchoolLinkRow;
+import kr.kyeoungwoon.upms.global.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Chapter/학교 구성(ChapterTopology) 캐시
+ * <p>
+ * 학교, Chapter, Chapter-학교 연결은 기수 시작 때 한 번 구성한 뒤 거의 바뀌지 않으므로 전체를 불변 스냅샷 하나로 들고 있습니다. 학교, Chapter,
+ * Chapter-학교 연결이 바뀌면 invalidate 로 버전을 올리고 다음 조회에서 쿼리 3번으로 새 스냅샷을 만들어 통째로 교체합니다. 무효화는 즉시 한 번,
+ * 트랜잭션 커밋 후 한 번 더 수행합니다. 다른 인스턴스의 변경은 알 수 없으므로 스냅샷은 최대 max-age 동안만 사용합니다.
+ */
+@Slf4j
+@Component
+public class ChapterTopologyCache {
+
+  private final SchoolRepository schoolRepository;
+  private final ChapterRepository chapterRepository;
+  private final Duration maxAge;
+
+  private final AtomicLong version = new AtomicLong();
+  private final AtomicReference<ChapterTopology> current = new AtomicReference<>();
+
+  public ChapterTopologyCache(
+      SchoolRepository schoolRepository,
+      ChapterRepository chapterRepository,
+      @Value("${upms.topology.max-age:5m}") Duration maxAge) {
+    this.schoolRepository = schoolRepository;
+    this.chapterRepository = chapterRepository;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * 현재 스냅샷 조회 (무효화되었거나 max-age 가 지났으면 다시 적재)
+   */
+  public ChapterTopology get() {
+    ChapterTopology cached = current.get();
+    if (cached != null && isFresh(cached)) {
+      return cached;
+    }
+
+    long loadingVersion = version.get();
+    ChapterTopology loaded = load(loadingVersion);
+    // 적재 중에 무효화되었으면 교체하지 않음 (이번 요청만 사용)
+    // 쓰기 트랜잭션 안에서 적재한 스냅샷은 커밋 전 변경이 섞여 있을 수 있어 공유하지 않음
+    if (version.get() == loadingVersion && !inWriteTransaction()) {
+      current.compareAndSet(cached, loaded);
+    }
+    return loaded;
+  }
+
+  /**
+   * 스냅샷 무효화 (학교, Chapter, Chapter-학교 연결 변경 시)
+   */
+  public void invalidate() {
+    clear();
+    AfterCommit.run(this::clear);
+  }
+
+  private void clear() {
+    version.incrementAndGet();
+    current.set(null);
+  }
+
+  private boolean isFresh(ChapterTopology topology) {
+    return topology.version() == version.get()
+        && topology.loadedAt().plus(maxAge).isAfter(Instant.now());
+  }
+
+  private boolean inWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private ChapterTopology load(long loadingVersion) {
+    List<ChapterTopology.SchoolNode> schools = schoolRepository.findAll(Sort.by("id")).stream()
+        .map(school -> new ChapterTopology.SchoolNode(school.getId(), school.getName(),
+            school.getLogoImageUrl(), school.getCreatedAt(), school.getUpdatedAt()))
+        .toList();
+
+    Map<Long, List<Long>> schoolIdsByChapter = new HashMap<>();
+    for (ChapterSchoolLinkRow row : chapterRepository.findAllSchoolLinks()) {
+      schoolIdsByChapter.computeIfAbsent(row.getChapterId(), id -> new ArrayList<>())
+          .add(row.getSchoolId());
+    }
+
+    List<ChapterTopology.ChapterSource> chapters = chapterRepository.findAll(Sort.by("id"))
+        .stream()
+        .map(chapter -> new ChapterTopology.ChapterSource(chapter.getId(), chapter.getName(),
+            chapter.getDescription(), chapter.getGisu(), chapter.getCreatedAt(),
+            chapter.getUpdatedAt(), schoolIdsByChapter.getOrDefault(chapter.getId(), List.of())))
+        .toList();
+
+    log.debug("Chapter 구성 스냅샷 적재 - 버전: {}, 학교: {}개, Chapter: {}개, 연결: {}개", loadingVersion,
+        schools.size(), chapters.size(),
+        schoolIdsByChapter.values().stream().mapToInt(List::size).sum());
+    return new ChapterTopology(loadingVersion, Instant.now(), schools, chapters);
+  }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import kr.kyeoungwoon.upms.domain.infra.aws.s3.enums.FileStatus;
@@ -27,7 +28,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class S3File {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "files_seq")
+  @SequenceGenerator(name = "files_seq", sequenceName = "files_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -7,6 +7,7 @@ import kr.kyeoungwoon.upms.domain.project.dto.ProjectToDto;
 import kr.kyeoungwoon.upms.domain.project.service.ProjectService;
 import kr.kyeoungwoon.upms.domain.project.service.ProjectToService;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
 import kr.kyeoungwoon.upms.security.UserPrincipal;
 import kr.kyeoungwoon.upms.security.annotation.ChapterLeadOnly;
 import lombok.RequiredArgsConstructor;
@@ -80,6 +81,19 @@ public class ProjectToController {
     return ApiResponse.onSuccess(projectToService.findAll(projectId));
   }
 
+  @Operation(
+      summary = "프로젝트 To 페이지 조회",
+      description = "전체 프로젝트 To를 커서 기반 페이지로 조회합니다")
+  @GetMapping("/page")
+  public ApiResponse<CursorPage<ProjectToDto.Response>> getProjectToPage(
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 커서 (첫 페이지는 생략, 이전 응답의 nextCursor)")
+      @RequestParam(required = false) String cursor,
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+      @RequestParam(required = false) Integer size) {
+    log.info("프로젝트 TO 페이지 조회 요청 - cursor: {}, size: {}", cursor, size);
+    return ApiResponse.onSuccess(projectToService.findPage(cursor, size));
+  }
+
   @ChapterLeadOnly
   @Operation(summary = "프로젝트 To 수정", description = "프로젝트 To 정보를 수정합니다")
   @PutMapping("/{id}")
@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
@@ -32,7 +33,9 @@ import lombok.NoArgsConstructor;
 public class Project extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+  @SequenceGenerator(name = "project_seq", sequenceName = "project_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
@@ -5,6 +5,7 @@ import java.util.Optional;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
 import kr.kyeoungwoon.upms.domain.project.entity.Project;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
+import kr.kyeoungwoon.upms.domain.project.repository.projection.ProjectMemberKeyRow;
 import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -24,15 +25,37 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
    */
   boolean existsByProjectAndChallenger(Project project, Challenger challenger);
 
-  boolean existsByChallengerId(Long challengerId);
-
   /**
    * 특정 프로젝트의 특정 파트 멤버 수 조회
    */
-  long countByProjectAndChallengerPart(Project project, ChallengerPart part);
+  long countByProjectIdAndChallengerPart(Long projectId, ChallengerPart part);
 
   List<ProjectMember> findAllByProjectAndChallengerPart(Project project, ChallengerPart part);
 
+  /**
+   * 특정 Chapter 프로젝트들의 (프로젝트, 챌린저) 멤버 키 조회
+   */
+  @Query("SELECT pm.project.id AS projectId, pm.challenger.id AS challengerId "
+      + "FROM ProjectMember pm "
+      + "WHERE pm.project.chapter.id = :chapterId")
+  List<ProjectMemberKeyRow> findKeysByChapterId(@Param("chapterId") Long chapterId);
+
+  /**
+   * 특정 프로젝트의 (프로젝트, 챌린저) 멤버 키 조회
+   */
+  @Query("SELECT pm.project.id AS projectId, pm.challenger.id AS challengerId "
+      + "FROM ProjectMember pm "
+      + "WHERE pm.project.id = :projectId")
+  List<ProjectMemberKeyRow> findKeysByProjectId(@Param("projectId") Long projectId);
+
+  /**
+   * 특정 프로젝트의 모든 멤버 조회 (챌린저 fetch join)
+   */
+  @Query("SELECT pm FROM ProjectMember pm "
+      + "JOIN FETCH pm.challenger "
+      + "WHERE pm.project.id = :projectId")
+  List<ProjectMember> findAllWithChallengerByProjectId(@Param("projectId") Long projectId);
+
   /**
    * 특정 Challenger가 속한 활성 프로젝트 멤버 조회
    */
@@ -40,4 +63,15 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
       + "JOIN FETCH pm.project "
       + "WHERE pm.challenger.id = :challengerId AND pm.active = true")
   Optional<ProjectMember> findFirstActiveByChallengerId(@Param("challengerId") Long challengerId);
+
+  /**
+   * 특정 Chapter 소속 챌린저들의 활성 프로젝트 멤버 일괄 조회
+   */
+  @Query("SELECT pm FROM ProjectMember pm "
+      + "JOIN FETCH pm.project "
+      + "WHERE pm.active = true "
+      + "AND pm.challenger.school.id IN ("
+      + "SELECT cs.school.id FROM ChapterSchool cs WHERE cs.chapter.id = :chapterId) "
+      + "ORDER BY pm.id")
+  List<ProjectMember> findAllActiveByChapterId(@Param("chapterId") Long chapterId);
 }
@@ -1,11 +1,17 @@
 package kr.kyeoungwoon.upms.domain.project.repository;
 
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import kr.kyeoungwoon.upms.domain.project.entity.Project;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectTo;
+import kr.kyeoungwoon.upms.domain.project.repository.projection.ProjectPartCapacityRow;
+import kr.kyeoungwoon.upms.domain.project.repository.projection.ProjectPartQuotaRow;
 import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +23,98 @@ public interface ProjectToRepository extends JpaRepository<ProjectTo, Long> {
   Optional<ProjectTo> findByProjectAndPart(Project project, ChallengerPart part);
 
   List<ProjectTo> findByProject(Project project);
+
+  /**
+   * 특정 프로젝트와 파트의 TO 를 행 잠금(SELECT ... FOR UPDATE)과 함께 조회
+   * <p>
+   * 잠금은 트랜잭션 종료 시 해제되므로 TO 자리 확보(인원 확인 + 멤버 추가) 구간에서만 사용합니다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT pt FROM ProjectTo pt "
+      + "WHERE pt.project.id = :projectId AND pt.part = :part")
+  Optional<ProjectTo> findForUpdateByProjectIdAndPart(@Param("projectId") Long projectId,
+      @Param("part") ChallengerPart part);
+
+  /**
+   * 프로젝트의 모든 파트 TO 를 행 잠금과 함께 조회 (교착 방지를 위해 ID 순으로 잠금)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT pt FROM ProjectTo pt "
+      + "WHERE pt.project.id = :projectId "
+      + "ORDER BY pt.id")
+  List<ProjectTo> findAllForUpdateByProjectId(@Param("projectId") Long projectId);
+
+  /**
+   * Chapter 의 모든 프로젝트 파트 TO 를 행 잠금과 함께 조회 (교착 방지를 위해 ID 순으로 잠금)
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT pt FROM ProjectTo pt "
+      + "WHERE pt.project.chapter.id = :chapterId "
+      + "ORDER BY pt.id")
+  List<ProjectTo> findAllForUpdateByChapterId(@Param("chapterId") Long chapterId);
+
+  /**
+   * Chapter 의 모든 프로젝트 파트별 TO 와 현재 멤버 수 조회
+   */
+  @Query("SELECT t.project.id AS projectId, t.part AS part, t.toCount AS toCount, "
+      + "(SELECT COUNT(pm) FROM ProjectMember pm "
+      + "WHERE pm.project = t.project AND pm.challenger.part = t.part) AS memberCount "
+      + "FROM ProjectTo t "
+      + "WHERE t.project.chapter.id = :chapterId "
+      + "ORDER BY t.project.id, t.part")
+  List<ProjectPartCapacityRow> findCapacityRowsByChapterId(@Param("chapterId") Long chapterId);
+
+  /**
+   * ID 목록으로 TO 조회 (Keyset 페이지네이션 2단계, 프로젝트 fetch join)
+   */
+  @Query("SELECT pt FROM ProjectTo pt "
+      + "JOIN FETCH pt.project "
+      + "WHERE pt.id IN :ids")
+  List<ProjectTo> findAllWithProjectByIdIn(@Param("ids") List<Long> ids);
+
+  /**
+   * 프로젝트 파트별 TO, 멤버 수, 해당 차수의 상태별 지원서 수 조회 절 (아래 두 조회에서 공유)
+   * <p>
+   * 지원서 수는 지원서 카운터(application_counter)에서 읽습니다. 기존 멤버 수는 이번 차수에 해당 프로젝트로 지원하지 않은 멤버 수입니다.
+   */
+  String QUOTA_ROW_SELECT = "SELECT t.project.id AS projectId, t.part AS part, t.toCount AS toCount, "
+      + "(SELECT COUNT(pm) FROM ProjectMember pm "
+      + "WHERE pm.project = t.project AND pm.challenger.part = t.part) AS memberCount, "
+      + "(SELECT COUNT(pm) FROM ProjectMember pm "
+      + "WHERE pm.project = t.project AND pm.challenger.part = t.part "
+      + "AND NOT EXISTS (SELECT 1 FROM ProjectApplication pa "
+      + "WHERE pa.applicant = pm.challenger AND pa.form.project = t.project "
+      + "AND pa.matchingRound.id = :matchingRoundId)) AS originalMemberCount, "
+      + "(SELECT COALESCE(SUM(c.applicationCount), 0) FROM ProjectApplicationCounter c "
+      + "WHERE c.projectId = t.project.id AND c.part = t.part "
+      + "AND c.matchingRoundId = :matchingRoundId "
+      + "AND c.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.PENDING) AS pendingCount, "
+      + "(SELECT COALESCE(SUM(c.applicationCount), 0) FROM ProjectApplicationCounter c "
+      + "WHERE c.projectId = t.project.id AND c.part = t.part "
+      + "AND c.matchingRoundId = :matchingRoundId "
+      + "AND c.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.CONFIRMED) AS confirmedCount, "
+      + "(SELECT COALESCE(SUM(c.applicationCount), 0) FROM ProjectApplicationCounter c "
+      + "WHERE c.projectId = t.project.id AND c.part = t.part "
+      + "AND c.matchingRoundId = :matchingRoundId "
+      + "AND c.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.REJECTED) AS rejectedCount "
+      + "FROM ProjectTo t ";
+
+  /**
+   * 매칭 차수가 속한 Chapter의 모든 프로젝트 파트별 TO, 멤버 수, 해당 차수의 상태별 지원서 수를 한 번에 조회
+   */
+  @Query(QUOTA_ROW_SELECT
+      + "WHERE t.project.chapter.id = ("
+      + "SELECT mr.chapter.id FROM ProjectMatchingRound mr WHERE mr.id = :matchingRoundId)")
+  List<ProjectPartQuotaRow> findQuotaRowsByMatchingRoundId(
+      @Param("matchingRoundId") Long matchingRoundId);
+
+  /**
+   * 프로젝트 파트 하나의 TO, 멤버 수, 해당 차수의 상태별 지원서 수 조회
+   */
+  @Query(QUOTA_ROW_SELECT
+      + "WHERE t.project.id = :projectId AND t.part = :part")
+  Optional<ProjectPartQuotaRow> findQuotaRow(
+      @Param("matchingRoundId") Long matchingRoundId,
+      @Param("projectId") Long projectId,
+      @Param("part") ChallengerPart part);
 }
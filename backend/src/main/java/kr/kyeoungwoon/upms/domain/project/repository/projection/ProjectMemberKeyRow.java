@@ -0,0 +1,11 @@
+package kr.kyeoungwoon.upms.domain.project.repository.projection;
+
+/**
+ * (프로젝트, 챌린저) 멤버 키 Projection
+ */
+public interface ProjectMemberKeyRow {
+
+  Long getProjectId();
+
+  Long getChallengerId();
+}
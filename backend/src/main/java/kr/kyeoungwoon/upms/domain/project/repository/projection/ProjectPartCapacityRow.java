@@ -0,0 +1,17 @@
+package kr.kyeoungwoon.upms.domain.project.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 프로젝트 파트별 TO / 현재 멤버 수 Projection
+ */
+public interface ProjectPartCapacityRow {
+
+  Long getProjectId();
+
+  ChallengerPart getPart();
+
+  Integer getToCount();
+
+  Long getMemberCount();
+}
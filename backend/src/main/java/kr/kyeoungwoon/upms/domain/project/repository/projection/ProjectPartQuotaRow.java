@@ -0,0 +1,25 @@
+package kr.kyeoungwoon.upms.domain.project.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 매칭 차수 기준 프로젝트 파트별 TO / 멤버 수 / 상태별 지원서 수 Projection
+ */
+public interface ProjectPartQuotaRow {
+
+  Long getProjectId();
+
+  ChallengerPart getPart();
+
+  Integer getToCount();
+
+  Long getMemberCount();
+
+  Long getOriginalMemberCount();
+
+  Long getPendingCount();
+
+  Long getConfirmedCount();
+
+  Long getRejectedCount();
+}
@@ -7,6 +7,7 @@ import kr.kyeoungwoon.upms.domain.project.entity.Project;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
@@ -26,6 +27,8 @@ public class ProjectMemberService {
   private final ProjectMemberRepository projectMemberRepository;
   private final ProjectRepository projectRepository;
   private final ChallengerRepository challengerRepository;
+  private final ProjectToService projectToService;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
 
   @Transactional
   public ProjectMemberDto.Response create(ProjectMemberDto.CreateRequest request) {
@@ -38,13 +41,11 @@ public class ProjectMemberService {
         .orElseThrow(() -> new DomainException(DomainType.CHALLENGER,
             ErrorStatus.CHALLENGER_NOT_FOUND));
 
-    ProjectMember projectMember = ProjectMember.builder()
-        .project(project)
-        .challenger(challenger)
-        .active(request.active())
-        .build();
-
-    ProjectMember saved = projectMemberRepository.save(projectMember);
+    // 합격 처리와 같은 TO 행 잠금을 거쳐 인원 확인 + 멤버 추가 (동시 추가로 TO 를 초과하지 않도록)
+    ProjectMember saved = projectToService.assignMember(project, challenger, request.active())
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT_TO,
+            ErrorStatus.APPLICATION_PROJECT_TO_FULL));
+    roundQuotaSnapshotCache.evictAll();
     log.info("프로젝트 멤버 추가 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -79,6 +80,7 @@ public class ProjectMemberService {
         .build();
 
     ProjectMember saved = projectMemberRepository.save(updated);
+    roundQuotaSnapshotCache.evictAll();
     log.info("프로젝트 멤버 수정 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -90,16 +92,7 @@ public class ProjectMemberService {
       throw new DomainException(DomainType.PROJECT_MEMBER, ErrorStatus.PROJECT_MEMBER_NOT_FOUND);
     }
     projectMemberRepository.deleteById(id);
-  }
-
-  public void throwIfAlreadyProjectMember(Long challengerId) {
-    log.info("챌린저 중복 멤버 여부 검증 - challengerId: {}", challengerId);
-    boolean exists = projectMemberRepository.existsByChallengerId(challengerId);
-    if (exists) {
-      log.warn("이미 프로젝트 멤버로 등록된 챌린저 - challengerId: {}", challengerId);
-      throw new DomainException(DomainType.PROJECT_MEMBER,
-          ErrorStatus.ALREADY_PROJECT_MEMBER);
-    }
+    roundQuotaSnapshotCache.evictAll();
   }
 
   private ProjectMemberDto.Response toResponse(ProjectMember projectMember) {
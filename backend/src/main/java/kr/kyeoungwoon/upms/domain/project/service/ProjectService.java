@@ -65,15 +65,6 @@ public class ProjectService {
     return toResponse(project);
   }
 
-  public void throwIfProjectNotBelongsToChapter(Long projectId, Long chapterId) {
-    log.info("프로젝트와 챕터 소속 검증 - projectId: {}, chapterId: {}", projectId, chapterId);
-    if (projectRepository.existsByIdAndChapterId(projectId, chapterId)) {
-      return;
-    }
-
-    throw new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_IN_CHAPTER);
-  }
-
   /**
    * 프로젝트 목록 조회
    *
@@ -1,19 +1,28 @@
 package kr.kyeoungwoon.upms.domain.project.service;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
 import kr.kyeoungwoon.upms.domain.project.dto.ProjectToDto;
 import kr.kyeoungwoon.upms.domain.project.entity.Project;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectTo;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
 import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -24,6 +33,9 @@ public class ProjectToService {
 
   private final ProjectToRepository projectToRepository;
   private final ProjectRepository projectRepository;
+  private final ProjectMemberRepository projectMemberRepository;
+  private final KeysetPaginator keysetPaginator;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
 
   @Transactional
   public ProjectToDto.Response create(ProjectToDto.CreateRequest request) {
@@ -39,6 +51,7 @@ public class ProjectToService {
         .build();
 
     ProjectTo saved = projectToRepository.save(projectTo);
+    roundQuotaSnapshotCache.evictAll();
     log.info("프로젝트 TO 생성 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -59,6 +72,7 @@ public class ProjectToService {
         .toList();
 
     List<ProjectTo> savedList = projectToRepository.saveAll(projectTos);
+    roundQuotaSnapshotCache.evictAll();
     log.info("프로젝트 TO 일괄 생성 완료 - 저장 개수: {}", savedList.size());
     return savedList.stream()
         .map(this::toResponse)
@@ -88,6 +102,17 @@ public class ProjectToService {
         .toList();
   }
 
+  /**
+   * 전체 프로젝트 TO 커서 기반 페이지 조회
+   */
+  public CursorPage<ProjectToDto.Response> findPage(String cursor, Integer size) {
+    log.info("프로젝트 TO 전체 페이지 조회 - cursor: {}, size: {}", cursor, size);
+    return keysetPaginator.paginate(ProjectTo.class, cursor, size,
+        projectToRepository::findAllWithProjectByIdIn,
+        ProjectTo::getId,
+        this::toResponse);
+  }
+
   @Transactional
   public ProjectToDto.Response update(Long id, ProjectToDto.UpdateRequest request) {
     log.info("프로젝트 TO 수정 요청 - id: {}, toCount: {}", id, request.toCount());
@@ -103,6 +128,7 @@ public class ProjectToService {
         .build();
 
     ProjectTo saved = projectToRepository.save(updated);
+    roundQuotaSnapshotCache.evictAll();
     log.info("프로젝트 TO 수정 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -114,33 +140,87 @@ public class ProjectToService {
       throw new DomainException(DomainType.PROJECT_TO, ErrorStatus.PROJECT_TO_NOT_FOUND);
     }
     projectToRepository.deleteById(id);
+    roundQuotaSnapshotCache.evictAll();
   }
 
-  public void throwIfProjectToFull(Long projectId, ChallengerPart challengerPart) {
-    log.info("프로젝트 TO 여유 검증 - projectId: {}, part: {}", projectId, challengerPart);
-    // id로 프로젝트를 가져옵니다.
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_FOUND));
+  /**
+   * TO 자리를 확보하고 멤버로 추가 (원자적)
+   * <p>
+   * 해당 파트의 TO 행을 잠근 상태에서 인원을 확인하고 멤버를 추가하므로, 동시에 여러 합격 처리가 들어와도 TO 를 초과하지 않습니다. 잠금은 호출자의 트랜잭션이
+   * 끝날 때 해제됩니다. 이미 멤버인지 여부는 호출자가 확인해야 합니다.
+   *
+   * @return TO 가 모두 찬 경우 false
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public boolean tryAssignMember(Project project, Challenger challenger) {
+    return assignMember(project, challenger, true).isPresent();
+  }
 
-    // 프로젝트의 TO를 가져옵니다.
-    List<ProjectTo> projectTos = projectToRepository.findByProject(project);
-    // 프로젝트의 멤버를 가져옵니다.
-    List<ProjectMember> projectMembers = project.getMembers();
-
-    // 프로젝트 TO 들에 대해서 for loop
-    // to와 member를 비교하면서 count
-    for (ProjectTo projectTo : projectTos) {
-      if (projectTo.getPart() == challengerPart) {
-        long currentCount = projectMembers.stream()
-            .filter(member -> member.getChallenger().getPart() == challengerPart)
-            .count();
-        if (currentCount >= projectTo.getToCount()) {
-          log.warn("프로젝트 TO 초과 - projectId: {}, part: {}, 현재인원: {}, 최대인원: {}", projectId,
-              challengerPart, currentCount, projectTo.getToCount());
-          throw new DomainException(DomainType.PROJECT_TO, ErrorStatus.APPLICATION_PROJECT_TO_FULL);
-        }
-      }
+  /**
+   * TO 자리를 확보하고 멤버로 추가 (원자적, 활성 여부 지정)
+   * <p>
+   * 합격 처리 외에 운영진이 직접 멤버를 추가하는 경우에도 같은 잠금을 거치도록 멤버 단건 추가는 모두 이 메서드를 사용합니다.
+   *
+   * @return 추가된 멤버, TO 가 모두 찬 경우 empty
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Optional<ProjectMember> assignMember(Project project, Challenger challenger,
+      boolean active) {
+    ChallengerPart part = challenger.getPart();
+    ProjectTo projectTo = projectToRepository.findForUpdateByProjectIdAndPart(project.getId(),
+            part)
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT,
+            ErrorStatus.PROJECT_TO_NOT_FOUND));
+
+    long currentMemberCount = projectMemberRepository.countByProjectIdAndChallengerPart(
+        project.getId(), part);
+    if (currentMemberCount >= projectTo.getToCount()) {
+      log.warn("프로젝트 TO 자리 확보 실패 - projectId: {}, part: {}, 현재 멤버: {}/{}",
+          project.getId(), part, currentMemberCount, projectTo.getToCount());
+      return Optional.empty();
     }
+
+    ProjectMember saved = projectMemberRepository.save(ProjectMember.builder()
+        .project(project)
+        .challenger(challenger)
+        .active(active)
+        .build());
+    log.info("프로젝트 TO 자리 확보 - projectId: {}, part: {}, 현재 멤버: {}/{}",
+        project.getId(), part, currentMemberCount + 1, projectTo.getToCount());
+    return Optional.of(saved);
+  }
+
+  /**
+   * 프로젝트의 모든 파트 TO 행을 잠그고 파트별 최대 TO 반환
+   * <p>
+   * 여러 명을 한 번에 합격 처리할 때 사용합니다. 잠금 이후에 조회한 멤버 수는 호출자의 트랜잭션이 끝날 때까지 다른 합격 처리로 바뀌지 않습니다.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Map<ChallengerPart, Integer> lockToCounts(Long projectId) {
+    Map<ChallengerPart, Integer> toCountByPart = new EnumMap<>(ChallengerPart.class);
+    projectToRepository.findAllForUpdateByProjectId(projectId)
+        .forEach(projectTo -> toCountByPart.put(projectTo.getPart(), projectTo.getToCount()));
+    return toCountByPart;
+  }
+
+  /**
+   * 프로젝트 파트 하나의 TO 행 잠금 (매칭 차수 자동 합/불 처리처럼 파트 단위로 멤버를 한 번에 추가할 때)
+   *
+   * @return TO 가 없으면 false
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public boolean lockPartTo(Long projectId, ChallengerPart part) {
+    return projectToRepository.findForUpdateByProjectIdAndPart(projectId, part).isPresent();
+  }
+
+  /**
+   * Chapter 의 모든 프로젝트 파트 TO 행 잠금 (미배정 챌린저를 여러 프로젝트에 한 번에 배정할 때)
+   *
+   * @return 잠근 TO 수
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public int lockChapterTos(Long chapterId) {
+    return projectToRepository.findAllForUpdateByChapterId(chapterId).size();
   }
 
   private ProjectToDto.Response toResponse(ProjectTo projectTo) {
@@ -0,0 +1,21 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.command;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import lombok.Builder;
+
+/**
+ * 한 프로젝트의 여러 지원서를 한 번에 합/불 결정
+ *
+ * @param requesterId 요청자 챌린저 ID
+ * @param admin       운영진 여부 (매칭 차수 기간/최소 선발 인원 검증 생략)
+ */
+@Builder
+public record DecideApplicationsCommand(
+    Long projectId,
+    List<ProjectApplicationDto.DecisionItem> decisions,
+    Long requesterId,
+    boolean admin
+) {
+
+}
@@ -0,0 +1,339 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.command;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.project.service.ProjectToService;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.PartQuota;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaPolicy;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaRequirement;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService.StatusMove;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 지원서 일괄 합/불 결정 처리
+ * <p>
+ * 지원서 단건 상태 수정과 같은 규칙을 적용하되, 검증에 필요한 값을 요청 단위로 한 번씩만 조회합니다.
+ * <ol>
+ *   <li>프로젝트 조회 1회, 지원서 일괄 조회 1회</li>
+ *   <li>합격 항목이 있으면 프로젝트 TO 행 잠금 1회</li>
+ *   <li>프로젝트 멤버 일괄 조회 1회 (기존 멤버 여부 + 파트별 인원)</li>
+ *   <li>최소 선발 인원은 불합격 항목의 (프로젝트, 파트, 차수) 단위로 현재 집계 값을 1회씩 조회하여 평가</li>
+ *   <li>멤버 INSERT/DELETE, 지원서 UPDATE 는 JDBC 배치, 카운터는 키별 합산 후 upsert</li>
+ * </ol>
+ * 규칙에 맞지 않는 항목은 반영하지 않고 항목별 결과로 사유를 돌려줍니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DecideApplicationsCommandHandler {
+
+  public static final int MAX_DECISIONS = 100;
+
+  private final ProjectRepository projectRepository;
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final ProjectMemberRepository projectMemberRepository;
+  private final ProjectToService projectToService;
+  private final ProjectApplicationCounterService projectApplicationCounterService;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
+  private final QuotaPolicy quotaPolicy;
+
+  @Transactional
+  public ProjectApplicationDto.BulkDecisionResponse handle(DecideApplicationsCommand command) {
+    List<ProjectApplicationDto.DecisionItem> decisions = command.decisions();
+    log.info("지원서 일괄 합/불 결정 요청 - projectId: {}, 건수: {}, 요청자: {}, 운영진: {}",
+        command.projectId(), decisions == null ? 0 : decisions.size(), command.requesterId(),
+        command.admin());
+    validateDecisions(decisions);
+
+    // 1. 프로젝트 및 권한 확인 (운영진 혹은 PO만 가능)
+    Project project = projectRepository.findById(command.projectId())
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_FOUND));
+    if (!command.admin() && !project.getProductOwner().getId().equals(command.requesterId())) {
+      throw new DomainException(DomainType.PROJECT_APPLICATION,
+          ErrorStatus.PA_STAT_CHANGE_NO_PERMISSION);
+    }
+
+    // 2. 지원서 일괄 조회
+    Map<Long, ProjectApplication> applicationsById = projectApplicationRepository
+        .findAllForDecisionByIdIn(decisions.stream()
+            .map(ProjectApplicationDto.DecisionItem::applicationId)
+            .toList())
+        .stream()
+        .collect(Collectors.toMap(ProjectApplication::getId, Function.identity()));
+
+    // 3. 합격 항목이 있으면 TO 행을 먼저 잠근 뒤 멤버를 조회 (동시 합격 처리로 TO 초과 방지)
+    boolean hasConfirm = decisions.stream()
+        .anyMatch(decision -> decision.status() == ApplicationStatus.CONFIRMED);
+    Map<ChallengerPart, Integer> toCountByPart = hasConfirm
+        ? projectToService.lockToCounts(project.getId())
+        : Map.of();
+
+    List<ProjectMember> members = projectMemberRepository.findAllWithChallengerByProjectId(
+        project.getId());
+    Map<Long, ProjectMember> memberByChallengerId = members.stream()
+        .collect(Collectors.toMap(member -> member.getChallenger().getId(), Function.identity(),
+            (first, second) -> first));
+    Map<ChallengerPart, Long> memberCountByPart = new EnumMap<>(ChallengerPart.class);
+    members.forEach(member -> memberCountByPart.merge(member.getChallenger().getPart(), 1L,
+        Long::sum));
+
+    // 4. 항목별 공통 검증
+    Map<Long, ErrorStatus> failures = new HashMap<>();
+    Instant now = Instant.now();
+    for (ProjectApplicationDto.DecisionItem decision : decisions) {
+      ErrorStatus failure = validateDecision(decision,
+          applicationsById.get(decision.applicationId()), project, command.admin(), now,
+          memberByChallengerId);
+      if (failure != null) {
+        failures.put(decision.applicationId(), failure);
+      }
+    }
+
+    // 5. 합격 항목은 요청 순서대로 남은 TO 를 배정
+    Map<QuotaKey, Long> confirmedByQuota = new HashMap<>();
+    Set<Long> confirmedChallengerIds = new HashSet<>();
+    for (ProjectApplicationDto.DecisionItem decision : decisions) {
+      if (decision.status() != ApplicationStatus.CONFIRMED
+          || failures.containsKey(decision.applicationId())) {
+        continue;
+      }
+      ProjectApplication application = applicationsById.get(decision.applicationId());
+      // 같은 챌린저의 다른 차수 지원서를 이번 요청에서 이미 합격 처리한 경우
+      if (confirmedChallengerIds.contains(application.getApplicant().getId())) {
+        failures.put(decision.applicationId(),
+            ErrorStatus.PROJECT_APPLICATION_STATUS_CHANGE_ALREADY_MEMBER);
+        continue;
+      }
+      ChallengerPart part = application.getApplicant().getPart();
+      Integer toCount = toCountByPart.get(part);
+      if (toCount == null) {
+        failures.put(decision.applicationId(), ErrorStatus.PROJECT_TO_NOT_FOUND);
+        continue;
+      }
+      long memberCount = memberCountByPart.getOrDefault(part, 0L);
+      if (memberCount >= toCount) {
+        failures.put(decision.applicationId(), ErrorStatus.PA_CANNOT_EXCEED_TO_COUNT);
+        continue;
+      }
+      memberCountByPart.put(part, memberCount + 1);
+      confirmedChallengerIds.add(application.getApplicant().getId());
+      if (application.getStatus() == ApplicationStatus.PENDING) {
+        confirmedByQuota.merge(QuotaKey.of(application), 1L, Long::sum);
+      }
+    }
+
+    // 6. 불합격 항목은 이번 요청의 합격까지 반영한 최소 선발 인원으로 검증 (운영진은 생략)
+    if (!command.admin()) {
+      Map<QuotaKey, Optional<ErrorStatus>> rejectFailureByQuota = new HashMap<>();
+      for (ProjectApplicationDto.DecisionItem decision : decisions) {
+        if (decision.status() != ApplicationStatus.REJECTED
+            || failures.containsKey(decision.applicationId())) {
+          continue;
+        }
+        QuotaKey key = QuotaKey.of(applicationsById.get(decision.applicationId()));
+        rejectFailureByQuota.computeIfAbsent(key,
+                quotaKey -> evaluateRejectable(quotaKey,
+                    confirmedByQuota.getOrDefault(quotaKey, 0L)))
+            .ifPresent(failure -> failures.put(decision.applicationId(), failure));
+      }
+    }
+
+    // 7. 반영 (멤버 추가/삭제, 지원서 상태, 카운터)
+    List<ProjectMember> newMembers = new ArrayList<>();
+    List<ProjectMember> removedMembers = new ArrayList<>();
+    List<StatusMove> moves = new ArrayList<>();
+    List<ProjectApplicationDto.DecisionResult> results = new ArrayList<>();
+
+    for (ProjectApplicationDto.DecisionItem decision : decisions) {
+      ErrorStatus failure = failures.get(decision.applicationId());
+      if (failure != null) {
+        results.add(toFailureResult(decision, failure));
+        continue;
+      }
+
+      ProjectApplication application = applicationsById.get(decision.applicationId());
+      Challenger applicant = application.getApplicant();
+      ApplicationStatus prevStatus = application.getStatus();
+
+      // 운영진이 합격자를 다른 상태로 바꾸는 경우 멤버에서 제외
+      if (prevStatus == ApplicationStatus.CONFIRMED) {
+        removedMembers.add(memberByChallengerId.get(applicant.getId()));
+      }
+      if (decision.status() == ApplicationStatus.CONFIRMED) {
+        newMembers.add(ProjectMember.builder()
+            .project(project)
+            .challenger(applicant)
+            .build());
+      }
+      moves.add(new StatusMove(application, prevStatus, decision.status()));
+      application.updateStatus(decision.status());
+      results.add(ProjectApplicationDto.DecisionResult.builder()
+          .applicationId(decision.applicationId())
+          .status(decision.status())
+          .success(true)
+          .build());
+    }
+
+    if (!removedMembers.isEmpty()) {
+      projectMemberRepository.deleteAll(removedMembers);
+    }
+    if (!newMembers.isEmpty()) {
+      projectMemberRepository.saveAll(newMembers);
+    }
+    projectApplicationCounterService.moveAll(moves);
+
+    log.info("지원서 일괄 합/불 결정 완료 - projectId: {}, 반영: {}건, 미반영: {}건", project.getId(),
+        moves.size(), failures.size());
+    return ProjectApplicationDto.BulkDecisionResponse.builder()
+        .projectId(project.getId())
+        .successCount(moves.size())
+        .failureCount(failures.size())
+        .results(results)
+        .build();
+  }
+
+  private void validateDecisions(List<ProjectApplicationDto.DecisionItem> decisions) {
+    if (decisions == null || decisions.isEmpty()) {
+      throw new DomainException(DomainType.PROJECT_APPLICATION, ErrorStatus.PA_DECISION_EMPTY);
+    }
+    if (decisions.size() > MAX_DECISIONS) {
+      throw new DomainException(DomainType.PROJECT_APPLICATION, ErrorStatus.PA_DECISION_TOO_MANY);
+    }
+    Set<Long> applicationIds = new HashSet<>();
+    for (ProjectApplicationDto.DecisionItem decision : decisions) {
+      if (decision.applicationId() == null || decision.status() == null) {
+        throw new DomainException(DomainType.PROJECT_APPLICATION, ErrorStatus._BAD_REQUEST);
+      }
+      if (!applicationIds.add(decision.applicationId())) {
+        throw new DomainException(DomainType.PROJECT_APPLICATION,
+            ErrorStatus.PA_DECISION_DUPLICATED);
+      }
+    }
+  }
+
+  /**
+   * 지원서 단건 상태 수정과 같은 순서로 검증 (최소 선발 인원과 TO 는 별도로 일괄 검증)
+   *
+   * @return 반영할 수 없는 경우 사유, 반영 가능하면 null
+   */
+  private ErrorStatus validateDecision(ProjectApplicationDto.DecisionItem decision,
+      ProjectApplication application, Project project, boolean admin, Instant now,
+      Map<Long, ProjectMember> memberByChallengerId) {
+    if (application == null) {
+      return ErrorStatus.PROJECT_APPLICATION_NOT_FOUND;
+    }
+    if (!application.getForm().getProject().getId().equals(project.getId())) {
+      return ErrorStatus.PA_DECISION_NOT_IN_PROJECT;
+    }
+
+    ApplicationStatus prevStatus = application.getStatus();
+    if (prevStatus == decision.status()) {
+      return ErrorStatus.PROJECT_APPLICATION_SAME_STATUS_UPDATE;
+    }
+
+    ProjectMatchingRound round = application.getMatchingRound();
+    if (!admin) {
+      // 매칭 차수 종료 전이거나 합/불 결정 기간이 지난 경우 운영진만 변경 가능
+      if (round.getEndAt().isAfter(now)) {
+        return ErrorStatus.PROJECT_APPLICATION_STATUS_CHANGE_MATCHING_ROUND_NOT_ENDED;
+      }
+      if (round.getDecisionDeadlineAt() != null && round.getDecisionDeadlineAt().isBefore(now)) {
+        return ErrorStatus.PA_STATUS_CHANGE_AFTER_DECISION_DEADLINE_NOT_ALLOWED;
+      }
+      // 이미 처리된 지원서는 운영진만 변경 가능
+      if (prevStatus != ApplicationStatus.PENDING) {
+        return ErrorStatus.PROJECT_APPLICATION_STATUS_NOT_PENDING;
+      }
+    }
+
+    Long applicantId = application.getApplicant().getId();
+    if (prevStatus == ApplicationStatus.CONFIRMED && !memberByChallengerId.containsKey(
+        applicantId)) {
+      return ErrorStatus.PA_STAT_CHANGE_WAS_NOT_MEMBER;
+    }
+    if (decision.status() == ApplicationStatus.CONFIRMED && memberByChallengerId.containsKey(
+        applicantId)) {
+      return ErrorStatus.PROJECT_APPLICATION_STATUS_CHANGE_ALREADY_MEMBER;
+    }
+    return null;
+  }
+
+  /**
+   * 이번 요청의 합격 인원을 반영했을 때 불합격 처리가 가능한지 평가
+   *
+   * @return 불가능한 경우 사유
+   */
+  private Optional<ErrorStatus> evaluateRejectable(QuotaKey key, long confirmedInRequest) {
+    // 합/불 반영 트랜잭션에서 판단하므로 캐시된 스냅샷이 아닌 현재 집계 값을 사용
+    PartQuota quota = roundQuotaSnapshotCache.loadPart(key.matchingRoundId(), key.projectId(),
+            key.part())
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT,
+            ErrorStatus.PROJECT_TO_NOT_FOUND))
+        .withAdditionalConfirmed(confirmedInRequest);
+    QuotaRequirement requirement = quotaPolicy.evaluate(quota);
+
+    log.info("일괄 거절 가능 검증 | 프로젝트: {}, 파트: {}, 매칭 차수: {}, 현재 차수 TO: {}, 총 지원자: {}, "
+            + "합격(이번 요청 포함): {}, 규칙: {}", key.projectId(), key.part(), key.matchingRoundId(),
+        requirement.roundTo(), requirement.applicantCount(), requirement.confirmedCount(),
+        requirement.rule());
+
+    if (requirement.isSatisfied()) {
+      return Optional.empty();
+    }
+    return Optional.of(switch (requirement.rule()) {
+      case HALF -> ErrorStatus.PA_REJECT_NEED_HALF_SELECTION;
+      case QUARTER -> ErrorStatus.PA_REJECT_NEED_QUARTER_SELECTION;
+      default -> ErrorStatus.PA_REJECT_NEED_MIN_SELECTION;
+    });
+  }
+
+  private ProjectApplicationDto.DecisionResult toFailureResult(
+      ProjectApplicationDto.DecisionItem decision, ErrorStatus failure) {
+    return ProjectApplicationDto.DecisionResult.builder()
+        .applicationId(decision.applicationId())
+        .status(decision.status())
+        .success(false)
+        .errorCode(failure.getCode())
+        .errorMessage(failure.getMessage())
+        .build();
+  }
+
+  /**
+   * 최소 선발 인원 평가 단위 (프로젝트, 파트, 매칭 차수)
+   */
+  private record QuotaKey(Long projectId, ChallengerPart part, Long matchingRoundId) {
+
+    static QuotaKey of(ProjectApplication application) {
+      return new QuotaKey(application.getForm().getProject().getId(),
+          application.getApplicant().getPart(), application.getMatchingRound().getId());
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.command;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
+import lombok.Builder;
+
+/**
+ * 챌린저 본인의 현재 매칭 차수 지원서 제출
+ *
+ * @param applicantId 지원자(요청자) 챌린저 ID
+ */
+@Builder
+public record SubmitApplicationCommand(
+    Long formId,
+    Long applicantId,
+    List<ProjectApplicationResponseDto.SingleQuestionResponse> responses
+) {
+
+}
@@ -0,0 +1,219 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.command;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplicationResponse;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationResponseRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.SubmitContextRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ApplicationFormQuestionRepository;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ProjectApplicationFormRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.dto.ProjectMatchingRoundDto;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundService;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 지원서 제출 처리
+ * <p>
+ * 매칭 차수 오픈 직후 가장 많이 호출되는 쓰기 경로이므로 실행되는 쿼리 수를 고정합니다.
+ * <ol>
+ *   <li>검증 컨텍스트 조회 1회 (지원자, 소속 Chapter, 폼, 프로젝트, 파트 TO, 멤버 수)</li>
+ *   <li>현재 매칭 차수는 메모리 타임라인에서 조회 (캐시 적재 시에만 쿼리)</li>
+ *   <li>질문 일괄 조회 1회</li>
+ *   <li>지원서 INSERT, 응답 INSERT, 지원서 카운터 upsert</li>
+ * </ol>
+ * 동일 차수 중복 지원은 별도로 조회하지 않고 유니크 제약 위반으로 판단하며,
+ * 그 외의 제약 위반은 그대로 전파합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmitApplicationCommandHandler {
+
+  private static final String DUPLICATE_APPLICATION_CONSTRAINT =
+      "block_duplicate_application_in_same_round";
+
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final ProjectApplicationResponseRepository projectApplicationResponseRepository;
+  private final ProjectApplicationFormRepository projectApplicationFormRepository;
+  private final ApplicationFormQuestionRepository applicationFormQuestionRepository;
+  private final ChallengerRepository challengerRepository;
+  private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
+  private final ProjectMatchingRoundService projectMatchingRoundService;
+  private final ProjectApplicationCounterService projectApplicationCounterService;
+
+  @Transactional
+  public ProjectApplicationDto.Response handle(SubmitApplicationCommand command) {
+    log.info("지원서 제출 처리 시작 - formId: {}, applicantId: {}", command.formId(),
+        command.applicantId());
+
+    // 1. 검증 컨텍스트 한 번에 조회
+    SubmitContextRow context = projectApplicationRepository
+        .findSubmitContext(command.applicantId(), command.formId())
+        .orElseThrow(() -> missingContextException(command));
+
+    if (context.getApplicantChapterId() == null) {
+      log.warn("챌린저 소속 챕터 조회 실패 - challengerId: {}", command.applicantId());
+      throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_FOR_CHALLENGER_NOT_FOUND);
+    }
+
+    // 2. 현재 매칭 라운드 조회 (없으면 예외)
+    ProjectMatchingRoundDto.Response currentRound = projectMatchingRoundService.findCurrent(
+        context.getApplicantChapterId());
+
+    // 3. 챌린저가 프로젝트가 속한 챕터의 멤버인지 확인
+    if (!context.getApplicantChapterId().equals(context.getProjectChapterId())) {
+      throw new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_IN_CHAPTER);
+    }
+
+    // 4. 지원하는 프로젝트에 TO가 없는 경우
+    if (context.getPartToCount() != null
+        && context.getPartMemberCount() >= context.getPartToCount()) {
+      log.warn("프로젝트 TO 초과 - projectId: {}, part: {}, 현재인원: {}, 최대인원: {}",
+          context.getProjectId(), context.getApplicantPart(), context.getPartMemberCount(),
+          context.getPartToCount());
+      throw new DomainException(DomainType.PROJECT_TO, ErrorStatus.APPLICATION_PROJECT_TO_FULL);
+    }
+
+    // 5. 이미 다른 프로젝트의 멤버인 경우
+    if (context.getApplicantMembershipCount() > 0) {
+      log.warn("이미 프로젝트 멤버로 등록된 챌린저 - challengerId: {}", command.applicantId());
+      throw new DomainException(DomainType.PROJECT_MEMBER, ErrorStatus.ALREADY_PROJECT_MEMBER);
+    }
+
+    // 6. 질문 일괄 조회 및 검증
+    Map<Long, ApplicationFormQuestion> questionsById = findQuestions(command);
+
+    // 7. 지원서 저장 (연관 엔티티는 프록시로만 참조)
+    ProjectApplication application = ProjectApplication.builder()
+        .form(projectApplicationFormRepository.getReferenceById(context.getFormId()))
+        .applicant(challengerRepository.getReferenceById(context.getApplicantId()))
+        .matchingRound(projectMatchingRoundRepository.getReferenceById(currentRound.id()))
+        .status(ApplicationStatus.PENDING)
+        .build();
+
+    ProjectApplication saved;
+    try {
+      saved = projectApplicationRepository.saveAndFlush(application);
+    } catch (DataIntegrityViolationException e) {
+      if (!isDuplicateApplication(e)) {
+        throw e;
+      }
+      throw new DomainException(DomainType.PROJECT_APPLICATION, ErrorStatus.PA_ALREADY_APPLIED);
+    }
+
+    // 8. 응답 저장
+    if (!questionsById.isEmpty()) {
+      List<ProjectApplicationResponse> responses = command.responses().stream()
+          .map(response -> ProjectApplicationResponse.builder()
+              .application(saved)
+              .question(questionsById.get(response.questionId()))
+              .values(response.values())
+              .build())
+          .toList();
+      projectApplicationResponseRepository.saveAll(responses);
+    }
+
+    // 9. 지원서 카운터 반영
+    projectApplicationCounterService.increment(context.getProjectId(),
+        context.getApplicantPart(), currentRound.id(), ApplicationStatus.PENDING);
+
+    log.info("지원서 제출 완료 - applicationId: {}, matchingRoundId: {}", saved.getId(),
+        currentRound.id());
+    return toResponse(saved, context, currentRound);
+  }
+
+  private Map<Long, ApplicationFormQuestion> findQuestions(SubmitApplicationCommand command) {
+    if (command.responses() == null || command.responses().isEmpty()) {
+      return Map.of();
+    }
+
+    Set<Long> questionIds = new HashSet<>();
+    for (ProjectApplicationResponseDto.SingleQuestionResponse response : command.responses()) {
+      // 같은 질문에 대한 응답이 두 번 이상 포함된 경우
+      if (!questionIds.add(response.questionId())) {
+        log.warn("중복된 질문 응답 - formId: {}, questionId: {}", command.formId(),
+            response.questionId());
+        throw new DomainException(DomainType.PROJECT_APPLICATION,
+            ErrorStatus.PA_DUPLICATED_QUESTION_RESPONSE);
+      }
+    }
+
+    Map<Long, ApplicationFormQuestion> questionsById = applicationFormQuestionRepository
+        .findByFormIdAndIdIn(command.formId(), questionIds).stream()
+        .collect(Collectors.toMap(ApplicationFormQuestion::getId, Function.identity()));
+
+    // 다른 폼의 질문이거나 존재하지 않는 질문이 포함된 경우
+    if (questionsById.size() != questionIds.size()) {
+      throw new DomainException(DomainType.PROJECT_APPLICATION_FORM,
+          ErrorStatus.APPLICATION_FORM_QUESTION_NOT_FOUND);
+    }
+    return questionsById;
+  }
+
+  /**
+   * 동일 차수 중복 지원 유니크 제약(block_duplicate_application_in_same_round) 위반 여부
+   */
+  private boolean isDuplicateApplication(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation) {
+        return DUPLICATE_APPLICATION_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 컨텍스트가 비어 있는 경우 (지원자 또는 폼 없음) 원인 구분
+   */
+  private DomainException missingContextException(SubmitApplicationCommand command) {
+    if (!challengerRepository.existsById(command.applicantId())) {
+      log.warn("챌린저 소속 챕터 조회 실패 - challengerId: {}", command.applicantId());
+      return new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_FOR_CHALLENGER_NOT_FOUND);
+    }
+    return new DomainException(DomainType.PROJECT_APPLICATION_FORM,
+        ErrorStatus.PROJECT_APPLICATION_FORM_NOT_FOUND);
+  }
+
+  private ProjectApplicationDto.Response toResponse(ProjectApplication application,
+      SubmitContextRow context, ProjectMatchingRoundDto.Response round) {
+    return ProjectApplicationDto.Response.builder()
+        .id(application.getId())
+        .formId(context.getFormId())
+        .formTitle(context.getFormTitle())
+        .projectId(context.getProjectId())
+        .projectName(context.getProjectName())
+        .applicantId(context.getApplicantId())
+        .applicantName(context.getApplicantName())
+        .applicantNickname(context.getApplicantNickname())
+        .applicantPart(context.getApplicantPart())
+        .applicantSchoolId(context.getApplicantSchoolId())
+        .applicantSchoolName(context.getApplicantSchoolName())
+        .matchingRoundId(round.id())
+        .matchingRoundName(round.name())
+        .status(application.getStatus())
+        .createdAt(application.getCreatedAt())
+        .updatedAt(application.getUpdatedAt())
+        .build();
+  }
+}
@@ -4,26 +4,35 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.Instant;
 import java.util.List;
-import kr.kyeoungwoon.upms.domain.challenger.service.ChallengerService;
 import kr.kyeoungwoon.upms.domain.challenger.service.ChapterAdminService;
-import kr.kyeoungwoon.upms.domain.challenger.service.ChapterService;
-import kr.kyeoungwoon.upms.domain.project.service.ProjectMemberService;
 import kr.kyeoungwoon.upms.domain.project.service.ProjectService;
-import kr.kyeoungwoon.upms.domain.project.service.ProjectToService;
+import kr.kyeoungwoon.upms.domain.projectApplication.command.DecideApplicationsCommand;
+import kr.kyeoungwoon.upms.domain.projectApplication.command.DecideApplicationsCommandHandler;
+import kr.kyeoungwoon.upms.domain.projectApplication.command.SubmitApplicationCommand;
+import kr.kyeoungwoon.upms.domain.projectApplication.command.SubmitApplicationCommandHandler;
 import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ApplicationExportService;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ChapterApplicationSummaryService;
 import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationService;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.service.ProjectApplicationFormService;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundService;
+import kr.kyeoungwoon.upms.global.admission.SubmissionAdmissionLimiter;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
-import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
-import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.global.enums.ExportFormat;
+import kr.kyeoungwoon.upms.global.idempotency.IdempotencyKey;
+import kr.kyeoungwoon.upms.global.idempotency.IdempotencyStore;
 import kr.kyeoungwoon.upms.security.UserPrincipal;
 import kr.kyeoungwoon.upms.security.annotation.AdminOnly;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -31,9 +40,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "프로젝트 지원", description = "프로젝트 지원서 API")
 @RestController
@@ -43,50 +54,42 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectApplicationController {
 
   private final ProjectApplicationService projectApplicationService;
-  private final ChapterService chapterService;
+  private final ChapterApplicationSummaryService chapterApplicationSummaryService;
+  private final ApplicationExportService applicationExportService;
+  private final SubmitApplicationCommandHandler submitApplicationCommandHandler;
+  private final DecideApplicationsCommandHandler decideApplicationsCommandHandler;
+  private final SubmissionAdmissionLimiter submissionAdmissionLimiter;
+  private final IdempotencyStore idempotencyStore;
   private final ProjectMatchingRoundService projectMatchingRoundService;
   private final ProjectService projectService;
   private final ProjectApplicationFormService projectApplicationFormService;
   private final ChapterAdminService chapterAdminService;
-  private final ChallengerService challengerService;
-  private final ProjectToService projectToService;
-  private final ProjectMemberService projectMemberService;
 
   @Operation(summary = "지원서 제출", description = "프로젝트에 지원서를 제출합니다")
   @PostMapping
   public ApiResponse<ProjectApplicationDto.Response> createApplication(
       @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @io.swagger.v3.oas.annotations.Parameter(description = "재시도 시 같은 결과를 받기 위한 멱등 키")
+      @RequestHeader(value = IdempotencyKey.HEADER, required = false) String idempotencyKey,
       @RequestBody ProjectApplicationDto.SubmitRequest request) {
 
     log.info("지원서 제출 요청 - 폼 ID: {}, 신청자 챌린저 ID: {}", request.formId(),
         userPrincipal.challengerId());
-    Long challengerChapterId = chapterService.findByChallengerId(userPrincipal.challengerId()).id();
 
-    // 현재 매칭 라운드 조회 : 여기서도 없으면 터짐!
-    Long currentMatchingRoundId = projectMatchingRoundService.findCurrent(
-        challengerChapterId).id();
-
-    Long applicationProjectId = projectApplicationFormService.findById(request.formId())
-        .projectId();
-
-    ChallengerPart applicantPart = challengerService.findById(userPrincipal.challengerId()).part();
-
-    // 챌린저가 프로젝트가 속한 챕터의 멤버인지 확인
-    projectService.throwIfProjectNotBelongsToChapter(applicationProjectId, challengerChapterId);
-    // 지원하는 프로젝트에 TO가 없는 경우
-    projectToService.throwIfProjectToFull(applicationProjectId, applicantPart);
-    // 이미 다른 프로젝트의 멤버인 경우
-    projectMemberService.throwIfAlreadyProjectMember(userPrincipal.challengerId());
-
-    return ApiResponse.onSuccess(
-        projectApplicationService.create(ProjectApplicationDto.CreateRequest.builder()
-            .formId(request.formId())
-            .applicantId(userPrincipal.challengerId())
-            .matchingRoundId(currentMatchingRoundId)
-            .status(ApplicationStatus.PENDING)
-            .responses(request.responses())
-            .build()
-        ));
+    // 소속 챕터, 현재 매칭 라운드, 프로젝트 소속, TO, 기존 멤버 여부 검증과 저장을 한 번에 처리
+    // 라운드 시작 직후 몰리는 요청은 입장 제어를 거쳐 커넥션 풀 크기 이내로만 동시에 처리
+    SubmitApplicationCommand command = SubmitApplicationCommand.builder()
+        .formId(request.formId())
+        .applicantId(userPrincipal.challengerId())
+        .responses(request.responses())
+        .build();
+    // 같은 Idempotency-Key 로 재시도하면 검증 없이 처음 결과를 반환
+    // 키 선점/대기도 DB 커넥션을 사용하므로 입장 제어 안에서 처리
+    return ApiResponse.onSuccess(submissionAdmissionLimiter.execute(
+        () -> idempotencyStore.execute(idempotencyKey,
+            "POST /v1/application:" + userPrincipal.challengerId(), request,
+            ProjectApplicationDto.Response.class,
+            () -> submitApplicationCommandHandler.handle(command))));
   }
 
   @Operation(summary = "지원서 조회", description = "ID로 지원서를 조회합니다")
@@ -100,7 +103,8 @@ public class ProjectApplicationController {
   @Operation(
       summary = "지원서 목록 조회",
       description = "지원서 목록을 조회합니다. 다음 조건에 따라 다르게 동작합니다:\n\n"
-          + "1. 파라미터 없음: 전체 지원서 목록 조회\n"
+          + "1. 파라미터 없음: 지원서 목록 조회 (ID 순 최대 " + KeysetPaginator.MAX_PAGE_SIZE
+          + "건, 전체는 페이지 조회(/page) 사용)\n"
           + "2. challengerId 제공: 해당 챌린저가 제출한 지원서를 응답과 함께 조회\n"
           + "3. projectId 제공: 해당 프로젝트의 지원서를 응답과 함께 조회\n"
           + "4. chapterId 제공: 해당 Chapter의 모든 프로젝트 지원서를 응답과 함께 조회\n"
@@ -141,10 +145,23 @@ public class ProjectApplicationController {
       return ApiResponse.onSuccess(projectApplicationService.findByChapterId(chapterId));
     }
 
-    // 4. 전체 목록 조회
+    // 4. 조건이 없으면 최대 건수까지만 조회 (전체는 /page)
     return ApiResponse.onSuccess(projectApplicationService.findAll());
   }
 
+  @Operation(
+      summary = "지원서 페이지 조회",
+      description = "전체 지원서를 커서 기반 페이지로 조회합니다")
+  @GetMapping("/page")
+  public ApiResponse<CursorPage<ProjectApplicationDto.Response>> getApplicationPage(
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 커서 (첫 페이지는 생략, 이전 응답의 nextCursor)")
+      @RequestParam(required = false) String cursor,
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+      @RequestParam(required = false) Integer size) {
+    log.info("지원서 페이지 조회 요청 - cursor: {}, size: {}", cursor, size);
+    return ApiResponse.onSuccess(projectApplicationService.findPage(cursor, size));
+  }
+
   @GetMapping("me")
   public ApiResponse<List<ProjectApplicationDto.DetailResponse>> getApplications(
       @AuthenticationPrincipal UserPrincipal userPrincipal) {
@@ -184,7 +201,41 @@ public class ProjectApplicationController {
       @PathVariable Long chapterId) {
     log.info("챕터 지원 현황 요약 조회 요청 - 챕터 ID: {}", chapterId);
     return ApiResponse.onSuccess(
-        projectApplicationService.findChapterApplicationSummary(chapterId));
+        chapterApplicationSummaryService.findChapterApplicationSummary(chapterId));
+  }
+
+  @Operation(
+      summary = "지원서 내보내기 (스트리밍)",
+      description = "Chapter 또는 프로젝트의 지원서를 응답과 함께 NDJSON / CSV 형식으로 스트리밍합니다. "
+          + "전체를 메모리에 올리지 않고 지원서 단위로 바로 출력하므로 대용량 Chapter도 내보낼 수 있습니다. "
+          + "CSV의 여러 값 응답은 JSON 배열로 출력합니다.\n\n"
+          + "※ 우선순위: projectId > chapterId"
+  )
+  @AdminOnly
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportApplications(
+      @io.swagger.v3.oas.annotations.Parameter(description = "출력 형식", example = "NDJSON")
+      @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+      @io.swagger.v3.oas.annotations.Parameter(description = "챕터 ID (optional)", example = "1")
+      @RequestParam(required = false) Long chapterId,
+      @io.swagger.v3.oas.annotations.Parameter(description = "프로젝트 ID (optional)", example = "1")
+      @RequestParam(required = false) Long projectId
+  ) {
+    log.info("지원서 내보내기 요청 - format: {}, chapterId: {}, projectId: {}", format, chapterId,
+        projectId);
+    // 스트리밍 시작 후에는 에러 응답을 내려줄 수 없으므로 미리 검증
+    applicationExportService.validateTarget(chapterId, projectId);
+
+    String fileName = "applications-" + (projectId != null ? "project-" + projectId
+        : "chapter-" + chapterId) + "." + format.getExtension();
+
+    StreamingResponseBody body = outputStream ->
+        applicationExportService.export(format, chapterId, projectId, outputStream);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+        .body(body);
   }
 
   @Operation(summary = "지원서 상태 수정", description = "지원서 상태를 수정합니다")
@@ -192,10 +243,39 @@ public class ProjectApplicationController {
   public ApiResponse<ProjectApplicationDto.Response> updateApplication(
       @AuthenticationPrincipal UserPrincipal userPrincipal,
       @PathVariable Long id,
+      @io.swagger.v3.oas.annotations.Parameter(description = "재시도 시 같은 결과를 받기 위한 멱등 키")
+      @RequestHeader(value = IdempotencyKey.HEADER, required = false) String idempotencyKey,
       @RequestBody ProjectApplicationDto.UpdateRequest request) {
     log.info("지원서 상태 수정 요청 - 지원서 ID: {}, 요청자 챌린저 ID: {}", id,
         userPrincipal.challengerId());
-    return ApiResponse.onSuccess(projectApplicationService.update(id, request, userPrincipal));
+    return ApiResponse.onSuccess(idempotencyStore.execute(idempotencyKey,
+        "PUT /v1/application/" + id + ":" + userPrincipal.challengerId(), request,
+        ProjectApplicationDto.Response.class,
+        () -> projectApplicationService.update(id, request, userPrincipal)));
+  }
+
+  @Operation(summary = "지원서 일괄 합/불 결정",
+      description = "한 프로젝트의 여러 지원서 상태를 한 번에 변경합니다. "
+          + "규칙에 맞지 않는 항목은 반영되지 않고 항목별 결과로 사유가 반환됩니다. (최대 "
+          + DecideApplicationsCommandHandler.MAX_DECISIONS + "건)")
+  @PostMapping("/decisions")
+  public ApiResponse<ProjectApplicationDto.BulkDecisionResponse> decideApplications(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @io.swagger.v3.oas.annotations.Parameter(description = "재시도 시 같은 결과를 받기 위한 멱등 키")
+      @RequestHeader(value = IdempotencyKey.HEADER, required = false) String idempotencyKey,
+      @RequestBody ProjectApplicationDto.BulkDecisionRequest request) {
+    log.info("지원서 일괄 합/불 결정 요청 - 프로젝트 ID: {}, 요청자 챌린저 ID: {}", request.projectId(),
+        userPrincipal.challengerId());
+    DecideApplicationsCommand command = DecideApplicationsCommand.builder()
+        .projectId(request.projectId())
+        .decisions(request.decisions())
+        .requesterId(userPrincipal.challengerId())
+        .admin(!userPrincipal.roles().isEmpty())
+        .build();
+    return ApiResponse.onSuccess(idempotencyStore.execute(idempotencyKey,
+        "POST /v1/application/decisions:" + userPrincipal.challengerId(), request,
+        ProjectApplicationDto.BulkDecisionResponse.class,
+        () -> decideApplicationsCommandHandler.handle(command)));
   }
 
   @Operation(summary = "지원서 삭제", description = "지원서를 삭제합니다")
@@ -6,6 +6,7 @@ import java.util.List;
 import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
 import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationResponseService;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -63,6 +64,19 @@ public class ProjectApplicationResponseController {
     return ApiResponse.onSuccess(projectApplicationResponseService.findAll(applicationId));
   }
 
+  @Operation(
+      summary = "지원서 응답 페이지 조회",
+      description = "전체 지원서 응답을 커서 기반 페이지로 조회합니다")
+  @GetMapping("/page")
+  public ApiResponse<CursorPage<ProjectApplicationResponseDto.Response>> getApplicationResponsePage(
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 커서 (첫 페이지는 생략, 이전 응답의 nextCursor)")
+      @RequestParam(required = false) String cursor,
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+      @RequestParam(required = false) Integer size) {
+    log.info("지원서 응답 페이지 조회 요청 - cursor: {}, size: {}", cursor, size);
+    return ApiResponse.onSuccess(projectApplicationResponseService.findPage(cursor, size));
+  }
+
 //  @Operation(summary = "지원서 응답 수정", description = "지원서 응답 정보를 수정합니다")
 //  @PutMapping("/{id}")
 //  public ApiResponse<ProjectApplicationResponseDto.Response> updateApplicationResponse(
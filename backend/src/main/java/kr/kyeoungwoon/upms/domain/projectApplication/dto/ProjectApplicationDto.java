@@ -21,31 +21,68 @@ public class ProjectApplicationDto {
   }
 
   @Builder
-  @Schema(name = "ProjectApplicationCreateRequest", description = "프로젝트 지원서 제출 요청")
-  public record CreateRequest(
-      @Schema(description = "지원서 폼 ID", example = "1")
-      Long formId,
-      @Schema(description = "지원자 ID", example = "1")
-      Long applicantId,
-      @Schema(description = "매칭 라운드 ID", example = "1")
-      Long matchingRoundId,
-      @Schema(description = "지원 상태", example = "PENDING")
-      ApplicationStatus status,
-      @Schema(description = "지원서 응답 리스트")
-      List<ProjectApplicationResponseDto.SingleQuestionResponse> responses
+  @Schema(name = "ProjectApplicationUpdateRequest", description = "프로젝트 지원서 상태 수정 요청")
+  public record UpdateRequest(
+      @Schema(description = "지원 상태", example = "CONFIRMED")
+      ApplicationStatus status
   ) {
 
   }
 
   @Builder
-  @Schema(name = "ProjectApplicationUpdateRequest", description = "프로젝트 지원서 상태 수정 요청")
-  public record UpdateRequest(
-      @Schema(description = "지원 상태", example = "CONFIRMED")
+  @Schema(name = "ProjectApplicationDecisionItem", description = "지원서 합/불 결정 항목")
+  public record DecisionItem(
+      @Schema(description = "지원서 ID", example = "1")
+      Long applicationId,
+      @Schema(description = "변경할 상태", example = "CONFIRMED")
       ApplicationStatus status
   ) {
 
   }
 
+  @Builder
+  @Schema(name = "ProjectApplicationBulkDecisionRequest", description = "프로젝트 지원서 일괄 합/불 결정 요청")
+  public record BulkDecisionRequest(
+      @Schema(description = "프로젝트 ID", example = "1")
+      Long projectId,
+      @Schema(description = "결정 목록")
+      List<DecisionItem> decisions
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "ProjectApplicationDecisionResult", description = "지원서 합/불 결정 항목별 결과")
+  public record DecisionResult(
+      @Schema(description = "지원서 ID", example = "1")
+      Long applicationId,
+      @Schema(description = "요청한 상태", example = "CONFIRMED")
+      ApplicationStatus status,
+      @Schema(description = "반영 여부", example = "true")
+      boolean success,
+      @Schema(description = "실패 시 에러 코드", example = "PROJECT-APPLICATION-0015")
+      String errorCode,
+      @Schema(description = "실패 시 에러 메시지", example = "프로젝트의 TO 여셕이 존재하지 않습니다.")
+      String errorMessage
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "ProjectApplicationBulkDecisionResponse", description = "프로젝트 지원서 일괄 합/불 결정 응답")
+  public record BulkDecisionResponse(
+      @Schema(description = "프로젝트 ID", example = "1")
+      Long projectId,
+      @Schema(description = "반영된 건수", example = "18")
+      int successCount,
+      @Schema(description = "반영되지 않은 건수", example = "2")
+      int failureCount,
+      @Schema(description = "요청 순서대로의 항목별 결과")
+      List<DecisionResult> results
+  ) {
+
+  }
+
   @Builder
   @Schema(name = "ProjectApplicationResponse", description = "프로젝트 지원서 정보 응답")
   public record Response(
@@ -208,4 +245,27 @@ public class ProjectApplicationDto {
   ) {
 
   }
+
+  @Builder
+  @Schema(name = "PartMinSelectionResponse", description = "매칭 차수 프로젝트 파트별 최소 선발 인원 응답")
+  public record PartMinSelectionResponse(
+      @Schema(description = "프로젝트 ID", example = "1")
+      Long projectId,
+      @Schema(description = "파트", example = "WEB")
+      ChallengerPart part,
+      @Schema(description = "파트 최대 TO", example = "4")
+      Integer toCount,
+      @Schema(description = "현재 매칭 차수 TO", example = "3")
+      Long roundTo,
+      @Schema(description = "현재 매칭 차수 지원 인원", example = "5")
+      Long applicantCount,
+      @Schema(description = "현재 매칭 차수 합격 인원", example = "1")
+      Long confirmedCount,
+      @Schema(description = "추가로 선발해야 하는 최소 인원", example = "1")
+      Long minSelectionCount,
+      @Schema(description = "사유", example = "최소 선발 인원에 대한 설명")
+      String reason
+  ) {
+
+  }
 }
@@ -0,0 +1,59 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.kyeoungwoon.upms.global.entity.BaseEntity;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * (프로젝트, 파트, 매칭 라운드, 상태) 별 지원서 수 카운터
+ * <p>
+ * project_application 에서 파생되는 집계 테이블이므로 연관관계 없이 ID 만 보관합니다. 값은 지원서 생성/상태 변경/삭제와 같은 트랜잭션에서 원자적으로
+ * 갱신되며, 어긋난 값은 ProjectApplicationCounterService#reconcile 에서 보정합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "application_counter", uniqueConstraints = {
+    @UniqueConstraint(name = "uniq_application_counter_key", columnNames = {
+        "project_id", "part", "matching_round_id", "status"
+    })
+})
+public class ProjectApplicationCounter extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "project_id", nullable = false)
+  private Long projectId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ChallengerPart part;
+
+  @Column(name = "matching_round_id", nullable = false)
+  private Long matchingRoundId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ApplicationStatus status;
+
+  @Column(name = "application_count", nullable = false)
+  private Long applicationCount;
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
 import kr.kyeoungwoon.upms.global.entity.BaseEntity;
@@ -28,7 +29,9 @@ import org.hibernate.type.SqlTypes;
 public class ProjectApplicationResponse extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_response_seq")
+  @SequenceGenerator(name = "application_response_seq", sequenceName = "application_response_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,47 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.policy;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 매칭 차수 기준 프로젝트 한 파트의 집계 값
+ *
+ * @param toCount             파트 최대 TO
+ * @param memberCount         현재 파트 멤버 수 (이번 차수 합격자 포함)
+ * @param originalMemberCount 이번 차수에 해당 프로젝트로 지원하지 않은 기존 멤버 수
+ * @param pendingCount        이번 차수 대기 지원서 수
+ * @param confirmedCount      이번 차수 합격 지원서 수
+ * @param rejectedCount       이번 차수 불합격 지원서 수
+ */
+public record PartQuota(
+    Long projectId,
+    ChallengerPart part,
+    int toCount,
+    long memberCount,
+    long originalMemberCount,
+    long pendingCount,
+    long confirmedCount,
+    long rejectedCount
+) {
+
+  /**
+   * 이번 차수 전체 지원자 수
+   */
+  public long appliedCount() {
+    return pendingCount + confirmedCount + rejectedCount;
+  }
+
+  /**
+   * 이번 차수에 할당된 TO (최대 TO - 기존 멤버 수)
+   */
+  public long roundTo() {
+    return Math.max(0L, toCount - originalMemberCount());
+  }
+
+  /**
+   * 대기 지원서 일부를 추가로 합격 처리한 이후의 집계 값
+   */
+  public PartQuota withAdditionalConfirmed(long count) {
+    return new PartQuota(projectId, part, toCount, memberCount + count, originalMemberCount,
+        pendingCount - count, confirmedCount + count, rejectedCount);
+  }
+}
@@ -0,0 +1,64 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.policy;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매칭 차수 최소 선발 인원 규칙
+ * <p>
+ * 최소 선발 인원 조회, 거절 가능 검증, 자동 합/불 처리가 모두 이 규칙을 사용합니다. DB 조회 없이 RoundQuotaSnapshot 의 집계 값만으로
+ * 평가합니다.
+ */
+@Component
+public class QuotaPolicy {
+
+  public QuotaRequirement evaluate(PartQuota quota) {
+    long roundTo = quota.roundTo();
+    long applicantCount = quota.appliedCount();
+
+    QuotaRule rule;
+    long requiredCount;
+
+    // === 디자이너 매칭 로직 ===
+    if (quota.part() == ChallengerPart.DESIGN) {
+      // 최대 TO가 1명이거나 지원자가 1명 이하인 경우 최소 선발 인원 없음
+      if (quota.toCount() <= 1 || applicantCount <= 1) {
+        rule = QuotaRule.DESIGN_NONE;
+        requiredCount = 0L;
+      } else {
+        // 지원자 2명 이상이면 1명 이상 선택해야 함
+        rule = QuotaRule.DESIGN_ONE;
+        requiredCount = 1L;
+      }
+    }
+    // === 개발자 및 기타 파트 매칭 로직 ===
+    else {
+      long half = (long) Math.ceil(roundTo * 0.5);
+      long quarter = (long) Math.ceil(roundTo * 0.25);
+
+      // 지원자 >= TO인 경우: TO의 50% 이상 선택해야 함
+      if (applicantCount >= roundTo) {
+        rule = QuotaRule.HALF;
+        requiredCount = half;
+      }
+      // 지원자 > TO의 50%인 경우: TO의 25% 이상 선택해야 함
+      else if (applicantCount > half) {
+        rule = QuotaRule.QUARTER;
+        requiredCount = quarter;
+      }
+      // 지원자 <= TO의 50%인 경우: 제한 없음
+      else {
+        rule = QuotaRule.NONE;
+        requiredCount = 0L;
+      }
+    }
+
+    return QuotaRequirement.builder()
+        .rule(rule)
+        .roundTo(roundTo)
+        .applicantCount(applicantCount)
+        .requiredCount(requiredCount)
+        .confirmedCount(quota.confirmedCount())
+        .build();
+  }
+}
@@ -0,0 +1,30 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.policy;
+
+import lombok.Builder;
+
+/**
+ * QuotaPolicy 평가 결과
+ *
+ * @param requiredCount  이번 차수에서 선발해야 하는 최소 인원
+ * @param confirmedCount 이번 차수에서 이미 합격 처리된 인원
+ */
+@Builder
+public record QuotaRequirement(
+    QuotaRule rule,
+    long roundTo,
+    long applicantCount,
+    long requiredCount,
+    long confirmedCount
+) {
+
+  /**
+   * 추가로 합격시켜야 하는 인원
+   */
+  public long remainingCount() {
+    return Math.max(0L, requiredCount - confirmedCount);
+  }
+
+  public boolean isSatisfied() {
+    return confirmedCount >= requiredCount;
+  }
+}
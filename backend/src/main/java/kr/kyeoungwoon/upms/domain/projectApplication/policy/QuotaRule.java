@@ -0,0 +1,17 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.policy;
+
+/**
+ * 매칭 차수 최소 선발 규칙
+ */
+public enum QuotaRule {
+  // 디자인 파트 - TO 1명 이하이거나 지원자 1명 이하인 경우 최소 선발 인원 없음
+  DESIGN_NONE,
+  // 디자인 파트 - 최소 1명 선발
+  DESIGN_ONE,
+  // 개발 파트 - 지원자 수가 차수 TO 이상인 경우 TO의 50% 이상 선발
+  HALF,
+  // 개발 파트 - 지원자 수가 차수 TO의 50% 초과인 경우 TO의 25% 이상 선발
+  QUARTER,
+  // 개발 파트 - 그 외 최소 선발 인원 없음
+  NONE
+}
@@ -0,0 +1,33 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.policy;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 매칭 차수 하나의 프로젝트/파트별 집계 스냅샷 (불변)
+ */
+public record RoundQuotaSnapshot(
+    Long matchingRoundId,
+    Map<Key, PartQuota> quotas,
+    Instant loadedAt
+) {
+
+  public RoundQuotaSnapshot {
+    quotas = Map.copyOf(quotas);
+  }
+
+  public Optional<PartQuota> find(Long projectId, ChallengerPart part) {
+    return Optional.ofNullable(quotas.get(new Key(projectId, part)));
+  }
+
+  public Collection<PartQuota> all() {
+    return quotas.values();
+  }
+
+  public record Key(Long projectId, ChallengerPart part) {
+
+  }
+}
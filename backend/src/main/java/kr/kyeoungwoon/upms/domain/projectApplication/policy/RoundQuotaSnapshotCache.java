@@ -0,0 +1,146 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.policy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.projection.ProjectPartQuotaRow;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.global.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 매칭 차수별 RoundQuotaSnapshot 캐시
+ * <p>
+ * 지원서 상태가 바뀌면 해당 차수를, TO나 멤버가 바뀌면 전체를 무효화합니다. 무효화는 즉시 한 번, 트랜잭션 커밋 후 한 번 더 수행합니다. 무효화할 때마다
+ * 버전을 올리고, 적재를 시작한 뒤 버전이 바뀌었으면 적재한 스냅샷을 저장하지 않으므로 무효화와 겹친 적재가 이전 값을 남기지 않습니다. 다른 인스턴스의 변경은
+ * 알 수 없으므로 스냅샷은 최대 max-age 동안만 사용합니다.
+ */
+@Slf4j
+@Component
+public class RoundQuotaSnapshotCache {
+
+  private final ProjectToRepository projectToRepository;
+  private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
+  private final Duration maxAge;
+
+  private final AtomicLong version = new AtomicLong();
+  private final Map<Long, RoundQuotaSnapshot> snapshots = new ConcurrentHashMap<>();
+
+  public RoundQuotaSnapshotCache(
+      ProjectToRepository projectToRepository,
+      ProjectMatchingRoundRepository projectMatchingRoundRepository,
+      @Value("${upms.quota-snapshot.max-age:30s}") Duration maxAge) {
+    this.projectToRepository = projectToRepository;
+    this.projectMatchingRoundRepository = projectMatchingRoundRepository;
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * 캐시된 스냅샷 조회 (없거나 max-age 가 지났으면 적재)
+   */
+  public RoundQuotaSnapshot get(Long matchingRoundId) {
+    RoundQuotaSnapshot cached = snapshots.get(matchingRoundId);
+    if (cached != null && cached.loadedAt().plus(maxAge).isAfter(Instant.now())) {
+      return cached;
+    }
+
+    long loadingVersion = version.get();
+    RoundQuotaSnapshot loaded = load(matchingRoundId);
+    // 쓰기 트랜잭션 안에서 적재한 스냅샷은 커밋 전 변경이 섞여 있을 수 있어 공유하지 않음
+    if (inWriteTransaction()) {
+      return loaded;
+    }
+    // 버전 확인과 저장을 같은 버킷 잠금 안에서 수행: 무효화는 버전을 올린 뒤 제거하므로, 확인 이후에 무효화되어도 저장한 값이 제거됨
+    snapshots.compute(matchingRoundId,
+        (id, existing) -> version.get() == loadingVersion ? loaded : existing);
+    return loaded;
+  }
+
+  /**
+   * 캐시를 거치지 않고 DB에서 스냅샷을 새로 적재
+   */
+  public RoundQuotaSnapshot load(Long matchingRoundId) {
+    if (!projectMatchingRoundRepository.existsById(matchingRoundId)) {
+      throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+          ErrorStatus.MATCHING_ROUND_NOT_FOUND);
+    }
+
+    List<ProjectPartQuotaRow> rows = projectToRepository.findQuotaRowsByMatchingRoundId(
+        matchingRoundId);
+    Map<RoundQuotaSnapshot.Key, PartQuota> quotas = rows.stream()
+        .map(this::toPartQuota)
+        .collect(Collectors.toMap(
+            quota -> new RoundQuotaSnapshot.Key(quota.projectId(), quota.part()),
+            Function.identity()));
+
+    log.debug("매칭 차수 집계 스냅샷 적재 - matchingRoundId: {}, 프로젝트 파트: {}개", matchingRoundId,
+        quotas.size());
+    return new RoundQuotaSnapshot(matchingRoundId, quotas, Instant.now());
+  }
+
+  /**
+   * 캐시를 거치지 않고 프로젝트 파트 하나의 집계 값만 DB에서 적재 (파트 TO 가 없으면 empty)
+   */
+  public Optional<PartQuota> loadPart(Long matchingRoundId, Long projectId,
+      ChallengerPart part) {
+    return projectToRepository.findQuotaRow(matchingRoundId, projectId, part)
+        .map(this::toPartQuota);
+  }
+
+  /**
+   * 특정 차수 스냅샷 무효화
+   */
+  public void evict(Long matchingRoundId) {
+    remove(matchingRoundId);
+    AfterCommit.run(() -> remove(matchingRoundId));
+  }
+
+  /**
+   * 전체 스냅샷 무효화 (TO, 멤버 변경 시)
+   */
+  public void evictAll() {
+    clear();
+    AfterCommit.run(this::clear);
+  }
+
+  private void remove(Long matchingRoundId) {
+    version.incrementAndGet();
+    snapshots.remove(matchingRoundId);
+  }
+
+  private void clear() {
+    version.incrementAndGet();
+    snapshots.clear();
+  }
+
+  private boolean inWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private PartQuota toPartQuota(ProjectPartQuotaRow row) {
+    return new PartQuota(
+        row.getProjectId(),
+        row.getPart(),
+        row.getToCount(),
+        row.getMemberCount(),
+        row.getOriginalMemberCount(),
+        row.getPendingCount(),
+        row.getConfirmedCount(),
+        row.getRejectedCount());
+  }
+}
@@ -0,0 +1,97 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplicationCounter;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ProjectPartCountRow;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectApplicationCounterRepository extends
+    JpaRepository<ProjectApplicationCounter, Long> {
+
+  /**
+   * 카운터를 delta 만큼 원자적으로 증감 (행이 없으면 생성)
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "INSERT INTO application_counter "
+      + "(project_id, part, matching_round_id, status, application_count, created_at, updated_at) "
+      + "VALUES (:projectId, :part, :matchingRoundId, :status, :delta, now(), now()) "
+      + "ON CONFLICT ON CONSTRAINT uniq_application_counter_key "
+      + "DO UPDATE SET application_count = application_counter.application_count + EXCLUDED.application_count, "
+      + "updated_at = now()")
+  int increment(
+      @Param("projectId") Long projectId,
+      @Param("part") String part,
+      @Param("matchingRoundId") Long matchingRoundId,
+      @Param("status") String status,
+      @Param("delta") long delta);
+
+  /**
+   * 카운터를 지정한 값으로 덮어쓰기 (정합성 보정용)
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "INSERT INTO application_counter "
+      + "(project_id, part, matching_round_id, status, application_count, created_at, updated_at) "
+      + "VALUES (:projectId, :part, :matchingRoundId, :status, :value, now(), now()) "
+      + "ON CONFLICT ON CONSTRAINT uniq_application_counter_key "
+      + "DO UPDATE SET application_count = EXCLUDED.application_count, updated_at = now()")
+  int overwrite(
+      @Param("projectId") Long projectId,
+      @Param("part") String part,
+      @Param("matchingRoundId") Long matchingRoundId,
+      @Param("status") String status,
+      @Param("value") long value);
+
+  /**
+   * 특정 프로젝트, 파트, 매칭 라운드, 상태의 지원서 수
+   */
+  @Query("SELECT COALESCE(SUM(c.applicationCount), 0) FROM ProjectApplicationCounter c "
+      + "WHERE c.projectId = :projectId AND c.part = :part "
+      + "AND c.matchingRoundId = :matchingRoundId AND c.status = :status")
+  long sumByRoundAndStatus(
+      @Param("projectId") Long projectId,
+      @Param("part") ChallengerPart part,
+      @Param("matchingRoundId") Long matchingRoundId,
+      @Param("status") ApplicationStatus status);
+
+  /**
+   * 특정 프로젝트, 파트, 매칭 라운드의 전체 지원서 수 (상태 무관)
+   */
+  @Query("SELECT COALESCE(SUM(c.applicationCount), 0) FROM ProjectApplicationCounter c "
+      + "WHERE c.projectId = :projectId AND c.part = :part "
+      + "AND c.matchingRoundId = :matchingRoundId")
+  long sumByRound(
+      @Param("projectId") Long projectId,
+      @Param("part") ChallengerPart part,
+      @Param("matchingRoundId") Long matchingRoundId);
+
+  /**
+   * 특정 매칭 라운드를 제외한 나머지 라운드의 특정 상태 지원서 수
+   */
+  @Query("SELECT COALESCE(SUM(c.applicationCount), 0) FROM ProjectApplicationCounter c "
+      + "WHERE c.projectId = :projectId AND c.part = :part "
+      + "AND c.matchingRoundId <> :excludedRoundId AND c.status = :status")
+  long sumByOtherRoundsAndStatus(
+      @Param("projectId") Long projectId,
+      @Param("part") ChallengerPart part,
+      @Param("excludedRoundId") Long excludedRoundId,
+      @Param("status") ApplicationStatus status);
+
+  /**
+   * 특정 Chapter의 모든 매칭 라운드에 들어온 (프로젝트, 파트) 별 지원서 수 (상태 무관)
+   */
+  @Query("SELECT c.projectId AS projectId, c.part AS part, "
+      + "SUM(c.applicationCount) AS applicationCount "
+      + "FROM ProjectApplicationCounter c "
+      + "WHERE c.matchingRoundId IN ("
+      + "SELECT mr.id FROM ProjectMatchingRound mr WHERE mr.chapter.id = :chapterId) "
+      + "GROUP BY c.projectId, c.part")
+  List<ProjectPartCountRow> sumGroupByProjectAndPartByChapterId(
+      @Param("chapterId") Long chapterId);
+}
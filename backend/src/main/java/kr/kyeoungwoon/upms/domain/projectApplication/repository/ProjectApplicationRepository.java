@@ -1,25 +1,68 @@
 package kr.kyeoungwoon.upms.domain.projectApplication.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
 import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.repository.projection.ProjectMemberKeyRow;
 import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationBriefProjection;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationCountRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationExportRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationRowProjection;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.PendingDecisionGroupRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.PendingDecisionRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.SubmitContextRow;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
 import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
 import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProjectApplicationRepository extends JpaRepository<ProjectApplication, Long> {
 
-  boolean existsByApplicantAndMatchingRound(
-      Challenger applicant,
-      ProjectMatchingRound matchingRound
-  );
+  String ROW_SELECT = "SELECT pa.id AS id, "
+      + "f.id AS formId, f.title AS formTitle, "
+      + "p.id AS projectId, p.name AS projectName, "
+      + "a.id AS applicantId, a.name AS applicantName, a.nickname AS applicantNickname, "
+      + "a.part AS applicantPart, s.id AS applicantSchoolId, s.name AS applicantSchoolName, "
+      + "mr.id AS matchingRoundId, mr.name AS matchingRoundName, "
+      + "pa.status AS status, pa.createdAt AS createdAt, pa.updatedAt AS updatedAt "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN f.project p "
+      + "JOIN pa.applicant a "
+      + "JOIN a.school s "
+      + "JOIN pa.matchingRound mr ";
+
+  String EXPORT_SELECT = "SELECT pa.id AS applicationId, "
+      + "f.id AS formId, f.title AS formTitle, "
+      + "p.id AS projectId, p.name AS projectName, "
+      + "a.id AS applicantId, a.name AS applicantName, a.nickname AS applicantNickname, "
+      + "a.part AS applicantPart, s.id AS applicantSchoolId, s.name AS applicantSchoolName, "
+      + "mr.id AS matchingRoundId, mr.name AS matchingRoundName, "
+      + "pa.status AS status, pa.createdAt AS createdAt, pa.updatedAt AS updatedAt, "
+      + "r.id AS responseId, q.id AS questionId, q.title AS questionTitle, "
+      + "r.values AS responseValues, "
+      + "r.createdAt AS responseCreatedAt, r.updatedAt AS responseUpdatedAt "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN f.project p "
+      + "JOIN pa.applicant a "
+      + "JOIN a.school s "
+      + "JOIN pa.matchingRound mr "
+      + "LEFT JOIN pa.applicationResponses r "
+      + "LEFT JOIN r.question q ";
 
   /**
    * 특정 프로젝트, 파트, 매칭 라운드(제외), 상태로 지원서 개수 조회
@@ -60,39 +103,205 @@ public interface ProjectApplicationRepository extends JpaRepository<ProjectAppli
   );
 
 
-  @Query("SELECT pa FROM ProjectApplication pa "
-      + "LEFT JOIN FETCH pa.applicationResponses "
-      + "WHERE pa.id = :id")
-  Optional<ProjectApplication> findByIdWithResponses(@Param("id") Long id);
-
-  @Query("SELECT DISTINCT pa FROM ProjectApplication pa "
-      + "LEFT JOIN FETCH pa.applicationResponses")
-  List<ProjectApplication> findAllWithResponses();
+  /**
+   * 특정 매칭 라운드의 대기 지원서 ID 와 그룹 키 조회 (자동 합/불 처리용)
+   */
+  @Query("SELECT pa.id AS applicationId, f.project.id AS projectId, "
+      + "a.id AS applicantId, a.part AS applicantPart "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN pa.applicant a "
+      + "WHERE pa.matchingRound.id = :matchingRoundId "
+      + "AND pa.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.PENDING")
+  List<PendingDecisionRow> findPendingDecisionRows(@Param("matchingRoundId") Long matchingRoundId);
 
-  @Query("SELECT DISTINCT pa FROM ProjectApplication pa "
-      + "LEFT JOIN FETCH pa.applicationResponses "
-      + "WHERE pa.form.id = :formId")
-  List<ProjectApplication> findByFormIdWithResponses(@Param("formId") Long formId);
+  /**
+   * 특정 매칭 라운드 프로젝트 파트 하나의 대기 지원서 ID 와 그룹 키 조회 (자동 합/불 처리 단위)
+   */
+  @Query("SELECT pa.id AS applicationId, f.project.id AS projectId, "
+      + "a.id AS applicantId, a.part AS applicantPart "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN pa.applicant a "
+      + "WHERE pa.matchingRound.id = :matchingRoundId "
+      + "AND f.project.id = :projectId AND a.part = :part "
+      + "AND pa.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.PENDING")
+  List<PendingDecisionRow> findPendingDecisionRows(
+      @Param("matchingRoundId") Long matchingRoundId,
+      @Param("projectId") Long projectId,
+      @Param("part") ChallengerPart part);
 
-  @Query("SELECT DISTINCT pa FROM ProjectApplication pa "
-      + "LEFT JOIN FETCH pa.applicationResponses "
-      + "WHERE pa.form.id IN :formIds")
-  List<ProjectApplication> findByFormIdInWithResponses(@Param("formIds") List<Long> formIds);
+  /**
+   * 특정 매칭 라운드에서 대기 지원서가 남아있는 (프로젝트, 파트) 목록 (프로젝트, 파트 순)
+   */
+  @Query("SELECT DISTINCT f.project.id AS projectId, a.part AS part "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN pa.applicant a "
+      + "WHERE pa.matchingRound.id = :matchingRoundId "
+      + "AND pa.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.PENDING "
+      + "ORDER BY f.project.id, a.part")
+  List<PendingDecisionGroupRow> findPendingDecisionGroups(
+      @Param("matchingRoundId") Long matchingRoundId);
 
-  @Query("SELECT DISTINCT pa FROM ProjectApplication pa "
-      + "LEFT JOIN FETCH pa.applicationResponses "
-      + "WHERE pa.applicant.id = :challengerId")
-  List<ProjectApplication> findByApplicantIdWithResponses(@Param("challengerId") Long challengerId);
+  /**
+   * 지원서 상태 일괄 변경 (엔티티를 적재하지 않음, 지원서 카운터는 호출자가 반영해야 함)
+   * <p>
+   * 현재 상태가 prevStatus 인 지원서만 변경하므로, 반환값이 실제로 변경된 건수입니다.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE ProjectApplication pa SET pa.status = :status, pa.updatedAt = :updatedAt "
+      + "WHERE pa.id IN :ids AND pa.status = :prevStatus")
+  int updateStatusByIdInAndStatus(
+      @Param("ids") Collection<Long> ids,
+      @Param("prevStatus") ApplicationStatus prevStatus,
+      @Param("status") ApplicationStatus status,
+      @Param("updatedAt") Instant updatedAt);
 
   /**
-   * 특정 매칭 라운드와 상태에 해당하는 지원서 조회 (자동 합/불 처리를 위한 최소 정보 포함)
+   * ID 목록으로 지원서 조회 (일괄 합/불 결정용, 폼/프로젝트/지원자/매칭 라운드 fetch join)
    */
   @Query("SELECT pa FROM ProjectApplication pa "
       + "JOIN FETCH pa.form f "
       + "JOIN FETCH f.project p "
       + "JOIN FETCH pa.applicant a "
-      + "WHERE pa.matchingRound.id = :matchingRoundId AND pa.status = :status")
-  List<ProjectApplication> findByMatchingRoundIdAndStatus(
-      @Param("matchingRoundId") Long matchingRoundId,
-      @Param("status") ApplicationStatus status);
+      + "JOIN FETCH pa.matchingRound mr "
+      + "WHERE pa.id IN :ids")
+  List<ProjectApplication> findAllForDecisionByIdIn(@Param("ids") Collection<Long> ids);
+
+  /**
+   * 특정 Chapter의 매칭 라운드에 지원한 (프로젝트, 챌린저) 조회 (미배정 챌린저 배정 시 지원했던 프로젝트 우선)
+   */
+  @Query("SELECT DISTINCT f.project.id AS projectId, pa.applicant.id AS challengerId "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "WHERE pa.matchingRound.chapter.id = :chapterId")
+  List<ProjectMemberKeyRow> findAppliedKeysByChapterId(@Param("chapterId") Long chapterId);
+
+  /**
+   * 특정 Chapter의 매칭 라운드에 제출된 모든 지원서 요약 조회 (응답 제외)
+   */
+  @Query("SELECT pa.id AS applicationId, "
+      + "pa.applicant.id AS applicantId, "
+      + "pa.matchingRound.id AS matchingRoundId, "
+      + "p.id AS projectId, "
+      + "p.name AS projectName, "
+      + "pa.status AS status, "
+      + "pa.createdAt AS appliedAt "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN f.project p "
+      + "WHERE pa.matchingRound.chapter.id = :chapterId")
+  List<ApplicationBriefProjection> findBriefsByChapterId(@Param("chapterId") Long chapterId);
+
+  /**
+   * 특정 Chapter의 지원서 ID를 afterId 이후부터 ID 순으로 조회 (내보내기 Keyset 페이지 1단계)
+   */
+  @Query("SELECT pa.id FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN f.project p "
+      + "WHERE p.chapter.id = :chapterId AND pa.id > :afterId "
+      + "ORDER BY pa.id")
+  List<Long> findExportIdsByChapterId(
+      @Param("chapterId") Long chapterId,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
+
+  /**
+   * 특정 프로젝트의 지원서 ID를 afterId 이후부터 ID 순으로 조회 (내보내기 Keyset 페이지 1단계)
+   */
+  @Query("SELECT pa.id FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "WHERE f.project.id = :projectId AND pa.id > :afterId "
+      + "ORDER BY pa.id")
+  List<Long> findExportIdsByProjectId(
+      @Param("projectId") Long projectId,
+      @Param("afterId") Long afterId,
+      Pageable pageable);
+
+  /**
+   * ID 목록의 지원서를 응답과 함께 평탄화 Row로 조회 (내보내기 Keyset 페이지 2단계)
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query(EXPORT_SELECT
+      + "WHERE pa.id IN :ids "
+      + "ORDER BY pa.id, r.id")
+  List<ApplicationExportRow> findExportRowsByIdIn(@Param("ids") List<Long> ids);
+
+  /**
+   * ID 목록으로 지원서 조회 (DTO Projection, Keyset 페이지네이션 2단계)
+   */
+  @Query(ROW_SELECT + "WHERE pa.id IN :ids")
+  List<ApplicationRowProjection> findRowsByIdIn(@Param("ids") List<Long> ids);
+
+  /**
+   * 지원서 ID 순 조회 (DTO Projection, 응답 제외, 조회 건수는 pageable 로 제한)
+   */
+  @Query(ROW_SELECT + "ORDER BY pa.id")
+  List<ApplicationRowProjection> findAllRows(Pageable pageable);
+
+  /**
+   * 지원서 단건 조회 (DTO Projection)
+   */
+  @Query(ROW_SELECT + "WHERE pa.id = :id")
+  Optional<ApplicationRowProjection> findRowById(@Param("id") Long id);
+
+  /**
+   * 특정 폼의 지원서 조회 (DTO Projection, 응답 제외)
+   */
+  @Query(ROW_SELECT + "WHERE f.id = :formId ORDER BY pa.id")
+  List<ApplicationRowProjection> findRowsByFormId(@Param("formId") Long formId);
+
+  /**
+   * 특정 프로젝트의 지원서 조회 (DTO Projection, 응답 제외)
+   */
+  @Query(ROW_SELECT + "WHERE p.id = :projectId ORDER BY pa.id")
+  List<ApplicationRowProjection> findRowsByProjectId(@Param("projectId") Long projectId);
+
+  /**
+   * 특정 Chapter의 모든 프로젝트 지원서 조회 (DTO Projection, 응답 제외)
+   */
+  @Query(ROW_SELECT + "WHERE p.chapter.id = :chapterId ORDER BY pa.id")
+  List<ApplicationRowProjection> findRowsByChapterId(@Param("chapterId") Long chapterId);
+
+  /**
+   * 특정 챌린저가 제출한 지원서 조회 (DTO Projection, 응답 제외)
+   */
+  @Query(ROW_SELECT + "WHERE a.id = :challengerId ORDER BY pa.id")
+  List<ApplicationRowProjection> findRowsByApplicantId(@Param("challengerId") Long challengerId);
+
+  /**
+   * (프로젝트, 파트, 매칭 라운드, 상태) 별 실제 지원서 수 집계 (카운터 정합성 검증용)
+   */
+  @Query("SELECT f.project.id AS projectId, a.part AS part, "
+      + "pa.matchingRound.id AS matchingRoundId, pa.status AS status, "
+      + "COUNT(pa) AS applicationCount "
+      + "FROM ProjectApplication pa "
+      + "JOIN pa.form f "
+      + "JOIN pa.applicant a "
+      + "GROUP BY f.project.id, a.part, pa.matchingRound.id, pa.status")
+  List<ApplicationCountRow> countGroupByProjectAndPartAndRoundAndStatus();
+
+  /**
+   * 지원서 제출 검증 컨텍스트 조회 (지원자 또는 폼이 없으면 빈 값)
+   */
+  @Query("SELECT ch.id AS applicantId, ch.name AS applicantName, "
+      + "ch.nickname AS applicantNickname, ch.part AS applicantPart, "
+      + "s.id AS applicantSchoolId, s.name AS applicantSchoolName, "
+      + "(SELECT MIN(cs.chapter.id) FROM ChapterSchool cs "
+      + "WHERE cs.school = s AND cs.chapter.gisu = ch.gisu) AS applicantChapterId, "
+      + "f.id AS formId, f.title AS formTitle, "
+      + "p.id AS projectId, p.name AS projectName, p.chapter.id AS projectChapterId, "
+      + "(SELECT MAX(t.toCount) FROM ProjectTo t "
+      + "WHERE t.project = p AND t.part = ch.part) AS partToCount, "
+      + "(SELECT COUNT(pm) FROM ProjectMember pm "
+      + "WHERE pm.project = p AND pm.challenger.part = ch.part) AS partMemberCount, "
+      + "(SELECT COUNT(am) FROM ProjectMember am "
+      + "WHERE am.challenger = ch) AS applicantMembershipCount "
+      + "FROM Challenger ch JOIN ch.school s, "
+      + "ProjectApplicationForm f JOIN f.project p "
+      + "WHERE ch.id = :applicantId AND f.id = :formId")
+  Optional<SubmitContextRow> findSubmitContext(
+      @Param("applicantId") Long applicantId,
+      @Param("formId") Long formId);
 }
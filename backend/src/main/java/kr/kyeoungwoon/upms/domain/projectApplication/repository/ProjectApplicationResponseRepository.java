@@ -3,7 +3,10 @@ package kr.kyeoungwoon.upms.domain.projectApplication.repository;
 import java.util.List;
 import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
 import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplicationResponse;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationResponseRowProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +22,41 @@ public interface ProjectApplicationResponseRepository extends
    * 특정 지원서의 응답 목록 조회 (applicationId로)
    */
   List<ProjectApplicationResponse> findByApplicationId(Long applicationId);
+
+  /**
+   * ID 목록으로 응답 조회 (Keyset 페이지네이션 2단계, 질문 fetch join)
+   */
+  @Query("SELECT r FROM ProjectApplicationResponse r "
+      + "JOIN FETCH r.question "
+      + "WHERE r.id IN :ids")
+  List<ProjectApplicationResponse> findAllWithQuestionByIdIn(@Param("ids") List<Long> ids);
+
+  /**
+   * 여러 지원서의 응답 일괄 조회 (DTO Projection, 질문 제목 포함)
+   */
+  @Query("SELECT r.id AS id, "
+      + "r.application.id AS applicationId, "
+      + "q.id AS questionId, q.title AS questionTitle, "
+      + "r.values AS responseValues, "
+      + "r.createdAt AS createdAt, r.updatedAt AS updatedAt "
+      + "FROM ProjectApplicationResponse r "
+      + "JOIN r.question q "
+      + "WHERE r.application.id IN :applicationIds "
+      + "ORDER BY r.application.id, r.id")
+  List<ApplicationResponseRowProjection> findRowsByApplicationIdIn(
+      @Param("applicationIds") List<Long> applicationIds);
+
+  /**
+   * 특정 Chapter의 모든 지원서 응답 일괄 조회 (DTO Projection, 질문 제목 포함)
+   */
+  @Query("SELECT r.id AS id, "
+      + "r.application.id AS applicationId, "
+      + "q.id AS questionId, q.title AS questionTitle, "
+      + "r.values AS responseValues, "
+      + "r.createdAt AS createdAt, r.updatedAt AS updatedAt "
+      + "FROM ProjectApplicationResponse r "
+      + "JOIN r.question q "
+      + "WHERE r.application.form.project.chapter.id = :chapterId "
+      + "ORDER BY r.application.id, r.id")
+  List<ApplicationResponseRowProjection> findRowsByChapterId(@Param("chapterId") Long chapterId);
 }
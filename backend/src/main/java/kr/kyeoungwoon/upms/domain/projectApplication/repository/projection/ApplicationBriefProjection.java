@@ -0,0 +1,26 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import java.time.Instant;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+
+/**
+ * 챕터 지원 현황 요약용 지원서 요약 Projection
+ * <p>
+ * 엔티티를 영속화하지 않고 요약에 필요한 컬럼만 조회합니다.
+ */
+public interface ApplicationBriefProjection {
+
+  Long getApplicationId();
+
+  Long getApplicantId();
+
+  Long getMatchingRoundId();
+
+  Long getProjectId();
+
+  String getProjectName();
+
+  ApplicationStatus getStatus();
+
+  Instant getAppliedAt();
+}
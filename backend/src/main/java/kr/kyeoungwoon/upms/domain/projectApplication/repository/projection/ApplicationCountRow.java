@@ -0,0 +1,20 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * (프로젝트, 파트, 매칭 라운드, 상태) 별 지원서 수 집계 Projection
+ */
+public interface ApplicationCountRow {
+
+  Long getProjectId();
+
+  ChallengerPart getPart();
+
+  Long getMatchingRoundId();
+
+  ApplicationStatus getStatus();
+
+  Long getApplicationCount();
+}
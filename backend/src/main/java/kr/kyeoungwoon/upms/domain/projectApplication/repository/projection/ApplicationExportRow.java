@@ -0,0 +1,58 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import java.time.Instant;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 지원서 내보내기용 평탄화(flat) Row Projection
+ * <p>
+ * 지원서 1건 x 응답 1건이 한 행이며, 응답이 없는 지원서는 응답 컬럼이 null인 한 행으로 조회됩니다. 지원서 ID 순으로 정렬되어 있으므로 연속된 행을 묶어
+ * 지원서 단위로 처리할 수 있습니다.
+ */
+public interface ApplicationExportRow {
+
+  Long getApplicationId();
+
+  Long getFormId();
+
+  String getFormTitle();
+
+  Long getProjectId();
+
+  String getProjectName();
+
+  Long getApplicantId();
+
+  String getApplicantName();
+
+  String getApplicantNickname();
+
+  ChallengerPart getApplicantPart();
+
+  Long getApplicantSchoolId();
+
+  String getApplicantSchoolName();
+
+  Long getMatchingRoundId();
+
+  String getMatchingRoundName();
+
+  ApplicationStatus getStatus();
+
+  Instant getCreatedAt();
+
+  Instant getUpdatedAt();
+
+  Long getResponseId();
+
+  Long getQuestionId();
+
+  String getQuestionTitle();
+
+  String[] getResponseValues();
+
+  Instant getResponseCreatedAt();
+
+  Instant getResponseUpdatedAt();
+}
@@ -0,0 +1,23 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * 지원서 답변 DTO 매핑용 Projection (질문 제목 포함)
+ */
+public interface ApplicationResponseRowProjection {
+
+  Long getId();
+
+  Long getApplicationId();
+
+  Long getQuestionId();
+
+  String getQuestionTitle();
+
+  String[] getResponseValues();
+
+  Instant getCreatedAt();
+
+  Instant getUpdatedAt();
+}
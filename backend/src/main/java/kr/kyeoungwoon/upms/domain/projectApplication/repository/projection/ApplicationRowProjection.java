@@ -0,0 +1,45 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import java.time.Instant;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 지원서 응답 DTO(Response / DetailResponse) 매핑용 Projection
+ * <p>
+ * 폼, 프로젝트, 지원자, 학교, 매칭 라운드를 한 번의 JOIN 으로 조회하여 LAZY 연관관계 초기화 쿼리가 발생하지 않도록 합니다.
+ */
+public interface ApplicationRowProjection {
+
+  Long getId();
+
+  Long getFormId();
+
+  String getFormTitle();
+
+  Long getProjectId();
+
+  String getProjectName();
+
+  Long getApplicantId();
+
+  String getApplicantName();
+
+  String getApplicantNickname();
+
+  ChallengerPart getApplicantPart();
+
+  Long getApplicantSchoolId();
+
+  String getApplicantSchoolName();
+
+  Long getMatchingRoundId();
+
+  String getMatchingRoundName();
+
+  ApplicationStatus getStatus();
+
+  Instant getCreatedAt();
+
+  Instant getUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 대기 지원서가 남아있는 (프로젝트, 파트) Projection (자동 합/불 처리 단위)
+ */
+public interface PendingDecisionGroupRow {
+
+  Long getProjectId();
+
+  ChallengerPart getPart();
+}
@@ -0,0 +1,17 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 자동 합/불 처리 대상 대기 지원서 Projection (엔티티를 적재하지 않고 ID 만 사용)
+ */
+public interface PendingDecisionRow {
+
+  Long getApplicationId();
+
+  Long getProjectId();
+
+  Long getApplicantId();
+
+  ChallengerPart getApplicantPart();
+}
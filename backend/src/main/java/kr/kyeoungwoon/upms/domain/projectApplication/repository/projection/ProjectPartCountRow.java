@@ -0,0 +1,15 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * (프로젝트, 파트) 별 지원서 수 집계 Projection
+ */
+public interface ProjectPartCountRow {
+
+  Long getProjectId();
+
+  ChallengerPart getPart();
+
+  Long getApplicationCount();
+}
@@ -0,0 +1,51 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.repository.projection;
+
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 지원서 제출 검증에 필요한 지원자 / 폼 / 프로젝트 / TO / 멤버 정보를 한 번에 담는 Projection
+ */
+public interface SubmitContextRow {
+
+  Long getApplicantId();
+
+  String getApplicantName();
+
+  String getApplicantNickname();
+
+  ChallengerPart getApplicantPart();
+
+  Long getApplicantSchoolId();
+
+  String getApplicantSchoolName();
+
+  /**
+   * 지원자 학교와 기수로 찾은 Chapter ID (없으면 null)
+   */
+  Long getApplicantChapterId();
+
+  Long getFormId();
+
+  String getFormTitle();
+
+  Long getProjectId();
+
+  String getProjectName();
+
+  Long getProjectChapterId();
+
+  /**
+   * 지원자 파트의 프로젝트 TO (TO 가 없으면 null)
+   */
+  Integer getPartToCount();
+
+  /**
+   * 지원자 파트의 현재 프로젝트 멤버 수
+   */
+  Long getPartMemberCount();
+
+  /**
+   * 지원자가 멤버로 등록된 프로젝트 수
+   */
+  Long getApplicantMembershipCount();
+}
@@ -0,0 +1,42 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.scheduler;
+
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService;
+import kr.kyeoungwoon.upms.global.lease.ClusterExclusive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectApplicationCounterReconciliationScheduler {
+
+  // 정합성 검증 도중 보정할 카운터가 바뀌어 직렬화 오류가 나면 새 스냅샷으로 다시 시도하는 최대 횟수
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final ProjectApplicationCounterService counterService;
+
+  /**
+   * 매일 새벽 4시 30분에 지원서 카운터 정합성을 검증합니다. (한 인스턴스에서만 실행)
+   */
+  @ClusterExclusive("project-application-counter-reconciliation")
+  @Scheduled(cron = "0 30 4 * * *")
+  public void executeReconciliationJob() {
+    log.info("[지원서 카운터 Scheduler] 지원서 카운터 정합성 검증을 시작합니다.");
+    for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+      try {
+        int driftCount = counterService.reconcile();
+        if (driftCount > 0) {
+          log.warn("[지원서 카운터 Scheduler] 불일치 키 {}개를 보정했습니다.", driftCount);
+        }
+        return;
+      } catch (ConcurrencyFailureException e) {
+        log.warn("[지원서 카운터 Scheduler] 검증 중 카운터가 변경되어 다시 시도합니다. ({}/{})", attempt,
+            MAX_ATTEMPTS);
+      }
+    }
+    log.error("[지원서 카운터 Scheduler] 카운터 변경이 계속되어 이번 정합성 검증을 건너뜁니다.");
+  }
+}
@@ -0,0 +1,246 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationExportRow;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 지원서 스트리밍 내보내기 (NDJSON / CSV)
+ * <p>
+ * 지원서 ID Keyset 페이지 단위로 지원서 x 응답 평탄화 Row를 조회하여 바로 출력합니다. 페이지마다 짧은 읽기 트랜잭션으로 조회하므로 클라이언트가 느리게
+ * 받아도 DB 커넥션/트랜잭션을 붙잡지 않고, 메모리에는 한 페이지만 유지되어 챕터 규모와 무관하게 사용량이 일정합니다.
+ * <p>
+ * CSV의 여러 값 응답은 JSON 배열로 출력하고, 스프레드시트가 수식으로 해석하는 값(=, +, -, @ 등으로 시작)은 앞에 '를 붙여 문자열로 출력합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ApplicationExportService {
+
+  private static final String[] CSV_HEADER = {
+      "applicationId", "formId", "formTitle", "projectId", "projectName",
+      "applicantId", "applicantName", "applicantNickname", "applicantPart",
+      "applicantSchoolId", "applicantSchoolName", "matchingRoundId", "matchingRoundName",
+      "status", "createdAt", "updatedAt", "questionId", "questionTitle", "values"
+  };
+
+  private static final int EXPORT_PAGE_SIZE = 200;
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final ProjectRepository projectRepository;
+  private final ChapterRepository chapterRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 내보내기 대상 검증 (스트리밍 시작 전에 호출하여 일반 에러 응답으로 처리되도록 함)
+   *
+   * @param chapterId Chapter ID
+   * @param projectId Project ID (우선)
+   */
+  public void validateTarget(Long chapterId, Long projectId) {
+    if (projectId != null) {
+      if (!projectRepository.existsById(projectId)) {
+        throw new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_FOUND);
+      }
+      return;
+    }
+    if (chapterId == null) {
+      throw new DomainException(DomainType.PROJECT_APPLICATION,
+          ErrorStatus.PA_EXPORT_TARGET_REQUIRED);
+    }
+    if (!chapterRepository.existsById(chapterId)) {
+      throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
+    }
+  }
+
+  /**
+   * 지원서를 응답과 함께 스트리밍으로 출력
+   * <p>
+   * 출력하는 동안 트랜잭션을 유지하지 않도록 페이지 조회마다 Repository 의 읽기 트랜잭션을 사용합니다.
+   *
+   * @param format       출력 형식
+   * @param chapterId    Chapter ID
+   * @param projectId    Project ID (우선)
+   * @param outputStream 출력 스트림
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void export(ExportFormat format, Long chapterId, Long projectId,
+      OutputStream outputStream) throws IOException {
+    log.info("지원서 내보내기 시작 - format: {}, chapterId: {}, projectId: {}", format, chapterId,
+        projectId);
+    long startedAt = System.currentTimeMillis();
+
+    Writer writer = new BufferedWriter(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+    if (format == ExportFormat.CSV) {
+      // 엑셀에서 UTF-8로 인식하도록 BOM 추가
+      writer.write('\uFEFF');
+      writeCsvLine(writer, CSV_HEADER);
+    }
+
+    long exportedCount = 0;
+    long afterId = 0L;
+    Pageable page = PageRequest.of(0, EXPORT_PAGE_SIZE);
+    while (true) {
+      // 1. 다음 페이지의 지원서 ID 조회
+      List<Long> ids = projectId != null
+          ? projectApplicationRepository.findExportIdsByProjectId(projectId, afterId, page)
+          : projectApplicationRepository.findExportIdsByChapterId(chapterId, afterId, page);
+      if (ids.isEmpty()) {
+        break;
+      }
+
+      // 2. 해당 지원서들의 응답 Row 조회 후 지원서 ID 순으로 연속된 행을 지원서 하나로 묶어서 출력
+      List<ApplicationExportRow> current = new ArrayList<>();
+      for (ApplicationExportRow row : projectApplicationRepository.findExportRowsByIdIn(ids)) {
+        if (!current.isEmpty()
+            && !current.get(0).getApplicationId().equals(row.getApplicationId())) {
+          writeApplication(format, writer, current);
+          exportedCount++;
+          current.clear();
+        }
+        current.add(row);
+      }
+      if (!current.isEmpty()) {
+        writeApplication(format, writer, current);
+        exportedCount++;
+      }
+      writer.flush();
+
+      if (ids.size() < EXPORT_PAGE_SIZE) {
+        break;
+      }
+      afterId = ids.get(ids.size() - 1);
+    }
+
+    writer.flush();
+    log.info("지원서 내보내기 완료 - format: {}, 지원서: {}건, 소요 시간: {}ms", format, exportedCount,
+        System.currentTimeMillis() - startedAt);
+  }
+
+  private void writeApplication(ExportFormat format, Writer writer,
+      List<ApplicationExportRow> rows) throws IOException {
+    if (format == ExportFormat.CSV) {
+      for (ApplicationExportRow row : rows) {
+        writeCsvLine(writer, toCsvValues(row));
+      }
+      return;
+    }
+    writer.write(objectMapper.writeValueAsString(toDetailResponse(rows)));
+    writer.write('\n');
+  }
+
+  private ProjectApplicationDto.DetailResponse toDetailResponse(List<ApplicationExportRow> rows) {
+    ApplicationExportRow head = rows.get(0);
+
+    List<ProjectApplicationResponseDto.Response> responses = rows.stream()
+        .filter(row -> row.getResponseId() != null)
+        .map(row -> ProjectApplicationResponseDto.Response.builder()
+            .id(row.getResponseId())
+            .applicationId(row.getApplicationId())
+            .questionId(row.getQuestionId())
+            .questionTitle(row.getQuestionTitle())
+            .values(row.getResponseValues())
+            .createdAt(row.getResponseCreatedAt())
+            .updatedAt(row.getResponseUpdatedAt())
+            .build())
+        .toList();
+
+    return ProjectApplicationDto.DetailResponse.builder()
+        .id(head.getApplicationId())
+        .formId(head.getFormId())
+        .formTitle(head.getFormTitle())
+        .projectId(head.getProjectId())
+        .projectName(head.getProjectName())
+        .applicantId(head.getApplicantId())
+        .applicantName(head.getApplicantName())
+        .applicantNickname(head.getApplicantNickname())
+        .applicantPart(head.getApplicantPart())
+        .applicantSchoolId(head.getApplicantSchoolId())
+        .applicantSchoolName(head.getApplicantSchoolName())
+        .matchingRoundId(head.getMatchingRoundId())
+        .matchingRoundName(head.getMatchingRoundName())
+        .status(head.getStatus())
+        .responses(responses)
+        .createdAt(head.getCreatedAt())
+        .updatedAt(head.getUpdatedAt())
+        .build();
+  }
+
+  private String[] toCsvValues(ApplicationExportRow row) throws IOException {
+    return new String[]{
+        String.valueOf(row.getApplicationId()),
+        String.valueOf(row.getFormId()),
+        row.getFormTitle(),
+        String.valueOf(row.getProjectId()),
+        row.getProjectName(),
+        String.valueOf(row.getApplicantId()),
+        row.getApplicantName(),
+        row.getApplicantNickname(),
+        row.getApplicantPart() != null ? row.getApplicantPart().name() : null,
+        String.valueOf(row.getApplicantSchoolId()),
+        row.getApplicantSchoolName(),
+        String.valueOf(row.getMatchingRoundId()),
+        row.getMatchingRoundName(),
+        row.getStatus() != null ? row.getStatus().name() : null,
+        row.getCreatedAt() != null ? row.getCreatedAt().toString() : null,
+        row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null,
+        row.getQuestionId() != null ? String.valueOf(row.getQuestionId()) : null,
+        row.getQuestionTitle(),
+        // 값 안의 구분자와 헷갈리지 않도록 여러 값은 JSON 배열로 출력
+        row.getResponseValues() != null
+            ? objectMapper.writeValueAsString(row.getResponseValues()) : null
+    };
+  }
+
+  private void writeCsvLine(Writer writer, String[] values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(escapeCsv(values[i]));
+    }
+    writer.write("\r\n");
+  }
+
+  private String escapeCsv(String value) {
+    if (value == null) {
+      return "";
+    }
+    // CSV 수식 주입 방지: 수식으로 해석되는 값은 '를 붙여 문자열로 취급되게 함
+    if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+      value = "'" + value;
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
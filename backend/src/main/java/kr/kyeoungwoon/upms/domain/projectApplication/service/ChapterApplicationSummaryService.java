@@ -0,0 +1,141 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationBriefProjection;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Chapter별 챌린저 지원 현황 요약 조회
+ * <p>
+ * 챌린저, 매칭 라운드, 지원서 요약, 활성 프로젝트 멤버를 Chapter 단위로 각각 한 번씩만 조회한 뒤 메모리에서 ID 기준으로 조합합니다. 챕터 규모와 무관하게
+ * 쿼리 수가 고정됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChapterApplicationSummaryService {
+
+  private final ChapterRepository chapterRepository;
+  private final ChallengerRepository challengerRepository;
+  private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final ProjectMemberRepository projectMemberRepository;
+
+  /**
+   * Chapter의 모든 Challenger별 매칭 라운드 지원 현황 조회
+   *
+   * @param chapterId Chapter ID
+   * @return 챌린저별 매칭 라운드 지원 현황
+   */
+  public List<ProjectApplicationDto.ChallengerApplicationSummary> findChapterApplicationSummary(
+      Long chapterId) {
+    log.info("챕터별 챌린저 지원 현황 요약 조회 - chapterId: {}", chapterId);
+    // 1. Chapter 유효성 검증
+    if (!chapterRepository.existsById(chapterId)) {
+      throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
+    }
+
+    // 2. Chapter 단위 일괄 조회
+    List<Challenger> challengers = challengerRepository.findByChapterIdWithSchool(chapterId);
+    List<ProjectMatchingRound> matchingRounds = projectMatchingRoundRepository.findByChapterId(
+        chapterId);
+    List<ApplicationBriefProjection> briefs = projectApplicationRepository.findBriefsByChapterId(
+        chapterId);
+    List<ProjectMember> activeMembers = projectMemberRepository.findAllActiveByChapterId(
+        chapterId);
+
+    // 3. 챌린저 ID -> (매칭 라운드 ID -> 지원서 요약)
+    Map<Long, Map<Long, ProjectApplicationDto.ApplicationBrief>> briefsByChallenger =
+        new HashMap<>();
+    for (ApplicationBriefProjection brief : briefs) {
+      briefsByChallenger
+          .computeIfAbsent(brief.getApplicantId(), id -> new HashMap<>())
+          .putIfAbsent(brief.getMatchingRoundId(), toApplicationBrief(brief));
+    }
+
+    // 4. 챌린저 ID -> 소속 프로젝트 (활성 멤버 중 첫 번째)
+    Map<Long, ProjectApplicationDto.MemberProject> memberProjectByChallenger = new HashMap<>();
+    for (ProjectMember member : activeMembers) {
+      memberProjectByChallenger.putIfAbsent(member.getChallenger().getId(),
+          toMemberProject(member.getProject()));
+    }
+
+    log.info("챕터 지원 현황 요약 조합 - 챌린저: {}명, 매칭 라운드: {}개, 지원서: {}건, 활성 멤버: {}명",
+        challengers.size(), matchingRounds.size(), briefs.size(), activeMembers.size());
+
+    // 5. 메모리에서 조합
+    return challengers.stream()
+        .map(challenger -> buildSummary(challenger, matchingRounds,
+            briefsByChallenger.getOrDefault(challenger.getId(), Map.of()),
+            memberProjectByChallenger.get(challenger.getId())))
+        .toList();
+  }
+
+  private ProjectApplicationDto.ChallengerApplicationSummary buildSummary(
+      Challenger challenger,
+      List<ProjectMatchingRound> matchingRounds,
+      Map<Long, ProjectApplicationDto.ApplicationBrief> briefsByRound,
+      ProjectApplicationDto.MemberProject memberProject) {
+
+    // 각 매칭 라운드별로 지원 내역 구성 (지원하지 않은 경우 null)
+    List<ProjectApplicationDto.MatchingRoundApplications> roundApplications =
+        matchingRounds.stream()
+            .map(round -> ProjectApplicationDto.MatchingRoundApplications.builder()
+                .matchingRoundId(round.getId())
+                .matchingRoundName(round.getName())
+                .startAt(round.getStartAt())
+                .endAt(round.getEndAt())
+                .application(briefsByRound.get(round.getId()))
+                .build())
+            .toList();
+
+    return ProjectApplicationDto.ChallengerApplicationSummary.builder()
+        .challengerId(challenger.getId())
+        .challengerName(challenger.getName())
+        .challengerNickname(challenger.getNickname())
+        .challengerPart(challenger.getPart())
+        .challengerSchoolId(challenger.getSchool().getId())
+        .challengerSchoolName(challenger.getSchool().getName())
+        .memberProjects(memberProject)
+        .matchingRoundApplications(roundApplications)
+        .build();
+  }
+
+  private ProjectApplicationDto.ApplicationBrief toApplicationBrief(
+      ApplicationBriefProjection brief) {
+    return ProjectApplicationDto.ApplicationBrief.builder()
+        .applicationId(brief.getApplicationId())
+        .projectId(brief.getProjectId())
+        .projectName(brief.getProjectName())
+        .status(brief.getStatus())
+        .appliedAt(brief.getAppliedAt())
+        .build();
+  }
+
+  private ProjectApplicationDto.MemberProject toMemberProject(Project project) {
+    return ProjectApplicationDto.MemberProject.builder()
+        .projectId(project.getId())
+        .projectName(project.getName())
+        .projectDescription(project.getDescription())
+        .build();
+  }
+}
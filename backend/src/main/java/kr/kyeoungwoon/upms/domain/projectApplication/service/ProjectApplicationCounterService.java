@@ -0,0 +1,298 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplicationCounter;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationCounterRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationCountRow;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * (프로젝트, 파트, 매칭 라운드, 상태) 별 지원서 수 카운터 관리
+ * <p>
+ * 쓰기 메서드는 호출자의 트랜잭션에 참여(MANDATORY)하여 지원서 변경과 함께 커밋/롤백됩니다. 최소 선발 인원 등 규칙 검증은 지원서 테이블을 집계하는 대신
+ * 카운터 행을 읽습니다.
+ * <p>
+ * 한 트랜잭션에서 여러 카운터 행을 갱신할 때는 항상 (프로젝트, 파트, 차수, 상태) 순서로 갱신하여, 동시에 실행되는 트랜잭션끼리 행 잠금 순서가 엇갈려
+ * 교착 상태에 빠지지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ProjectApplicationCounterService {
+
+  private final ProjectApplicationCounterRepository counterRepository;
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
+  private final Counter driftCounter;
+  private final AtomicLong lastDriftKeyCount = new AtomicLong();
+
+  public ProjectApplicationCounterService(
+      ProjectApplicationCounterRepository counterRepository,
+      ProjectApplicationRepository projectApplicationRepository,
+      RoundQuotaSnapshotCache roundQuotaSnapshotCache,
+      MeterRegistry meterRegistry) {
+    this.counterRepository = counterRepository;
+    this.projectApplicationRepository = projectApplicationRepository;
+    this.roundQuotaSnapshotCache = roundQuotaSnapshotCache;
+    this.driftCounter = Counter.builder("upms.application.counter.drift")
+        .description("정합성 검증에서 보정된 지원서 카운터 키 수 (누적)")
+        .register(meterRegistry);
+    meterRegistry.gauge("upms.application.counter.drift.last", lastDriftKeyCount);
+  }
+
+  /**
+   * 신규 지원서 반영
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void increment(ProjectApplication application) {
+    increment(application.getForm().getProject().getId(), application.getApplicant().getPart(),
+        application.getMatchingRound().getId(), application.getStatus());
+  }
+
+  /**
+   * 신규 지원서 반영 (엔티티를 초기화하지 않고 ID 로 반영)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void increment(Long projectId, ChallengerPart part, Long matchingRoundId,
+      ApplicationStatus status) {
+    counterRepository.increment(projectId, part.name(), matchingRoundId, status.name(), 1L);
+    roundQuotaSnapshotCache.evict(matchingRoundId);
+  }
+
+  /**
+   * 지원서 상태 변경 반영 (이전 상태 -1, 새 상태 +1)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void move(ProjectApplication application, ApplicationStatus prevStatus,
+      ApplicationStatus newStatus) {
+    if (prevStatus == newStatus) {
+      return;
+    }
+    shiftInKeyOrder(application.getForm().getProject().getId(),
+        application.getApplicant().getPart(), application.getMatchingRound().getId(), prevStatus,
+        newStatus, 1L);
+
+    // 합격 상태가 바뀌면 프로젝트 멤버 수도 함께 바뀌므로 같은 Chapter의 다른 차수 스냅샷까지 무효화
+    if (prevStatus == ApplicationStatus.CONFIRMED || newStatus == ApplicationStatus.CONFIRMED) {
+      roundQuotaSnapshotCache.evictAll();
+    } else {
+      roundQuotaSnapshotCache.evict(application.getMatchingRound().getId());
+    }
+  }
+
+  /**
+   * 여러 지원서의 상태 변경을 한 번에 반영
+   * <p>
+   * 같은 카운터 키의 증감을 합산하므로 지원서 수와 무관하게 (프로젝트, 파트, 차수, 상태) 키 수만큼만 upsert 하며, 키 순서대로 upsert 합니다.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void moveAll(Collection<StatusMove> moves) {
+    Map<CounterKey, Long> deltas = new TreeMap<>(CounterKey.ORDER);
+    Set<Long> matchingRoundIds = new HashSet<>();
+    boolean confirmedChanged = false;
+
+    for (StatusMove move : moves) {
+      if (move.prevStatus() == move.newStatus()) {
+        continue;
+      }
+      ProjectApplication application = move.application();
+      Long projectId = application.getForm().getProject().getId();
+      ChallengerPart part = application.getApplicant().getPart();
+      Long matchingRoundId = application.getMatchingRound().getId();
+
+      deltas.merge(new CounterKey(projectId, part, matchingRoundId, move.prevStatus()), -1L,
+          Long::sum);
+      deltas.merge(new CounterKey(projectId, part, matchingRoundId, move.newStatus()), 1L,
+          Long::sum);
+      matchingRoundIds.add(matchingRoundId);
+      confirmedChanged |= move.prevStatus() == ApplicationStatus.CONFIRMED
+          || move.newStatus() == ApplicationStatus.CONFIRMED;
+    }
+
+    deltas.forEach((key, delta) -> {
+      if (delta != 0L) {
+        counterRepository.increment(key.projectId(), key.part().name(), key.matchingRoundId(),
+            key.status().name(), delta);
+      }
+    });
+
+    if (confirmedChanged) {
+      roundQuotaSnapshotCache.evictAll();
+    } else {
+      matchingRoundIds.forEach(roundQuotaSnapshotCache::evict);
+    }
+  }
+
+  /**
+   * 한 (프로젝트, 파트, 차수) 에서 count 건의 상태 변경을 한 번에 반영 (엔티티를 적재하지 않은 벌크 UPDATE 이후)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void shift(Long projectId, ChallengerPart part, Long matchingRoundId,
+      ApplicationStatus prevStatus, ApplicationStatus newStatus, long count) {
+    if (prevStatus == newStatus || count == 0L) {
+      return;
+    }
+    shiftInKeyOrder(projectId, part, matchingRoundId, prevStatus, newStatus, count);
+
+    if (prevStatus == ApplicationStatus.CONFIRMED || newStatus == ApplicationStatus.CONFIRMED) {
+      roundQuotaSnapshotCache.evictAll();
+    } else {
+      roundQuotaSnapshotCache.evict(matchingRoundId);
+    }
+  }
+
+  /**
+   * 지원서 삭제 반영
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void decrement(ProjectApplication application) {
+    apply(application, application.getStatus(), -1L);
+    roundQuotaSnapshotCache.evict(application.getMatchingRound().getId());
+  }
+
+  /**
+   * 특정 차수의 특정 상태 지원서 수
+   */
+  public long countOf(Long projectId, ChallengerPart part, Long matchingRoundId,
+      ApplicationStatus status) {
+    return counterRepository.sumByRoundAndStatus(projectId, part, matchingRoundId, status);
+  }
+
+  /**
+   * 특정 차수의 전체 지원서 수 (상태 무관)
+   */
+  public long countInRound(Long projectId, ChallengerPart part, Long matchingRoundId) {
+    return counterRepository.sumByRound(projectId, part, matchingRoundId);
+  }
+
+  /**
+   * 특정 차수를 제외한 다른 차수의 특정 상태 지원서 수
+   */
+  public long countInOtherRounds(Long projectId, ChallengerPart part, Long matchingRoundId,
+      ApplicationStatus status) {
+    return counterRepository.sumByOtherRoundsAndStatus(projectId, part, matchingRoundId, status);
+  }
+
+  /**
+   * 지원서 테이블을 한 번에 집계하여 카운터와 비교하고, 어긋난 키를 실제 값으로 보정
+   * <p>
+   * Challenger/Form 삭제 cascade 나 챌린저 파트 변경처럼 서비스 계층을 거치지 않는 변경으로 생긴 오차를 바로잡습니다.
+   * <p>
+   * 지원서 집계와 카운터를 같은 스냅샷에서 읽도록 REPEATABLE READ 로 실행합니다. 읽은 뒤에 다른 트랜잭션이 보정할 카운터 행을 바꾸고 커밋했으면 덮어쓰지
+   * 않고 직렬화 오류(ConcurrencyFailureException)로 롤백되므로, 그 사이의 제출/결정이 덮어쓰기로 사라지지 않습니다.
+   *
+   * @return 보정된 키 수
+   */
+  @Transactional(isolation = Isolation.REPEATABLE_READ)
+  public int reconcile() {
+    List<ApplicationCountRow> actualRows =
+        projectApplicationRepository.countGroupByProjectAndPartAndRoundAndStatus();
+    List<ProjectApplicationCounter> counters = counterRepository.findAll();
+
+    Map<CounterKey, Long> actual = new HashMap<>();
+    for (ApplicationCountRow row : actualRows) {
+      actual.put(new CounterKey(row.getProjectId(), row.getPart(), row.getMatchingRoundId(),
+          row.getStatus()), row.getApplicationCount());
+    }
+    Map<CounterKey, Long> stored = new HashMap<>();
+    for (ProjectApplicationCounter counter : counters) {
+      stored.put(new CounterKey(counter.getProjectId(), counter.getPart(),
+          counter.getMatchingRoundId(), counter.getStatus()), counter.getApplicationCount());
+    }
+
+    Set<CounterKey> keys = new TreeSet<>(CounterKey.ORDER);
+    keys.addAll(actual.keySet());
+    keys.addAll(stored.keySet());
+
+    int driftCount = 0;
+    for (CounterKey key : keys) {
+      long expected = actual.getOrDefault(key, 0L);
+      long current = stored.getOrDefault(key, 0L);
+      if (expected == current) {
+        continue;
+      }
+      log.warn("지원서 카운터 불일치 보정 - projectId: {}, part: {}, matchingRoundId: {}, status: {}, "
+              + "카운터: {}, 실제: {}", key.projectId(), key.part(), key.matchingRoundId(),
+          key.status(), current, expected);
+      counterRepository.overwrite(key.projectId(), key.part().name(), key.matchingRoundId(),
+          key.status().name(), expected);
+      driftCount++;
+    }
+
+    if (driftCount > 0) {
+      roundQuotaSnapshotCache.evictAll();
+    }
+    driftCounter.increment(driftCount);
+    lastDriftKeyCount.set(driftCount);
+    log.info("지원서 카운터 정합성 검증 완료 - 검사 키: {}개, 보정: {}개", keys.size(), driftCount);
+    return driftCount;
+  }
+
+  /**
+   * 같은 (프로젝트, 파트, 차수) 의 이전 상태 -count, 새 상태 +count 를 상태 순서대로 반영
+   */
+  private void shiftInKeyOrder(Long projectId, ChallengerPart part, Long matchingRoundId,
+      ApplicationStatus prevStatus, ApplicationStatus newStatus, long count) {
+    if (prevStatus.compareTo(newStatus) < 0) {
+      counterRepository.increment(projectId, part.name(), matchingRoundId, prevStatus.name(),
+          -count);
+      counterRepository.increment(projectId, part.name(), matchingRoundId, newStatus.name(),
+          count);
+    } else {
+      counterRepository.increment(projectId, part.name(), matchingRoundId, newStatus.name(),
+          count);
+      counterRepository.increment(projectId, part.name(), matchingRoundId, prevStatus.name(),
+          -count);
+    }
+  }
+
+  private void apply(ProjectApplication application, ApplicationStatus status, long delta) {
+    counterRepository.increment(
+        application.getForm().getProject().getId(),
+        application.getApplicant().getPart().name(),
+        application.getMatchingRound().getId(),
+        status.name(),
+        delta);
+  }
+
+  /**
+   * 지원서 상태 변경 한 건
+   */
+  public record StatusMove(ProjectApplication application, ApplicationStatus prevStatus,
+                           ApplicationStatus newStatus) {
+
+  }
+
+  private record CounterKey(Long projectId, ChallengerPart part, Long matchingRoundId,
+                            ApplicationStatus status) {
+
+    /**
+     * 카운터 행 갱신(잠금) 순서
+     */
+    private static final Comparator<CounterKey> ORDER = Comparator
+        .comparing(CounterKey::projectId)
+        .thenComparing(CounterKey::part)
+        .thenComparing(CounterKey::matchingRoundId)
+        .thenComparing(CounterKey::status);
+  }
+}
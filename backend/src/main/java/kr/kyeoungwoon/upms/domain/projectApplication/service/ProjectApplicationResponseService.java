@@ -1,6 +1,10 @@
 package kr.kyeoungwoon.upms.domain.projectApplication.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
 import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
 import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplicationResponse;
@@ -11,6 +15,8 @@ import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ApplicationF
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +31,7 @@ public class ProjectApplicationResponseService {
   private final ProjectApplicationResponseRepository projectApplicationResponseRepository;
   private final ProjectApplicationRepository projectApplicationRepository;
   private final ApplicationFormQuestionRepository applicationFormQuestionRepository;
+  private final KeysetPaginator keysetPaginator;
 
   @Transactional
   public ProjectApplicationResponseDto.Response create(
@@ -60,12 +67,21 @@ public class ProjectApplicationResponseService {
         .orElseThrow(() -> new DomainException(DomainType.PROJECT_APPLICATION,
             ErrorStatus.PROJECT_APPLICATION_NOT_FOUND));
 
+    // 질문은 한 번에 조회 (응답마다 조회하지 않음)
+    Set<Long> questionIds = request.responses().stream()
+        .map(ProjectApplicationResponseDto.SingleQuestionResponse::questionId)
+        .collect(Collectors.toSet());
+    Map<Long, ApplicationFormQuestion> questionsById = applicationFormQuestionRepository
+        .findAllById(questionIds).stream()
+        .collect(Collectors.toMap(ApplicationFormQuestion::getId, Function.identity()));
+
     List<ProjectApplicationResponse> responses = request.responses().stream()
         .map(item -> {
-          ApplicationFormQuestion question = applicationFormQuestionRepository.findById(
-                  item.questionId())
-              .orElseThrow(() -> new DomainException(DomainType.PROJECT_APPLICATION_FORM,
-                  ErrorStatus.APPLICATION_FORM_QUESTION_NOT_FOUND));
+          ApplicationFormQuestion question = questionsById.get(item.questionId());
+          if (question == null) {
+            throw new DomainException(DomainType.PROJECT_APPLICATION_FORM,
+                ErrorStatus.APPLICATION_FORM_QUESTION_NOT_FOUND);
+          }
 
           return ProjectApplicationResponse.builder()
               .application(application)
@@ -105,6 +121,17 @@ public class ProjectApplicationResponseService {
         .toList();
   }
 
+  /**
+   * 전체 지원서 답변 커서 기반 페이지 조회
+   */
+  public CursorPage<ProjectApplicationResponseDto.Response> findPage(String cursor, Integer size) {
+    log.info("지원서 답변 전체 페이지 조회 - cursor: {}, size: {}", cursor, size);
+    return keysetPaginator.paginate(ProjectApplicationResponse.class, cursor, size,
+        projectApplicationResponseRepository::findAllWithQuestionByIdIn,
+        ProjectApplicationResponse::getId,
+        this::toResponse);
+  }
+
   @Transactional
   public ProjectApplicationResponseDto.Response update(Long id,
       ProjectApplicationResponseDto.UpdateRequest request) {
@@ -1,38 +1,45 @@
 package kr.kyeoungwoon.upms.domain.projectApplication.service;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
 import kr.kyeoungwoon.upms.domain.project.entity.Project;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
-import kr.kyeoungwoon.upms.domain.project.entity.ProjectTo;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
-import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
+import kr.kyeoungwoon.upms.domain.project.service.ProjectToService;
 import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
 import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto.Response;
 import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
 import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
-import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplicationResponse;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.PartQuota;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaPolicy;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaRequirement;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshot;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
 import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
 import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationResponseRepository;
-import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
-import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
-import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ApplicationFormQuestionRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationResponseRowProjection;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ApplicationRowProjection;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ProjectApplicationFormRepository;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
-import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
 import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
 import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import kr.kyeoungwoon.upms.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,99 +52,59 @@ public class ProjectApplicationService {
   private final ProjectApplicationRepository projectApplicationRepository;
   private final ProjectApplicationFormRepository projectApplicationFormRepository;
   private final ChallengerRepository challengerRepository;
-  private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
   private final ProjectRepository projectRepository;
   private final ChapterRepository chapterRepository;
-  private final ProjectToRepository projectToRepository;
+  private final ProjectToService projectToService;
   private final ProjectApplicationResponseRepository projectApplicationResponseRepository;
-  private final ApplicationFormQuestionRepository applicationFormQuestionRepository;
   private final ProjectMemberRepository projectMemberRepository;
-
-  @Transactional
-  public ProjectApplicationDto.Response create(ProjectApplicationDto.CreateRequest request) {
-    log.info("프로젝트 지원서 생성 시작 - formId: {}, applicantId: {}, matchingRoundId: {}",
-        request.formId(), request.applicantId(), request.matchingRoundId());
-    ProjectApplicationForm form = projectApplicationFormRepository.findById(request.formId())
-        .orElseThrow(() -> new DomainException(DomainType.PROJECT_APPLICATION_FORM,
-            ErrorStatus.PROJECT_APPLICATION_FORM_NOT_FOUND));
-
-    Challenger applicant = challengerRepository.findById(request.applicantId())
-        .orElseThrow(() -> new DomainException(DomainType.PROJECT_APPLICATION,
-            ErrorStatus.PROJECT_APPLICATION_APPLICANT_NOT_FOUND));
-
-    ProjectMatchingRound matchingRound = projectMatchingRoundRepository.findById(
-            request.matchingRoundId())
-        .orElseThrow(() -> new DomainException(DomainType.PROJECT_MATCHING_ROUND,
-            ErrorStatus.MATCHING_ROUND_NOT_FOUND));
-
-    // 동일 차수 내 중복 지원 여부 검증
-    if (projectApplicationRepository.existsByApplicantAndMatchingRound(applicant,
-        matchingRound)) {
-      throw new DomainException(DomainType.PROJECT_APPLICATION,
-          ErrorStatus.PA_ALREADY_APPLIED);
-    }
-
-    ProjectApplication application = ProjectApplication.builder()
-        .form(form)
-        .applicant(applicant)
-        .matchingRound(matchingRound)
-        .status(request.status() != null ? request.status()
-            : kr.kyeoungwoon.upms.global.enums.ApplicationStatus.PENDING)
-        .build();
-
-    ProjectApplication saved = projectApplicationRepository.save(application);
-    log.info("프로젝트 지원서 저장 완료 - applicationId: {}", saved.getId());
-
-    // 2. ProjectApplicationResponse 저장 (responses가 있는 경우)
-    if (request.responses() != null && !request.responses().isEmpty()) {
-      List<ProjectApplicationResponse> responses = request.responses().stream()
-          .map(responseDto -> {
-            // Question 유효성 검증
-            ApplicationFormQuestion question =
-                applicationFormQuestionRepository.findById(responseDto.questionId())
-                    .orElseThrow(() -> new DomainException(
-                        DomainType.PROJECT_APPLICATION_FORM,
-                        ErrorStatus.APPLICATION_FORM_QUESTION_NOT_FOUND));
-
-            return ProjectApplicationResponse.builder()
-                .application(saved)
-                .question(question)
-                .values(responseDto.values())
-                .build();
-          })
-          .toList();
-
-      projectApplicationResponseRepository.saveAll(responses);
-    }
-
-    return toResponse(saved);
-  }
+  private final KeysetPaginator keysetPaginator;
+  private final ProjectApplicationCounterService projectApplicationCounterService;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
+  private final QuotaPolicy quotaPolicy;
 
   public ProjectApplicationDto.Response findById(Long id) {
     log.info("지원서 단건 조회 - id: {}", id);
-    ProjectApplication application = projectApplicationRepository.findByIdWithResponses(id)
+    ApplicationRowProjection row = projectApplicationRepository.findRowById(id)
         .orElseThrow(
             () -> new DomainException(DomainType.PROJECT_APPLICATION,
                 ErrorStatus.PROJECT_APPLICATION_NOT_FOUND));
-    return toResponse(application);
+    return toResponse(row);
   }
 
+  /**
+   * 지원서 목록 조회 (ID 순 최대 {@link KeysetPaginator#MAX_PAGE_SIZE}건)
+   * <p>
+   * 테이블 크기와 무관하게 응답 크기를 제한합니다. 전체 조회는 {@link #findPage} 를 사용합니다.
+   */
   public List<Response> findAll() {
-    log.info("지원서 전체 조회 실행");
-    return projectApplicationRepository.findAllWithResponses().stream()
+    log.info("지원서 목록 조회 실행 (최대 {}건)", KeysetPaginator.MAX_PAGE_SIZE);
+    return projectApplicationRepository.findAllRows(
+            PageRequest.of(0, KeysetPaginator.MAX_PAGE_SIZE)).stream()
         .map(this::toResponse)
         .toList();
   }
 
+  /**
+   * 전체 지원서 커서 기반 페이지 조회
+   *
+   * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+   * @param size   페이지 크기
+   */
+  public CursorPage<Response> findPage(String cursor, Integer size) {
+    log.info("지원서 전체 페이지 조회 - cursor: {}, size: {}", cursor, size);
+    return keysetPaginator.paginate(ProjectApplication.class, cursor, size,
+        projectApplicationRepository::findRowsByIdIn,
+        ApplicationRowProjection::getId,
+        this::toResponse);
+  }
+
   public List<ProjectApplicationDto.DetailResponse> findByFormId(Long formId) {
     log.info("특정 폼 지원서 조회 - formId: {}", formId);
     if (!projectApplicationFormRepository.existsById(formId)) {
       throw new DomainException(DomainType.PROJECT_APPLICATION_FORM,
           ErrorStatus.PROJECT_APPLICATION_FORM_NOT_FOUND);
     }
-    return projectApplicationRepository.findByFormIdWithResponses(formId).stream()
-        .map(this::toDetailResponse)
-        .toList();
+    return toDetailResponses(projectApplicationRepository.findRowsByFormId(formId));
   }
 
   /**
@@ -153,19 +120,8 @@ public class ProjectApplicationService {
       throw new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_FOUND);
     }
 
-    // 2. 프로젝트의 모든 폼 ID 수집
-    List<Long> formIds = projectApplicationFormRepository.findByProjectId(projectId).stream()
-        .map(ProjectApplicationForm::getId)
-        .toList();
-
-    if (formIds.isEmpty()) {
-      return List.of();
-    }
-
-    // 3. 모든 폼에 제출된 지원서 조회 (응답 포함)
-    return projectApplicationRepository.findByFormIdInWithResponses(formIds).stream()
-        .map(this::toDetailResponse)
-        .toList();
+    // 2. 프로젝트의 모든 폼에 제출된 지원서 조회 (응답 포함)
+    return toDetailResponses(projectApplicationRepository.findRowsByProjectId(projectId));
   }
 
   /**
@@ -181,28 +137,9 @@ public class ProjectApplicationService {
       throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
     }
 
-    // 2. Chapter에 속한 모든 프로젝트 조회
-    List<Project> projects = projectRepository.findByChapterId(chapterId);
-
-    if (projects.isEmpty()) {
-      return List.of();
-    }
-
-    // 3. 각 프로젝트의 모든 폼 ID 수집
-    List<Long> formIds = projects.stream()
-        .flatMap(
-            project -> projectApplicationFormRepository.findByProjectId(project.getId()).stream())
-        .map(ProjectApplicationForm::getId)
-        .toList();
-
-    if (formIds.isEmpty()) {
-      return List.of();
-    }
-
-    // 4. 모든 폼에 제출된 지원서 조회 (응답 포함)
-    return projectApplicationRepository.findByFormIdInWithResponses(formIds).stream()
-        .map(this::toDetailResponse)
-        .toList();
+    // 2. Chapter에 속한 모든 프로젝트의 지원서와 응답을 각각 chapterId 조건 한 번으로 조회
+    return toDetailResponses(projectApplicationRepository.findRowsByChapterId(chapterId),
+        projectApplicationResponseRepository.findRowsByChapterId(chapterId));
   }
 
   /**
@@ -219,213 +156,94 @@ public class ProjectApplicationService {
     }
 
     // 2. 챌린저가 제출한 모든 지원서 조회 (응답 포함)
-    return projectApplicationRepository.findByApplicantIdWithResponses(challengerId).stream()
-        .map(this::toDetailResponse)
-        .toList();
+    return toDetailResponses(projectApplicationRepository.findRowsByApplicantId(challengerId));
   }
 
-  /**
-   * Chapter의 모든 Challenger별 매칭 라운드 지원 현황 조회
-   *
-   * @param chapterId Chapter ID
-   * @return 챌린저별 매칭 라운드 지원 현황
-   */
-  public List<ProjectApplicationDto.ChallengerApplicationSummary> findChapterApplicationSummary(
-      Long chapterId) {
-    log.info("챕터별 챌린저 지원 현황 요약 조회 - chapterId: {}", chapterId);
-    // 1. Chapter 유효성 검증
-    if (!chapterRepository.existsById(chapterId)) {
-      throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
-    }
-
-    // 2. Chapter의 모든 Challenger 조회
-    List<Challenger> challengers = challengerRepository.findByChapterId(chapterId);
+  public ProjectApplicationDto.MinSelectionResponse getMinSelectionInMatchingRound(Long projectId,
+      ChallengerPart challengerPart,
+      Long matchingRoundId) {
 
-    // 3. Chapter의 모든 MatchingRound 조회
-    List<kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound> matchingRounds =
-        projectMatchingRoundRepository.findByChapterId(chapterId);
+    log.info("매칭 차수 최소 선발 인원 계산 - projectId: {}, part: {}, matchingRoundId: {}",
+        projectId, challengerPart, matchingRoundId);
+    PartQuota quota = findPartQuota(
+        roundQuotaSnapshotCache.get(matchingRoundId).find(projectId, challengerPart), projectId);
+    QuotaRequirement requirement = quotaPolicy.evaluate(quota);
 
-    // 4. 각 Challenger별로 매칭 라운드 지원 내역 구성
-    return challengers.stream()
-        .map(challenger -> buildChallengerApplicationSummary(challenger, matchingRounds))
-        .toList();
-  }
+    log.info("프로젝트 {} 파트 {} - 최대 TO: {}", projectId, challengerPart, quota.toCount());
 
-  private ProjectApplicationDto.ChallengerApplicationSummary buildChallengerApplicationSummary(
-      Challenger challenger,
-      List<kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound> matchingRounds) {
-
-    Optional<ProjectMember> pm = projectMemberRepository.findFirstActiveByChallengerId(
-        challenger.getId());
-
-    // 챌린저가 멤버로 속한 프로젝트 조회
-    ProjectApplicationDto.MemberProject memberProjects = pm.map(projectMember ->
-        ProjectApplicationDto.MemberProject.builder()
-            .projectId(projectMember.getProject().getId())
-            .projectName(projectMember.getProject().getName())
-            .projectDescription(projectMember.getProject().getDescription())
-            .build()
-    ).orElse(null);
-
-    // 각 매칭 라운드별로 지원 내역 구성
-    List<ProjectApplicationDto.MatchingRoundApplications> roundApplications =
-        matchingRounds.stream()
-            .map(round -> {
-              // 해당 챌린저가 이 라운드에 제출한 지원서 조회 (최대 1개)
-              ProjectApplicationDto.ApplicationBrief application =
-                  projectApplicationRepository.findByApplicantIdWithResponses(challenger.getId())
-                      .stream()
-                      .filter(app -> app.getMatchingRound().getId().equals(round.getId()))
-                      .findFirst()
-                      .map(app -> ProjectApplicationDto.ApplicationBrief.builder()
-                          .applicationId(app.getId())
-                          .projectId(app.getForm().getProject().getId())
-                          .projectName(app.getForm().getProject().getName())
-                          .status(app.getStatus())
-                          .appliedAt(app.getCreatedAt())
-                          .build())
-                      .orElse(null); // 지원하지 않은 경우 null
-
-              return ProjectApplicationDto.MatchingRoundApplications.builder()
-                  .matchingRoundId(round.getId())
-                  .matchingRoundName(round.getName())
-                  .startAt(round.getStartAt())
-                  .endAt(round.getEndAt())
-                  .application(application)
-                  .build();
-            })
-            .toList();
-
-    return ProjectApplicationDto.ChallengerApplicationSummary.builder()
-        .challengerId(challenger.getId())
-        .challengerName(challenger.getName())
-        .challengerNickname(challenger.getNickname())
-        .challengerPart(challenger.getPart())
-        .challengerSchoolId(challenger.getSchool().getId())
-        .challengerSchoolName(challenger.getSchool().getName())
-        .memberProjects(memberProjects)
-        .matchingRoundApplications(roundApplications)
+    return ProjectApplicationDto.MinSelectionResponse.builder()
+        .minSelectionCount(requirement.remainingCount())
+        .reason(toReason(requirement))
         .build();
   }
 
-  public ProjectApplicationDto.MinSelectionResponse getMinSelectionInMatchingRound(Long projectId,
-      ChallengerPart challengerPart,
+  /**
+   * 매칭 차수의 모든 프로젝트/파트 최소 선발 인원 일괄 계산
+   * <p>
+   * 차수 집계 스냅샷 하나로 계산하므로 프로젝트 x 파트 수와 무관하게 스냅샷 적재 쿼리만 실행됩니다.
+   *
+   * @param matchingRoundId 매칭 차수 ID
+   */
+  public List<ProjectApplicationDto.PartMinSelectionResponse> getMinSelectionsInMatchingRound(
       Long matchingRoundId) {
+    log.info("매칭 차수 전체 최소 선발 인원 계산 - matchingRoundId: {}", matchingRoundId);
+    RoundQuotaSnapshot snapshot = roundQuotaSnapshotCache.get(matchingRoundId);
+
+    return snapshot.all().stream()
+        .sorted(Comparator.comparing(PartQuota::projectId).thenComparing(PartQuota::part))
+        .map(quota -> {
+          QuotaRequirement requirement = quotaPolicy.evaluate(quota);
+          return ProjectApplicationDto.PartMinSelectionResponse.builder()
+              .projectId(quota.projectId())
+              .part(quota.part())
+              .toCount(quota.toCount())
+              .roundTo(requirement.roundTo())
+              .applicantCount(requirement.applicantCount())
+              .confirmedCount(requirement.confirmedCount())
+              .minSelectionCount(requirement.remainingCount())
+              .reason(toReason(requirement))
+              .build();
+        })
+        .toList();
+  }
 
-    log.info("매칭 차수 최소 선발 인원 계산 - projectId: {}, part: {}, matchingRoundId: {}",
-        projectId, challengerPart, matchingRoundId);
-    Project project = projectRepository.findById(projectId).orElseThrow(() -> new DomainException(
-        DomainType.PROJECT,
-        ErrorStatus.PROJECT_NOT_FOUND));
-
-    ProjectMatchingRound matchingRound = projectMatchingRoundRepository.findById(matchingRoundId)
-        .orElseThrow(() -> new DomainException(
-            DomainType.PROJECT_MATCHING_ROUND,
-            ErrorStatus.MATCHING_ROUND_NOT_FOUND
-        ));
-
-    // 주어진 파트의 TO 정보 조회
-    ProjectTo projectTo = projectToRepository.findByProject(
-            project)
-        .stream()
-        .filter(to -> to.getPart() == challengerPart)
-        .findFirst()
-        .orElseThrow(() -> new DomainException(DomainType.PROJECT,
-            ErrorStatus.PROJECT_TO_NOT_FOUND));
-
-    int maxTo = projectTo.getToCount();
-
-    log.info("프로젝트 {} 파트 {} - 최대 TO: {}",
-        project.getId(), challengerPart, maxTo);
-
-    List<ProjectMember> currentMembers = projectMemberRepository.findAllByProjectAndChallengerPart(
-        project, challengerPart);
-    List<Challenger> currentMatchingAppliedChallengers = projectApplicationRepository.findChallengersByProjectAndPartAndRound(
-        project, challengerPart, matchingRound);
-
-    // 기존에 팀 멤버였던 사람 수 (현재 매칭 차수가 아닌 차수에서 합격한 사람)
-    // 현재 프로젝트 멤버 중에서, 이번 매칭 차수에서 지원한 사람을 필터링 함 => 이번 차수에서 합격한 사람을 제외하고, 기존 합격자 수
-    long originalTeamMemberCount = currentMembers.stream()
-        .filter(member -> !currentMatchingAppliedChallengers.contains(member.getChallenger()))
-        .count();
-
-    // 매칭 차수에 지원한 총 인원 수
-    long currentMatchingApplicantCount = projectApplicationRepository.countByFormProjectAndApplicantPartAndMatchingRound(
-        project, challengerPart, matchingRound);
-
-    // 매칭 차수에서 합격한 인원 수
-    long currentMatchingConfirmedCount = projectApplicationRepository.countByFormProjectAndApplicantPartAndMatchingRoundAndStatus(
-        project, challengerPart, matchingRound, ApplicationStatus.CONFIRMED);
-
-    // 현재 매칭 차수에 할당된 TO 계산 (최대 TO - 기존 멤버 수)
-    long currentMatchingRoundTo = maxTo - originalTeamMemberCount;
-
-    long half = (long) Math.ceil(currentMatchingRoundTo * 0.5);
-    long quarter = (long) Math.ceil(currentMatchingRoundTo * 0.25);
-
-    // === 디자이너 매칭 로직 ===
-    if (challengerPart == ChallengerPart.DESIGN) {
-      // 최대 TO가 1명인 경우 최소 선발 인원 없음
-      if (currentMatchingApplicantCount <= 1) {
-        return ProjectApplicationDto.MinSelectionResponse
-            .builder()
-            .minSelectionCount(0L)
-            .reason("[디자인 파트] 지원자가 1명 이하인 경우 최소 선발 인원이 존재하지 않습니다. - 매칭 차수 지원 인원 :"
-                + currentMatchingApplicantCount + "명")
-            .build();
-      }
-      // 지원자 2명 이상이면 1명 이상 선택해야 함
-
-      return ProjectApplicationDto.MinSelectionResponse
-          .builder()
-          .minSelectionCount(1L)
-          .reason("[디자인 파트] 지원자가 2명 이상인 경우 최소 1명을 선발해야 합니다. - 매칭 차수 지원 인원: "
-              + currentMatchingApplicantCount + "명")
-          .build();
-    } else {
-      // === 개발자 및 기타 파트 매칭 로직 ===
-      // 지원자 >= TO인 경우: TO의 50% 이상 선택해야 함
-      if (currentMatchingApplicantCount >= currentMatchingRoundTo) {
-        // 이미 현재 차수에서 합격 시킨 인원을 최소 선발 인원에서 뺌
-        long minSelection = Math.max(0L, half - currentMatchingConfirmedCount);
-
-        return ProjectApplicationDto.MinSelectionResponse
-            .builder()
-            .minSelectionCount(minSelection)
-            .reason(
-                "[개발 파트] 지원자 수가 현재 매칭 차수에 부여된 TO 이상인 경우 TO의 50% 이상을 선발하여야 합니다. - 매칭 차수 지원 인원: "
-                    +
-                    currentMatchingApplicantCount + "명, 매칭 차수 TO: " + currentMatchingRoundTo
-                    + "명, 최소 선발 인원: " + half + "명, 추가로 합격시켜야 하는 인원: " + minSelection + "명)")
-            .build();
-      }
-      // 지원자 > TO의 50%인 경우: TO의 25% 이상 선택해야 함
-      else if (currentMatchingApplicantCount > half) {
-        // 이미 현재 차수에서 합격 시킨 인원을 최소 선발 인원에서 뺌
-        long minSelection = Math.max(0L, quarter - currentMatchingConfirmedCount);
-
-        return ProjectApplicationDto.MinSelectionResponse
-            .builder()
-            .minSelectionCount(minSelection)
-            .reason(
-                "[개발 파트] 지원자 수가 현재 매칭 차수에 부여된 TO의 50% 이상인 경우 TO의 25% 이상을 선발하여야 합니다. - 매칭 차수 지원 인원: "
-                    +
-                    currentMatchingApplicantCount + "명, 현재 매칭 차수 TO: " + currentMatchingRoundTo
-                    + "명, 최소 선발 인원: " + quarter + "명, 추가로 합격시켜야 하는 인원: " + minSelection + "명)")
-            .build();
-      }
-      // 지원자 <= TO의 50%인 경우: 제한 없음 (minSelection = 0)
-
-      return ProjectApplicationDto.MinSelectionResponse
-          .builder()
-          .minSelectionCount(0L)
-          .reason(
-              "[개발 파트] 지원자 수가 현재 매칭 차수에 부여된 TO의 50% 미만인 경우 최소 선발 인원이 존재하지 않습니다. - 현재 매칭 차수 지원 인원: "
-                  +
-                  currentMatchingApplicantCount + "명, 현재 매칭 차수 TO: " + currentMatchingRoundTo
-                  + "명, 최소 선발 인원: 0명)")
-          .build();
-    }
+  /**
+   * 조회한 프로젝트 파트 집계 확인
+   * <p>
+   * TO 가 없는 경우에만 프로젝트 존재 여부를 확인하여 에러를 구분합니다.
+   */
+  private PartQuota findPartQuota(Optional<PartQuota> quota, Long projectId) {
+    return quota
+        .orElseThrow(() -> {
+          if (!projectRepository.existsById(projectId)) {
+            return new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_FOUND);
+          }
+          return new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_TO_NOT_FOUND);
+        });
+  }
+
+  private String toReason(QuotaRequirement requirement) {
+    long applicantCount = requirement.applicantCount();
+    long roundTo = requirement.roundTo();
+    return switch (requirement.rule()) {
+      case DESIGN_NONE -> "[디자인 파트] TO가 1명 이하이거나 지원자가 1명 이하인 경우 최소 선발 인원이 존재하지 않습니다. - 매칭 차수 지원 인원: "
+          + applicantCount + "명";
+      case DESIGN_ONE -> "[디자인 파트] 지원자가 2명 이상인 경우 최소 1명을 선발해야 합니다. - 매칭 차수 지원 인원: "
+          + applicantCount + "명, 추가로 합격시켜야 하는 인원: " + requirement.remainingCount() + "명";
+      case HALF ->
+          "[개발 파트] 지원자 수가 현재 매칭 차수에 부여된 TO 이상인 경우 TO의 50% 이상을 선발하여야 합니다. - 매칭 차수 지원 인원: "
+              + applicantCount + "명, 매칭 차수 TO: " + roundTo
+              + "명, 최소 선발 인원: " + requirement.requiredCount() + "명, 추가로 합격시켜야 하는 인원: "
+              + requirement.remainingCount() + "명)";
+      case QUARTER ->
+          "[개발 파트] 지원자 수가 현재 매칭 차수에 부여된 TO의 50% 이상인 경우 TO의 25% 이상을 선발하여야 합니다. - 매칭 차수 지원 인원: "
+              + applicantCount + "명, 현재 매칭 차수 TO: " + roundTo
+              + "명, 최소 선발 인원: " + requirement.requiredCount() + "명, 추가로 합격시켜야 하는 인원: "
+              + requirement.remainingCount() + "명)";
+      case NONE ->
+          "[개발 파트] 지원자 수가 현재 매칭 차수에 부여된 TO의 50% 미만인 경우 최소 선발 인원이 존재하지 않습니다. - 현재 매칭 차수 지원 인원: "
+              + applicantCount + "명, 현재 매칭 차수 TO: " + roundTo + "명, 최소 선발 인원: 0명)";
+    };
   }
 
   /**
@@ -441,76 +259,30 @@ public class ProjectApplicationService {
       return;
     }
 
-    Project project = application.getForm().getProject();
+    Long projectId = application.getForm().getProject().getId();
     // 지원자 파트
     ChallengerPart applicantPart = application.getApplicant().getPart();
-    ProjectMatchingRound matchingRound = application.getMatchingRound();
-
-    // 1. 해당 파트의 TO 정보 조회
-    ProjectTo projectTo = projectToRepository.findByProject(
-            project)
-        .stream()
-        .filter(to -> to.getPart() == applicantPart)
-        .findFirst()
-        .orElseThrow(() -> new DomainException(DomainType.PROJECT,
-            ErrorStatus.PROJECT_TO_NOT_FOUND));
-
-    int maxTo = projectTo.getToCount();
-
-    // 2. 이전 차수에서 이미 합격한 팀원 수 (기존 팀 멤버)
-    long originalTeamMemberCount = projectApplicationRepository.countByFormProjectAndApplicantPartAndMatchingRoundNotAndStatus(
-        project, applicantPart, matchingRound, ApplicationStatus.CONFIRMED);
 
-    // 3. 현재 차수의 총 지원자 수 (PENDING 상태)
-    long totalApplicants = projectApplicationRepository.countByFormProjectAndApplicantPartAndMatchingRoundAndStatus(
-        project, applicantPart, matchingRound, ApplicationStatus.PENDING);
-
-    // 4. 현재 차수에서 이미 합격한 인원 수
-    long currentMatchingConfirmedCount = projectApplicationRepository.countByFormProjectAndApplicantPartAndMatchingRoundAndStatus(
-        project, applicantPart, matchingRound, ApplicationStatus.CONFIRMED);
-
-    // 5. 현재 차수에 할당된 TO
-    long currentMatchingRoundTo = maxTo - originalTeamMemberCount;
+    // 상태 변경 트랜잭션에서 판단하므로 캐시된 스냅샷이 아닌 현재 집계 값을 사용
+    PartQuota quota = findPartQuota(roundQuotaSnapshotCache.loadPart(
+        application.getMatchingRound().getId(), projectId, applicantPart), projectId);
+    QuotaRequirement requirement = quotaPolicy.evaluate(quota);
 
     log.info(
-        "거절 가능 검증 | 프로젝트: {}, 파트: {}, 최대 TO: {}, 기존 팀원: {}, 현재 차수 TO: {}, 총 지원자: {}, 현재 합격: {}",
-        project.getId(), applicantPart, maxTo, originalTeamMemberCount, currentMatchingRoundTo,
-        totalApplicants, currentMatchingConfirmedCount);
-
-    // === 디자이너 매칭 로직 ===
-    if (applicantPart == ChallengerPart.DESIGN) {
-      // 최대 TO가 1명인 경우 무조건 거절 가능
-      if (maxTo == 1) {
-        return;
-      }
+        "거절 가능 검증 | 프로젝트: {}, 파트: {}, 최대 TO: {}, 기존 팀원: {}, 현재 차수 TO: {}, 총 지원자: {}, 현재 합격: {}, 규칙: {}",
+        projectId, applicantPart, quota.toCount(), quota.originalMemberCount(),
+        requirement.roundTo(), requirement.applicantCount(), requirement.confirmedCount(),
+        requirement.rule());
 
-      // 지원자 2명 이상이면 1명 이상 선택해야 함
-      if (totalApplicants >= 2 && currentMatchingConfirmedCount < 1) {
-        throw new DomainException(DomainType.PROJECT_APPLICATION,
-            ErrorStatus.PA_REJECT_NEED_MIN_SELECTION);
-      }
-    }
-    // === 개발자 및 기타 파트 매칭 로직 ===
-    else {
-      long halfTo = (long) Math.ceil(currentMatchingRoundTo * 0.5);
-      long quarterTo = (long) Math.ceil(currentMatchingRoundTo * 0.25);
-
-      // 지원자 >= TO인 경우: TO의 50% 이상 선택해야 함
-      if (totalApplicants >= currentMatchingRoundTo) {
-        if (currentMatchingConfirmedCount < halfTo) {
-          throw new DomainException(DomainType.PROJECT_APPLICATION,
-              ErrorStatus.PA_REJECT_NEED_HALF_SELECTION);
-        }
-      }
-      // 지원자 > TO의 50%인 경우: TO의 25% 이상 선택해야 함
-      else if (totalApplicants > halfTo) {
-        if (currentMatchingConfirmedCount < quarterTo) {
-          throw new DomainException(DomainType.PROJECT_APPLICATION,
-              ErrorStatus.PA_REJECT_NEED_QUARTER_SELECTION);
-        }
-      }
-      // 지원자 <= TO의 50%인 경우: 제한 없음
+    if (requirement.isSatisfied()) {
+      return;
     }
+
+    throw new DomainException(DomainType.PROJECT_APPLICATION, switch (requirement.rule()) {
+      case HALF -> ErrorStatus.PA_REJECT_NEED_HALF_SELECTION;
+      case QUARTER -> ErrorStatus.PA_REJECT_NEED_QUARTER_SELECTION;
+      default -> ErrorStatus.PA_REJECT_NEED_MIN_SELECTION;
+    });
   }
 
 
@@ -626,41 +398,18 @@ public class ProjectApplicationService {
             ErrorStatus.PROJECT_APPLICATION_STATUS_CHANGE_ALREADY_MEMBER);
       }
 
-      // 프로젝트 TO가 남아있는지 확인
-      ChallengerPart applicantPart = applicant.getPart();
-
-      // 1. 해당 파트의 TO 조회
-      ProjectTo projectTo =
-          projectToRepository.findByProjectAndPart(project, applicantPart)
-              .orElseThrow(() -> new DomainException(DomainType.PROJECT,
-                  ErrorStatus.PROJECT_TO_NOT_FOUND));
-
-      int maxTo = projectTo.getToCount();
-
-      // 2. 현재 해당 파트의 멤버 수 조회
-      long currentMemberCount = projectMemberRepository.countByProjectAndChallengerPart(
-          project, applicantPart);
-
-      // 3. TO 초과 여부 확인
-      if (currentMemberCount >= maxTo) {
+      // TO 행을 잠근 상태에서 인원 확인 + 멤버 추가 (동시 합격 처리로 TO 를 초과하지 않도록)
+      if (!projectToService.tryAssignMember(project, applicant)) {
         throw new DomainException(DomainType.PROJECT_APPLICATION,
             ErrorStatus.PA_CANNOT_EXCEED_TO_COUNT);
       }
-
-      log.info("프로젝트 {} 파트 {} - 현재 멤버: {}/{}",
-          project.getId(), applicantPart, currentMemberCount, maxTo);
-
-      ProjectMember newMember = ProjectMember.builder()
-          .project(project)
-          .challenger(applicant)
-          .build();
-      projectMemberRepository.save(newMember);
     }
 
     // ==========================================
     // [최종] 상태 업데이트 (Dirty Checking 사용)
     // ==========================================
     // 굳이 save()를 다시 호출하거나 객체를 새로 만들 필요 없음
+    projectApplicationCounterService.move(application, prevStatus, newStatus);
     application.updateStatus(newStatus);
 
     return toResponse(application);
@@ -669,11 +418,11 @@ public class ProjectApplicationService {
   @Transactional
   public void delete(Long id) {
     log.info("지원서 삭제 요청 - id: {}", id);
-    if (!projectApplicationRepository.existsById(id)) {
-      throw new DomainException(DomainType.PROJECT_APPLICATION,
-          ErrorStatus.PROJECT_APPLICATION_NOT_FOUND);
-    }
-    projectApplicationRepository.deleteById(id);
+    ProjectApplication application = projectApplicationRepository.findById(id)
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT_APPLICATION,
+            ErrorStatus.PROJECT_APPLICATION_NOT_FOUND));
+    projectApplicationCounterService.decrement(application);
+    projectApplicationRepository.delete(application);
   }
 
   private ProjectApplicationDto.Response toResponse(ProjectApplication application) {
@@ -697,41 +446,87 @@ public class ProjectApplicationService {
         .build();
   }
 
-  private ProjectApplicationDto.DetailResponse toDetailResponse(ProjectApplication application) {
-    List<ProjectApplicationResponseDto.Response> responses =
-        application.getApplicationResponses().stream()
+  private ProjectApplicationDto.Response toResponse(ApplicationRowProjection row) {
+    return ProjectApplicationDto.Response.builder()
+        .id(row.getId())
+        .formId(row.getFormId())
+        .formTitle(row.getFormTitle())
+        .projectId(row.getProjectId())
+        .projectName(row.getProjectName())
+        .applicantId(row.getApplicantId())
+        .applicantName(row.getApplicantName())
+        .applicantNickname(row.getApplicantNickname())
+        .applicantPart(row.getApplicantPart())
+        .applicantSchoolId(row.getApplicantSchoolId())
+        .applicantSchoolName(row.getApplicantSchoolName())
+        .matchingRoundId(row.getMatchingRoundId())
+        .matchingRoundName(row.getMatchingRoundName())
+        .status(row.getStatus())
+        .createdAt(row.getCreatedAt())
+        .updatedAt(row.getUpdatedAt())
+        .build();
+  }
+
+  /**
+   * 지원서 Projection 목록에 응답을 붙여 DetailResponse 로 변환
+   * <p>
+   * 응답은 지원서 ID 목록으로 한 번에 조회합니다.
+   */
+  private List<ProjectApplicationDto.DetailResponse> toDetailResponses(
+      List<ApplicationRowProjection> rows) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> applicationIds = rows.stream().map(ApplicationRowProjection::getId).toList();
+    return toDetailResponses(rows,
+        projectApplicationResponseRepository.findRowsByApplicationIdIn(applicationIds));
+  }
+
+  private List<ProjectApplicationDto.DetailResponse> toDetailResponses(
+      List<ApplicationRowProjection> rows, List<ApplicationResponseRowProjection> responseRows) {
+    Map<Long, List<ProjectApplicationResponseDto.Response>> responsesByApplicationId =
+        responseRows.stream()
             .map(this::toResponseDto)
-            .toList();
+            .collect(Collectors.groupingBy(ProjectApplicationResponseDto.Response::applicationId));
 
+    return rows.stream()
+        .map(row -> toDetailResponse(row,
+            responsesByApplicationId.getOrDefault(row.getId(), List.of())))
+        .toList();
+  }
+
+  private ProjectApplicationDto.DetailResponse toDetailResponse(ApplicationRowProjection row,
+      List<ProjectApplicationResponseDto.Response> responses) {
     return ProjectApplicationDto.DetailResponse.builder()
-        .id(application.getId())
-        .formId(application.getForm().getId())
-        .formTitle(application.getForm().getTitle())
-        .projectId(application.getForm().getProject().getId())
-        .projectName(application.getForm().getProject().getName())
-        .applicantId(application.getApplicant().getId())
-        .applicantName(application.getApplicant().getName())
-        .applicantNickname(application.getApplicant().getNickname())
-        .applicantPart(application.getApplicant().getPart())
-        .applicantSchoolId(application.getApplicant().getSchool().getId())
-        .applicantSchoolName(application.getApplicant().getSchool().getName())
-        .matchingRoundId(application.getMatchingRound().getId())
-        .matchingRoundName(application.getMatchingRound().getName())
-        .status(application.getStatus())
+        .id(row.getId())
+        .formId(row.getFormId())
+        .formTitle(row.getFormTitle())
+        .projectId(row.getProjectId())
+        .projectName(row.getProjectName())
+        .applicantId(row.getApplicantId())
+        .applicantName(row.getApplicantName())
+        .applicantNickname(row.getApplicantNickname())
+        .applicantPart(row.getApplicantPart())
+        .applicantSchoolId(row.getApplicantSchoolId())
+        .applicantSchoolName(row.getApplicantSchoolName())
+        .matchingRoundId(row.getMatchingRoundId())
+        .matchingRoundName(row.getMatchingRoundName())
+        .status(row.getStatus())
         .responses(responses)
-        .createdAt(application.getCreatedAt())
-        .updatedAt(application.getUpdatedAt())
+        .createdAt(row.getCreatedAt())
+        .updatedAt(row.getUpdatedAt())
         .build();
   }
 
   private ProjectApplicationResponseDto.Response toResponseDto(
-      ProjectApplicationResponse response) {
+      ApplicationResponseRowProjection response) {
     return ProjectApplicationResponseDto.Response.builder()
         .id(response.getId())
-        .applicationId(response.getApplication().getId())
-        .questionId(response.getQuestion().getId())
-        .questionTitle(response.getQuestion().getTitle())
-        .values(response.getValues())
+        .applicationId(response.getApplicationId())
+        .questionId(response.getQuestionId())
+        .questionTitle(response.getQuestionTitle())
+        .values(response.getResponseValues())
         .createdAt(response.getCreatedAt())
         .updatedAt(response.getUpdatedAt())
         .build();
@@ -7,6 +7,7 @@ import kr.kyeoungwoon.upms.domain.project.service.ProjectService;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.dto.ProjectApplicationFormDto;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.service.ProjectApplicationFormService;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
 import kr.kyeoungwoon.upms.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,7 +57,7 @@ public class ProjectApplicationFormController {
 
   @Operation(
       summary = "지원서 폼 목록 조회",
-      description = "제공된 Project ID에 따라서 해당 프로젝트의 폼만 조회합니다")
+      description = "제공된 Project ID에 따라서 해당 프로젝트의 폼만 조회합니다. 전체 폼은 페이지 조회(/page)를 사용합니다")
   @GetMapping
   public ApiResponse<List<ProjectApplicationFormDto.Response>> getForms(
       @io.swagger.v3.oas.annotations.Parameter(description = "프로젝트 ID", example = "1")
@@ -65,6 +66,19 @@ public class ProjectApplicationFormController {
     return ApiResponse.onSuccess(projectApplicationFormService.findAll(projectId));
   }
 
+  @Operation(
+      summary = "지원서 폼 페이지 조회",
+      description = "전체 지원서 폼을 커서 기반 페이지로 조회합니다")
+  @GetMapping("/page")
+  public ApiResponse<CursorPage<ProjectApplicationFormDto.Response>> getFormPage(
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 커서 (첫 페이지는 생략, 이전 응답의 nextCursor)")
+      @RequestParam(required = false) String cursor,
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+      @RequestParam(required = false) Integer size) {
+    log.info("지원서 폼 페이지 조회 요청 - cursor: {}, size: {}", cursor, size);
+    return ApiResponse.onSuccess(projectApplicationFormService.findPage(cursor, size));
+  }
+
   @Operation(summary = "지원서 폼 수정", description = "지원서 폼 정보를 수정합니다")
   @PutMapping("/{id}")
   public ApiResponse<ProjectApplicationFormDto.Response> updateForm(
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import kr.kyeoungwoon.upms.global.entity.BaseEntity;
 import kr.kyeoungwoon.upms.global.enums.QuestionType;
@@ -30,7 +31,9 @@ import org.hibernate.type.SqlTypes;
 public class ApplicationFormQuestion extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "form_question_seq")
+  @SequenceGenerator(name = "form_question_seq", sequenceName = "form_question_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
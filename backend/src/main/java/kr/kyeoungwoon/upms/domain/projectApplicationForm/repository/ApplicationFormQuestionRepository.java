@@ -1,5 +1,6 @@
 package kr.kyeoungwoon.upms.domain.projectApplicationForm.repository;
 
+import java.util.Collection;
 import java.util.List;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,4 +24,9 @@ public interface ApplicationFormQuestionRepository extends
    * 특정 폼의 모든 질문 조회
    */
   List<ApplicationFormQuestion> findByFormId(Long formId);
+
+  /**
+   * 특정 폼에 속한 질문을 ID 목록으로 일괄 조회
+   */
+  List<ApplicationFormQuestion> findByFormIdAndIdIn(Long formId, Collection<Long> ids);
 }
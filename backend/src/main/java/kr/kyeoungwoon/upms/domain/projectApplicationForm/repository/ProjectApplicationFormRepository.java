@@ -3,6 +3,8 @@ package kr.kyeoungwoon.upms.domain.projectApplicationForm.repository;
 import java.util.List;
 import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +15,12 @@ public interface ProjectApplicationFormRepository extends
    * 특정 프로젝트의 지원서 폼 목록 조회
    */
   List<ProjectApplicationForm> findByProjectId(Long projectId);
+
+  /**
+   * ID 목록으로 지원서 폼 조회 (Keyset 페이지네이션 2단계, 프로젝트 fetch join)
+   */
+  @Query("SELECT f FROM ProjectApplicationForm f "
+      + "JOIN FETCH f.project "
+      + "WHERE f.id IN :ids")
+  List<ProjectApplicationForm> findAllWithProjectByIdIn(@Param("ids") List<Long> ids);
 }
@@ -9,6 +9,8 @@ import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ProjectAppli
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ public class ProjectApplicationFormService {
 
   private final ProjectApplicationFormRepository projectApplicationFormRepository;
   private final ProjectRepository projectRepository;
+  private final KeysetPaginator keysetPaginator;
 
   @Transactional
   public ProjectApplicationFormDto.Response create(
@@ -71,6 +74,17 @@ public class ProjectApplicationFormService {
         .toList();
   }
 
+  /**
+   * 전체 지원서 폼 커서 기반 페이지 조회
+   */
+  public CursorPage<ProjectApplicationFormDto.Response> findPage(String cursor, Integer size) {
+    log.info("지원서 폼 전체 페이지 조회 - cursor: {}, size: {}", cursor, size);
+    return keysetPaginator.paginate(ProjectApplicationForm.class, cursor, size,
+        projectApplicationFormRepository::findAllWithProjectByIdIn,
+        ProjectApplicationForm::getId,
+        this::toResponse);
+  }
+
   @Transactional
   public ProjectApplicationFormDto.Response update(Long id,
       ProjectApplicationFormDto.UpdateRequest request) {
@@ -0,0 +1,101 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import kr.kyeoungwoon.upms.global.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자동 합/불 처리 전인 매칭 라운드의 결정 마감 시각 우선순위 큐
+ * <p>
+ * 마감이 가장 빠른 라운드가 맨 앞에 오므로 마감 확인은 DB 조회 없이 큐의 앞부분만 확인합니다. 마감이 바뀐 라운드는 새 항목을 추가하고, 이전 항목은 꺼낼 때
+ * 현재 마감과 다르면 버립니다.
+ */
+@Slf4j
+@Component
+public class AutoDecisionDeadlineQueue {
+
+  private final PriorityQueue<Entry> queue = new PriorityQueue<>(
+      Comparator.comparing(Entry::deadline).thenComparing(Entry::roundId));
+  private final Map<Long, Instant> deadlines = new HashMap<>();
+
+  public AutoDecisionDeadlineQueue(MeterRegistry meterRegistry) {
+    meterRegistry.gauge("upms.auto-decision.scheduled.rounds", this,
+        AutoDecisionDeadlineQueue::size);
+  }
+
+  /**
+   * 라운드 마감 등록 (트랜잭션 안이면 커밋 후 반영)
+   */
+  public void schedule(Long roundId, Instant deadline) {
+    if (deadline == null) {
+      cancel(roundId);
+      return;
+    }
+    AfterCommit.runOrNow(() -> put(roundId, deadline));
+  }
+
+  /**
+   * 라운드 마감 취소 (트랜잭션 안이면 커밋 후 반영)
+   */
+  public void cancel(Long roundId) {
+    AfterCommit.runOrNow(() -> remove(roundId));
+  }
+
+  /**
+   * DB 에서 읽은 마감 목록 병합 (시작 시 적재 및 주기적 보정)
+   * <p>
+   * 기존 항목을 지우지 않고 덮어쓰므로, 적재 도중 등록된 라운드도 유지됩니다.
+   */
+  public synchronized void mergeAll(Map<Long, Instant> loaded) {
+    loaded.forEach(this::put);
+    log.info("자동 합/불 처리 마감 큐 적재 - 적재: {}개, 대기 라운드: {}개", loaded.size(),
+        deadlines.size());
+  }
+
+  /**
+   * 마감이 지난 라운드 ID 를 큐에서 꺼냄
+   */
+  public synchronized List<Long> pollDue(Instant now) {
+    List<Long> dueRoundIds = new ArrayList<>();
+    while (!queue.isEmpty() && !queue.peek().deadline().isAfter(now)) {
+      Entry entry = queue.poll();
+      // 마감이 변경되었거나 취소된 라운드의 이전 항목은 버림
+      if (entry.deadline().equals(deadlines.get(entry.roundId()))) {
+        deadlines.remove(entry.roundId());
+        dueRoundIds.add(entry.roundId());
+      }
+    }
+    return dueRoundIds;
+  }
+
+  public synchronized int size() {
+    return deadlines.size();
+  }
+
+  private synchronized void put(Long roundId, Instant deadline) {
+    if (deadline.equals(deadlines.put(roundId, deadline))) {
+      return;
+    }
+    queue.add(new Entry(roundId, deadline));
+    // 취소/변경으로 버려질 항목이 너무 많이 쌓이면 정리
+    if (queue.size() > deadlines.size() * 2 + 64) {
+      queue.removeIf(entry -> !entry.deadline().equals(deadlines.get(entry.roundId())));
+    }
+  }
+
+  private synchronized void remove(Long roundId) {
+    deadlines.remove(roundId);
+  }
+
+  private record Entry(Long roundId, Instant deadline) {
+
+  }
+}
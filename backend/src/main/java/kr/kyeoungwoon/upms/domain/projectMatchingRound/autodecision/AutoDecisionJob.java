@@ -0,0 +1,182 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundAutoDecisionService;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundPlacementService;
+import kr.kyeoungwoon.upms.global.lease.ClusterLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마감이 지난 매칭 라운드 자동 합/불 처리 실행
+ * <p>
+ * 라운드마다 제한된 수의 가상 스레드에서 병렬 처리합니다. 한 라운드가 실패해도 다른 라운드에는 영향을 주지 않으며, 결정 마감이 겹친 여러 Chapter 가
+ * 동시에 처리됩니다.
+ * <p>
+ * 라운드 하나는 (프로젝트, 파트) 단위 트랜잭션으로 나눠 처리하며, 처리하는 동안 라운드 리스를 유지하여 여러 인스턴스가 같은 라운드를 동시에 처리하지 않도록
+ * 합니다. 리스를 얻지 못한 라운드는 기다리지 않고 건너뛰므로 인스턴스들이 라운드를 나눠서 처리합니다. 중간에 실패하면 이미 커밋된 파트는 유지되고, 다음 실행에서
+ * 남은 파트부터 같은 시드로 이어서 처리합니다.
+ * <p>
+ * 미배정 챌린저 배정이 켜져 있으면 Chapter 의 마지막 라운드를 처리한 뒤 남은 TO 에 미배정 챌린저를 배정합니다. 배정이 실패해도 라운드 처리 결과는
+ * 유지됩니다. 결정 마감이 없는 라운드는 지원 기간이 끝나고 대기 지원서가 없으면 배정을 막지 않습니다. 배정은 자동 합/불 처리가 끝날 때만 시도하므로 결정 마감이 있는
+ * 라운드가 하나도 없는 Chapter 에서는 실행되지 않습니다.
+ */
+@Slf4j
+@Component
+public class AutoDecisionJob {
+
+  private static final String METRIC_PREFIX = "upms.auto-decision";
+  private static final String LEASE_NAMESPACE = "auto-decision-round";
+
+  private final ProjectMatchingRoundAutoDecisionService autoDecisionService;
+  private final ProjectMatchingRoundPlacementService placementService;
+  private final ClusterLease clusterLease;
+  private final ExecutorService executor;
+  private final Set<Long> inFlightRoundIds = ConcurrentHashMap.newKeySet();
+  private final int parallelism;
+  private final boolean placementEnabled;
+  private final Timer jobTimer;
+  private final Timer roundTimer;
+  private final Counter succeededCounter;
+  private final Counter failedCounter;
+  private final Counter skippedCounter;
+
+  public AutoDecisionJob(
+      ProjectMatchingRoundAutoDecisionService autoDecisionService,
+      ProjectMatchingRoundPlacementService placementService,
+      ClusterLease clusterLease,
+      @Value("${upms.auto-decision.parallelism:4}") int parallelism,
+      @Value("${upms.auto-decision.placement.enabled:false}") boolean placementEnabled,
+      MeterRegistry meterRegistry) {
+    this.autoDecisionService = autoDecisionService;
+    this.placementService = placementService;
+    this.clusterLease = clusterLease;
+    this.parallelism = parallelism;
+    this.placementEnabled = placementEnabled;
+    // 라운드 하나가 커넥션 두 개(리스, 트랜잭션)를 사용하므로 동시 실행 수를 제한
+    this.executor = Executors.newFixedThreadPool(parallelism,
+        Thread.ofVirtual().name("auto-decision-", 0).factory());
+
+    this.jobTimer = Timer.builder(METRIC_PREFIX + ".job")
+        .description("자동 합/불 처리 작업 전체 소요 시간")
+        .register(meterRegistry);
+    this.roundTimer = Timer.builder(METRIC_PREFIX + ".round")
+        .description("매칭 라운드 하나의 자동 합/불 처리 소요 시간")
+        .register(meterRegistry);
+    this.succeededCounter = roundCounter(meterRegistry, "success");
+    this.failedCounter = roundCounter(meterRegistry, "failure");
+    this.skippedCounter = roundCounter(meterRegistry, "skipped");
+  }
+
+  /**
+   * 결정 마감이 지난 모든 라운드를 DB 에서 찾아 처리 (안전망 주기 실행용)
+   */
+  public CompletableFuture<Void> run(Instant now) {
+    return runRounds(autoDecisionService.findRoundIdsToAutoDecide(now));
+  }
+
+  /**
+   * 지정한 라운드들을 작업 스레드에 넘기고 바로 반환
+   * <p>
+   * 스케줄러 스레드가 라운드 처리를 기다리지 않으므로 다른 {@code @Scheduled} 작업이 밀리지 않습니다. 이 인스턴스에서 이미 처리 중인 라운드는 다시
+   * 넘기지 않습니다.
+   *
+   * @return 넘긴 라운드가 모두 끝나면 완료되는 Future
+   */
+  public CompletableFuture<Void> runRounds(List<Long> roundIds) {
+    List<Long> submittedIds = roundIds.stream()
+        .filter(inFlightRoundIds::add)
+        .toList();
+    if (submittedIds.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Timer.Sample sample = Timer.start();
+
+    log.info("[매칭 차수 종료 Scheduler] Plan 결정 마감 시간이 지난 매칭 라운드가 {}개 있습니다. 동시 처리: {}",
+        submittedIds.size(), parallelism);
+
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (Long roundId : submittedIds) {
+      futures.add(CompletableFuture.runAsync(() -> processRound(roundId), executor));
+    }
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .whenComplete((ignored, e) -> {
+          long elapsedNanos = sample.stop(jobTimer);
+          log.info("[매칭 차수 종료 Scheduler] 매칭 라운드 {}개 처리 완료 - 소요 시간 {}ms",
+              submittedIds.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        });
+  }
+
+  private void processRound(Long roundId) {
+    Timer.Sample sample = Timer.start();
+    try {
+      boolean processed = clusterLease.runExclusively(LEASE_NAMESPACE, roundId,
+          () -> processRoundParts(roundId)).orElse(false);
+      if (processed) {
+        succeededCounter.increment();
+      } else {
+        skippedCounter.increment();
+      }
+    } catch (Exception e) {
+      failedCounter.increment();
+      log.error("[매칭 차수 종료 Scheduler] 매칭 라운드 {}에 대한 처리를 실패하였습니다.", roundId, e);
+    } finally {
+      inFlightRoundIds.remove(roundId);
+      sample.stop(roundTimer);
+    }
+  }
+
+  /**
+   * @return 이미 처리되었거나 존재하지 않거나 아직 결정 마감 전이라 건너뛴 경우 false
+   */
+  private boolean processRoundParts(Long roundId) {
+    Optional<AutoDecisionRun> started = autoDecisionService.startRound(roundId);
+    if (started.isEmpty()) {
+      return false;
+    }
+    AutoDecisionRun run = started.get();
+    for (AutoDecisionRun.Part part : run.parts()) {
+      autoDecisionService.processPart(roundId, run.seed(), part);
+    }
+    autoDecisionService.finishRound(roundId);
+    placeUnplacedIfChapterDecided(run.chapterId());
+    return true;
+  }
+
+  private void placeUnplacedIfChapterDecided(Long chapterId) {
+    if (!placementEnabled || !autoDecisionService.isChapterDecided(chapterId)) {
+      return;
+    }
+    try {
+      placementService.placeUnplaced(chapterId);
+    } catch (Exception e) {
+      log.error("[미배정 챌린저 자동 배정] Chapter {}의 미배정 챌린저 배정을 실패하였습니다.", chapterId, e);
+    }
+  }
+
+  private Counter roundCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(METRIC_PREFIX + ".round.result")
+        .tag("result", result)
+        .description("매칭 라운드 자동 합/불 처리 결과")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,42 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaRequirement;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 매칭 차수 자동 합/불 처리 계획
+ *
+ * @param confirmedApplicationIds 합격 처리할 지원서 ID
+ * @param rejectedApplicationIds  불합격 처리할 지원서 ID
+ * @param newMembers              새로 추가할 프로젝트 멤버 (이미 멤버인 합격자는 제외)
+ * @param parts                   프로젝트 파트별 처리 내역
+ */
+public record AutoDecisionPlan(
+    Long matchingRoundId,
+    List<Long> confirmedApplicationIds,
+    List<Long> rejectedApplicationIds,
+    List<ProjectMemberKey> newMembers,
+    List<PartDecision> parts
+) {
+
+  /**
+   * 프로젝트 한 파트의 처리 내역
+   *
+   * @param requirement         최소 선발 규칙 평가 결과 (파트 TO 가 없으면 null)
+   * @param targetCount         최소 선발 인원을 채우기 위해 합격시키려 한 인원
+   * @param toFullRejectedCount 합격 대상이었지만 TO 가 모두 차서 불합격 처리된 인원
+   */
+  public record PartDecision(
+      Long projectId,
+      ChallengerPart part,
+      QuotaRequirement requirement,
+      int pendingCount,
+      long targetCount,
+      List<Long> confirmedApplicationIds,
+      List<Long> rejectedApplicationIds,
+      int toFullRejectedCount
+  ) {
+
+  }
+}
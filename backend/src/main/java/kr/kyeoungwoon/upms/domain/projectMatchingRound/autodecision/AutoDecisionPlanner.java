@@ -0,0 +1,147 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.PartQuota;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaPolicy;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaRequirement;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshot;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.PendingDecisionRow;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매칭 차수 자동 합/불 처리 계획 수립
+ * <p>
+ * DB 에 접근하지 않고 미리 적재한 집계 값(차수 스냅샷, 기존 멤버, 대기 지원서)만으로 계산합니다. 프로젝트 파트마다 최소 선발 인원만큼 무작위로 합격시키고
+ * 나머지는 불합격 처리합니다.
+ * <p>
+ * 무작위 선발은 시드와 (프로젝트, 파트) 로 만든 파트별 Random 을 사용하므로, 같은 시드면 다른 파트의 처리 여부나 순서와 무관하게 각 파트는 항상 같은 결과가
+ * 나옵니다. 따라서 파트 단위로 나눠 처리하다 중단되어도 남은 파트를 같은 시드로 다시 계획하면 처음 계획과 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutoDecisionPlanner {
+
+  private final QuotaPolicy quotaPolicy;
+
+  public AutoDecisionPlan plan(
+      Long matchingRoundId,
+      RoundQuotaSnapshot snapshot,
+      Collection<PendingDecisionRow> pendingApplications,
+      Set<ProjectMemberKey> existingMembers,
+      long seed
+  ) {
+    // 결과가 입력 순서에 영향을 받지 않도록 (프로젝트, 파트) 순으로 처리
+    Map<PartKey, List<PendingDecisionRow>> grouped = new TreeMap<>(
+        Comparator.comparing(PartKey::projectId).thenComparing(PartKey::part));
+    for (PendingDecisionRow row : pendingApplications) {
+      grouped.computeIfAbsent(new PartKey(row.getProjectId(), row.getApplicantPart()),
+          key -> new ArrayList<>()).add(row);
+    }
+
+    List<Long> confirmedIds = new ArrayList<>();
+    List<Long> rejectedIds = new ArrayList<>();
+    List<ProjectMemberKey> newMembers = new ArrayList<>();
+    List<AutoDecisionPlan.PartDecision> parts = new ArrayList<>();
+
+    grouped.forEach((key, rows) -> {
+      AutoDecisionPlan.PartDecision decision = planPart(key, rows,
+          snapshot.find(key.projectId(), key.part()).orElse(null), existingMembers, seed,
+          newMembers);
+      confirmedIds.addAll(decision.confirmedApplicationIds());
+      rejectedIds.addAll(decision.rejectedApplicationIds());
+      parts.add(decision);
+    });
+
+    return new AutoDecisionPlan(matchingRoundId, confirmedIds, rejectedIds, newMembers, parts);
+  }
+
+  /**
+   * 프로젝트 파트 하나만 계획 (파트 단위 처리용)
+   *
+   * @param quota 파트 집계 값 (파트 TO 가 없으면 null)
+   */
+  public AutoDecisionPlan planPart(
+      Long matchingRoundId,
+      Long projectId,
+      ChallengerPart part,
+      PartQuota quota,
+      List<PendingDecisionRow> pendingApplications,
+      Set<ProjectMemberKey> existingMembers,
+      long seed
+  ) {
+    List<ProjectMemberKey> newMembers = new ArrayList<>();
+    AutoDecisionPlan.PartDecision decision = planPart(new PartKey(projectId, part),
+        pendingApplications, quota, existingMembers, seed, newMembers);
+    return new AutoDecisionPlan(matchingRoundId, decision.confirmedApplicationIds(),
+        decision.rejectedApplicationIds(), newMembers, List.of(decision));
+  }
+
+  private AutoDecisionPlan.PartDecision planPart(
+      PartKey key,
+      List<PendingDecisionRow> rows,
+      PartQuota quota,
+      Set<ProjectMemberKey> existingMembers,
+      long seed,
+      List<ProjectMemberKey> newMembers
+  ) {
+    // 파트 TO 가 없으면 모두 불합격 (이러면 안됨)
+    if (quota == null) {
+      return new AutoDecisionPlan.PartDecision(key.projectId(), key.part(), null, rows.size(), 0L,
+          List.of(), rows.stream().map(PendingDecisionRow::getApplicationId).toList(), 0);
+    }
+
+    QuotaRequirement requirement = quotaPolicy.evaluate(quota);
+    // 최소 선발 인원 중 아직 채우지 못한 인원만큼, 남은 대기 지원서 수를 상한으로 합격
+    long targetCount = Math.min(requirement.remainingCount(), rows.size());
+    long freeSlots = Math.max(0L, quota.toCount() - quota.memberCount());
+
+    List<PendingDecisionRow> shuffled = new ArrayList<>(rows);
+    shuffled.sort(Comparator.comparing(PendingDecisionRow::getApplicationId));
+    Collections.shuffle(shuffled, partRandom(seed, key));
+
+    List<Long> confirmed = new ArrayList<>();
+    List<Long> rejected = new ArrayList<>();
+    int toFullRejected = 0;
+    for (int i = 0; i < shuffled.size(); i++) {
+      PendingDecisionRow row = shuffled.get(i);
+      if (i >= targetCount) {
+        rejected.add(row.getApplicationId());
+        continue;
+      }
+
+      ProjectMemberKey memberKey = new ProjectMemberKey(row.getProjectId(), row.getApplicantId());
+      if (existingMembers.contains(memberKey)) {
+        // 이미 멤버인 경우 TO 를 새로 차지하지 않음
+        confirmed.add(row.getApplicationId());
+      } else if (freeSlots > 0) {
+        confirmed.add(row.getApplicationId());
+        newMembers.add(memberKey);
+        freeSlots--;
+      } else {
+        rejected.add(row.getApplicationId());
+        toFullRejected++;
+      }
+    }
+
+    return new AutoDecisionPlan.PartDecision(key.projectId(), key.part(), requirement,
+        rows.size(), targetCount, confirmed, rejected, toFullRejected);
+  }
+
+  private Random partRandom(long seed, PartKey key) {
+    return new Random(31L * (31L * seed + key.projectId()) + key.part().ordinal());
+  }
+
+  private record PartKey(Long projectId, ChallengerPart part) {
+
+  }
+}
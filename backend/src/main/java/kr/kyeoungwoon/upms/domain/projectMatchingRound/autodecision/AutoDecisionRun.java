@@ -0,0 +1,25 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * 매칭 라운드 자동 합/불 처리 실행 정보 (처리 단위 목록과 시드)
+ *
+ * @param chapterId 라운드가 속한 Chapter
+ * @param seed      무작위 선발 시드 (중단 후 재개 시 처음 시드를 그대로 사용)
+ * @param resumed   중단된 처리를 이어서 하는 경우 true
+ * @param parts     대기 지원서가 남아있는 (프로젝트, 파트) 목록, 이 순서대로 하나씩 커밋
+ */
+public record AutoDecisionRun(
+    Long matchingRoundId,
+    Long chapterId,
+    long seed,
+    boolean resumed,
+    List<Part> parts
+) {
+
+  public record Part(Long projectId, ChallengerPart part) {
+
+  }
+}
@@ -0,0 +1,8 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+/**
+ * 프로젝트 멤버 키 (기존 멤버 여부 확인 및 신규 멤버 추가 대상)
+ */
+public record ProjectMemberKey(Long projectId, Long challengerId) {
+
+}
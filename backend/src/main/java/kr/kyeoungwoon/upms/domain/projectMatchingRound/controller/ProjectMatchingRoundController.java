@@ -4,11 +4,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.Instant;
 import java.util.List;
+import kr.kyeoungwoon.upms.domain.project.service.ProjectService;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationService;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.dto.ProjectMatchingRoundDto;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundAutoDecisionService;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundService;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundSimulationService;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.security.UserPrincipal;
 import kr.kyeoungwoon.upms.security.annotation.ChapterLeadOnly;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @Tag(name = "프로젝트 매칭 차수", description = "Project Matching Rounds")
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +36,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectMatchingRoundController {
 
   private final ProjectMatchingRoundService projectMatchingRoundService;
+  private final ProjectApplicationService projectApplicationService;
+  private final ProjectService projectService;
+  private final ProjectMatchingRoundAutoDecisionService autoDecisionService;
+  private final ProjectMatchingRoundSimulationService simulationService;
 
   @ChapterLeadOnly
   @Operation(summary = "매칭 라운드 생성", description = "새로운 프로젝트 매칭 라운드를 생성합니다")
@@ -59,6 +73,19 @@ public class ProjectMatchingRoundController {
     return ApiResponse.onSuccess(projectMatchingRoundService.findAll());
   }
 
+  @Operation(
+      summary = "매칭 라운드 페이지 조회",
+      description = "전체 매칭 라운드를 커서 기반 페이지로 조회합니다")
+  @GetMapping("/page")
+  public ApiResponse<CursorPage<ProjectMatchingRoundDto.Response>> getMatchingRoundPage(
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 커서 (첫 페이지는 생략, 이전 응답의 nextCursor)")
+      @RequestParam(required = false) String cursor,
+      @io.swagger.v3.oas.annotations.Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+      @RequestParam(required = false) Integer size) {
+    log.info("매칭 라운드 페이지 조회 요청 - cursor: {}, size: {}", cursor, size);
+    return ApiResponse.onSuccess(projectMatchingRoundService.findPage(cursor, size));
+  }
+
   @Operation(
       summary = "기간별 매칭 라운드 목록 조회",
       description = "특정 Chapter의 특정 기간 내에 있는 매칭 라운드 목록을 조회합니다. "
@@ -98,6 +125,48 @@ public class ProjectMatchingRoundController {
     return ApiResponse.onSuccess(projectMatchingRoundService.findCurrent(chapterId));
   }
 
+  @Operation(
+      summary = "매칭 라운드 전체 최소 선발 인원 조회",
+      description = "매칭 라운드가 속한 Chapter의 모든 프로젝트, 모든 파트에 대한 최소 선발 인원을 한 번에 조회합니다. "
+          + "Plan 파트 챌린저 또는 지부 운영진만 조회할 수 있습니다.")
+  @GetMapping("/{id}/min-selection")
+  public ApiResponse<List<ProjectApplicationDto.PartMinSelectionResponse>> getMinSelections(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @PathVariable Long id) {
+    log.info("매칭 라운드 전체 최소 선발 인원 조회 요청 - 매칭 차수 ID: {}, 요청자 챌린저 ID: {}", id,
+        userPrincipal.challengerId());
+    projectService.throwIfChallengerNotPlanOrAdmin(userPrincipal.challengerId(),
+        projectMatchingRoundService.findById(id).chapterId());
+
+    return ApiResponse.onSuccess(projectApplicationService.getMinSelectionsInMatchingRound(id));
+  }
+
+  @ChapterLeadOnly
+  @Operation(
+      summary = "자동 합/불 처리 미리보기",
+      description = "결정 마감 시 실행될 자동 합/불 처리를 현재 상태로 계산하여 프로젝트 파트별 합격/불합격 예정 지원서를 반환합니다. "
+          + "DB 에는 아무것도 반영하지 않습니다. 같은 seed 로 다시 요청하면 같은 결과를 반환하며, "
+          + "실제 처리 시 선발되는 지원서는 다를 수 있습니다.")
+  @GetMapping("/{id}/auto-decision/preview")
+  public ApiResponse<ProjectMatchingRoundDto.AutoDecisionPreviewResponse> previewAutoDecision(
+      @PathVariable Long id,
+      @io.swagger.v3.oas.annotations.Parameter(description = "무작위 선발 시드 (생략 시 새로 생성)", example = "42")
+      @RequestParam(required = false) Long seed) {
+    return ApiResponse.onSuccess(autoDecisionService.preview(id, seed));
+  }
+
+  @ChapterLeadOnly
+  @Operation(
+      summary = "TO 구성 매칭 시뮬레이션",
+      description = "변경해 볼 프로젝트 TO 와 지원자 분포로 매칭 라운드와 자동 합/불 처리를 메모리에서 반복 실행하여 "
+          + "파트별 충원율과 미배정 인원 분포를 반환합니다. 최소 선발 인원은 실제 처리와 같은 규칙으로 계산하며, "
+          + "DB 에는 아무것도 반영하지 않습니다. 같은 요청과 seed 로 다시 요청하면 같은 결과를 반환합니다.")
+  @PostMapping("/simulations")
+  public ApiResponse<ProjectMatchingRoundDto.SimulationResponse> simulate(
+      @RequestBody ProjectMatchingRoundDto.SimulationRequest request) {
+    return ApiResponse.onSuccess(simulationService.simulate(request));
+  }
+
   @Operation(summary = "매칭 라운드 수정", description = "매칭 라운드 정보를 수정합니다")
   @PutMapping("/{id}")
   public ApiResponse<ProjectMatchingRoundDto.Response> updateMatchingRound(
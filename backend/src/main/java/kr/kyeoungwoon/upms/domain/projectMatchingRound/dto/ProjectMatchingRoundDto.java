@@ -2,6 +2,10 @@ package kr.kyeoungwoon.upms.domain.projectMatchingRound.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import kr.kyeoungwoon.upms.global.enums.ApplicantDistribution;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
 import lombok.Builder;
 
 public class ProjectMatchingRoundDto {
@@ -68,4 +72,163 @@ public class ProjectMatchingRoundDto {
   ) {
 
   }
+
+  @Builder
+  @Schema(name = "AutoDecisionPreviewResponse", description = "자동 합/불 처리 미리보기 응답")
+  public record AutoDecisionPreviewResponse(
+      @Schema(description = "매칭 라운드 ID", example = "1")
+      Long matchingRoundId,
+      @Schema(description = "합/불 결정 마감 일시")
+      Instant decisionDeadlineAt,
+      @Schema(description = "자동 합/불 처리 완료 여부 (완료된 라운드는 대기 지원서가 없어 빈 결과)", example = "false")
+      Boolean autoDecisionExecuted,
+      @Schema(description = "무작위 선발에 사용한 시드 (같은 시드로 다시 요청하면 같은 결과)", example = "42")
+      Long seed,
+      @Schema(description = "대기 중인 지원서 수", example = "120")
+      int pendingCount,
+      @Schema(description = "합격 예정 지원서 수", example = "40")
+      int confirmedCount,
+      @Schema(description = "불합격 예정 지원서 수", example = "80")
+      int rejectedCount,
+      @Schema(description = "새로 추가될 프로젝트 멤버 수", example = "40")
+      int newMemberCount,
+      @Schema(description = "프로젝트 파트별 처리 예정 내역")
+      List<AutoDecisionPartPreview> parts
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "AutoDecisionPartPreview", description = "프로젝트 파트별 자동 합/불 처리 예정 내역")
+  public record AutoDecisionPartPreview(
+      @Schema(description = "프로젝트 ID", example = "1")
+      Long projectId,
+      @Schema(description = "파트", example = "WEB")
+      ChallengerPart part,
+      @Schema(description = "대기 중인 지원서 수", example = "10")
+      int pendingCount,
+      @Schema(description = "이번 차수 최소 선발 인원 (파트 TO 가 없으면 null)", example = "3")
+      Long requiredCount,
+      @Schema(description = "이번 차수에서 이미 합격 처리된 인원 (파트 TO 가 없으면 null)", example = "1")
+      Long alreadyConfirmedCount,
+      @Schema(description = "최소 선발 인원을 채우기 위해 합격시키려는 인원", example = "2")
+      long targetCount,
+      @Schema(description = "TO 가 모두 차서 불합격 처리될 인원", example = "0")
+      int toFullRejectedCount,
+      @Schema(description = "합격 예정 지원서 ID")
+      List<Long> confirmedApplicationIds,
+      @Schema(description = "불합격 예정 지원서 ID")
+      List<Long> rejectedApplicationIds
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "MatchingSimulationRequest", description = "TO 구성 매칭 시뮬레이션 요청 (생략한 값은 현재 Chapter 상태 기준)")
+  public record SimulationRequest(
+      @Schema(description = "챕터 ID", example = "1")
+      Long chapterId,
+      @Schema(description = "변경해 볼 프로젝트 파트 TO (0 이면 해당 파트 TO 제거)")
+      List<SimulationToOverride> toOverrides,
+      @Schema(description = "파트별 미배정 챌린저 수 (생략한 파트는 현재 미배정 챌린저 수)", example = "{\"WEB\": 40, \"DESIGN\": 12}")
+      Map<ChallengerPart, Integer> applicantCounts,
+      @Schema(description = "지원자가 프로젝트를 고르는 분포 (기본 HISTORICAL)", example = "HISTORICAL")
+      ApplicantDistribution distribution,
+      @Schema(description = "반복할 매칭 라운드 수 (기본: Chapter 의 매칭 라운드 수)", example = "3")
+      Integer roundCount,
+      @Schema(description = "시뮬레이션 반복 횟수 (기본 2000, 최대 20000)", example = "2000")
+      Integer iterations,
+      @Schema(description = "난수 시드 (생략 시 새로 생성하여 응답에 포함)", example = "42")
+      Long seed,
+      @Schema(description = "미배정 챌린저가 라운드마다 지원할 확률 (기본 1.0)", example = "0.9")
+      Double applyRate,
+      @Schema(description = "PO 가 지원자를 직접 합격시킬 확률, 나머지는 자동 합/불 처리 (기본 0.0)", example = "0.3")
+      Double poAcceptRate
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "MatchingSimulationToOverride", description = "시뮬레이션에 사용할 프로젝트 파트 TO")
+  public record SimulationToOverride(
+      @Schema(description = "프로젝트 ID", example = "1")
+      Long projectId,
+      @Schema(description = "파트", example = "WEB")
+      ChallengerPart part,
+      @Schema(description = "최대 TO", example = "4")
+      Integer toCount
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "MatchingSimulationResponse", description = "TO 구성 매칭 시뮬레이션 결과 (모든 반복의 평균과 분포)")
+  public record SimulationResponse(
+      @Schema(description = "챕터 ID", example = "1")
+      Long chapterId,
+      @Schema(description = "시뮬레이션 반복 횟수", example = "2000")
+      int iterations,
+      @Schema(description = "반복한 매칭 라운드 수", example = "3")
+      int roundCount,
+      @Schema(description = "사용한 난수 시드 (같은 요청과 시드면 같은 결과)", example = "42")
+      long seed,
+      @Schema(description = "시뮬레이션 소요 시간 (ms)", example = "350")
+      long elapsedMillis,
+      @Schema(description = "파트별 충원율과 미배정 인원 분포")
+      List<SimulationPartResult> parts,
+      @Schema(description = "프로젝트 파트별 충원율")
+      List<SimulationSlotResult> slots
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "MatchingSimulationPartResult", description = "파트별 충원율과 마지막 라운드 이후 미배정 인원 분포")
+  public record SimulationPartResult(
+      @Schema(description = "파트", example = "WEB")
+      ChallengerPart part,
+      @Schema(description = "파트 전체 TO", example = "40")
+      int toCount,
+      @Schema(description = "시작 시점 멤버 수", example = "0")
+      int initialMemberCount,
+      @Schema(description = "시작 시점 미배정 챌린저 수", example = "45")
+      int applicantCount,
+      @Schema(description = "평균 멤버 수", example = "31.2")
+      double meanMemberCount,
+      @Schema(description = "평균 충원율 (평균 멤버 수 / 파트 전체 TO)", example = "0.78")
+      double fillRate,
+      @Schema(description = "평균 미배정 인원", example = "13.8")
+      double meanUnplacedCount,
+      @Schema(description = "미배정 인원 중앙값", example = "14")
+      int p50UnplacedCount,
+      @Schema(description = "미배정 인원 90 퍼센타일", example = "18")
+      int p90UnplacedCount,
+      @Schema(description = "미배정 인원 최댓값", example = "25")
+      int maxUnplacedCount,
+      @Schema(description = "미배정 인원 없이 끝난 반복 비율", example = "0.0")
+      double noUnplacedRatio
+  ) {
+
+  }
+
+  @Builder
+  @Schema(name = "MatchingSimulationSlotResult", description = "프로젝트 파트별 충원율")
+  public record SimulationSlotResult(
+      @Schema(description = "프로젝트 ID", example = "1")
+      Long projectId,
+      @Schema(description = "파트", example = "WEB")
+      ChallengerPart part,
+      @Schema(description = "최대 TO", example = "4")
+      int toCount,
+      @Schema(description = "시작 시점 멤버 수", example = "0")
+      int initialMemberCount,
+      @Schema(description = "평균 멤버 수", example = "3.1")
+      double meanMemberCount,
+      @Schema(description = "평균 충원율", example = "0.78")
+      double fillRate,
+      @Schema(description = "TO 를 모두 채운 반복 비율", example = "0.35")
+      double fullRatio
+  ) {
+
+  }
 }
@@ -0,0 +1,75 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import kr.kyeoungwoon.upms.global.entity.BaseEntity;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매칭 라운드 자동 합/불 처리 진행 기록
+ * <p>
+ * 자동 합/불 처리는 (프로젝트, 파트) 단위로 나눠 각각 커밋하고, 커밋할 때마다 이 기록을 같은 트랜잭션에서 갱신합니다. 중단된 라운드를 다시 처리할 때는 저장된
+ * 시드를 그대로 사용하므로 남은 파트도 처음 계획과 같은 결과로 처리됩니다. 처리가 끝난 기록은 감사용으로 남겨둡니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(name = "auto_decision_checkpoint")
+public class AutoDecisionCheckpoint extends BaseEntity {
+
+  @Id
+  @Column(name = "matching_round_id")
+  private Long matchingRoundId;
+
+  @Column(nullable = false)
+  private Long seed;
+
+  @Builder.Default
+  @Column(name = "completed_part_count", nullable = false)
+  private Integer completedPartCount = 0;
+
+  @Builder.Default
+  @Column(name = "confirmed_count", nullable = false)
+  private Long confirmedCount = 0L;
+
+  @Builder.Default
+  @Column(name = "rejected_count", nullable = false)
+  private Long rejectedCount = 0L;
+
+  @Column(name = "last_project_id")
+  private Long lastProjectId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "last_part")
+  private ChallengerPart lastPart;
+
+  @Column(name = "completed_at")
+  private Instant completedAt;
+
+  /**
+   * 프로젝트 파트 하나의 처리 완료 기록
+   */
+  public void recordPart(Long projectId, ChallengerPart part, long confirmed, long rejected) {
+    this.completedPartCount++;
+    this.confirmedCount += confirmed;
+    this.rejectedCount += rejected;
+    this.lastProjectId = projectId;
+    this.lastPart = part;
+  }
+
+  public void complete(Instant completedAt) {
+    this.completedAt = completedAt;
+  }
+}
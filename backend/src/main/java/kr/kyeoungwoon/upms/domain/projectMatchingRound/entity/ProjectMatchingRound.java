@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,7 +33,9 @@ import lombok.NoArgsConstructor;
 public class ProjectMatchingRound extends BaseEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matching_round_seq")
+  @SequenceGenerator(name = "matching_round_seq", sequenceName = "matching_round_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false)
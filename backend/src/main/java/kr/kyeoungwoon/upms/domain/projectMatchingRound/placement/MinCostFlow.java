@@ -0,0 +1,249 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.placement;
+
+import java.util.Arrays;
+
+/**
+ * 최소 비용 최대 유량 (Primal-Dual: 포텐셜 Dijkstra + 최단 경로 그래프 blocking flow)
+ * <p>
+ * 간선은 객체 없이 int 배열에 보관합니다. 간선 e 의 역방향 간선은 e ^ 1 입니다. 비용은 0 이상이어야 하며, 경로 비용 합이 int 범위를 넘지 않아야
+ * 합니다.
+ */
+final class MinCostFlow {
+
+  private static final int INF = Integer.MAX_VALUE;
+
+  private final int nodeCount;
+  private final int[] head;
+  private int[] next;
+  private int[] to;
+  private int[] capacity;
+  private int[] cost;
+  private int edgeCount;
+
+  // run() 작업 배열
+  private int[] potential;
+  private int[] level;
+  private int[] iter;
+  private int[] queue;
+
+  MinCostFlow(int nodeCount, int expectedEdgeCount) {
+    this.nodeCount = nodeCount;
+    this.head = new int[nodeCount];
+    Arrays.fill(head, -1);
+    int size = Math.max(2, expectedEdgeCount * 2);
+    this.next = new int[size];
+    this.to = new int[size];
+    this.capacity = new int[size];
+    this.cost = new int[size];
+  }
+
+  /**
+   * @return 정방향 간선 번호 ({@link #flowOf} 조회용)
+   */
+  int addEdge(int from, int target, int edgeCapacity, int edgeCost) {
+    ensureCapacity(edgeCount + 2);
+    int forward = edgeCount;
+    link(from, target, edgeCapacity, edgeCost);
+    link(target, from, 0, -edgeCost);
+    return forward;
+  }
+
+  /**
+   * 간선에 흐른 유량
+   */
+  int flowOf(int edge) {
+    return capacity[edge ^ 1];
+  }
+
+  /**
+   * source 에서 sink 로 최대 유량을 최소 비용으로 흘림
+   * <p>
+   * Dijkstra 로 포텐셜을 갱신한 뒤, 축소 비용이 0 인 간선만으로 이루어진 최단 경로 그래프에서 Dinic 방식으로 가능한 만큼 한 번에 흘립니다. Dijkstra
+   * 횟수가 유량이 아닌 서로 다른 최단 경로 비용의 수에 비례합니다.
+   *
+   * @return {유량, 비용}
+   */
+  long[] run(int source, int sink) {
+    potential = new int[nodeCount];
+    int[] dist = new int[nodeCount];
+    level = new int[nodeCount];
+    iter = new int[nodeCount];
+    queue = new int[nodeCount];
+    LongHeap heap = new LongHeap(nodeCount);
+    long flow = 0L;
+    long totalCost = 0L;
+
+    while (shortestPaths(source, sink, dist, heap)) {
+      for (int v = 0; v < nodeCount; v++) {
+        if (dist[v] != INF) {
+          potential[v] += dist[v];
+        }
+      }
+      int pathCost = potential[sink] - potential[source];
+      while (buildLevels(source, sink)) {
+        System.arraycopy(head, 0, iter, 0, nodeCount);
+        int pushed;
+        while ((pushed = augment(source, sink, INF)) > 0) {
+          flow += pushed;
+          totalCost += (long) pushed * pathCost;
+        }
+      }
+    }
+    return new long[]{flow, totalCost};
+  }
+
+  /**
+   * 포텐셜 기준 축소 비용으로 source 에서 각 노드까지의 최단 거리 계산
+   *
+   * @return sink 에 도달할 수 있으면 true
+   */
+  private boolean shortestPaths(int source, int sink, int[] dist, LongHeap heap) {
+    Arrays.fill(dist, INF);
+    dist[source] = 0;
+    heap.clear();
+    heap.push(source, 0);
+    while (!heap.isEmpty()) {
+      long top = heap.pop();
+      int d = (int) (top >>> 32);
+      int u = (int) top;
+      if (d > dist[u]) {
+        continue;
+      }
+      for (int e = head[u]; e != -1; e = next[e]) {
+        if (capacity[e] == 0) {
+          continue;
+        }
+        int v = to[e];
+        int nd = d + reducedCost(e, u);
+        if (nd < dist[v]) {
+          dist[v] = nd;
+          heap.push(v, nd);
+        }
+      }
+    }
+    return dist[sink] != INF;
+  }
+
+  /**
+   * 축소 비용이 0 인 잔여 간선만으로 BFS 레벨 계산 (순환 없이 흘리기 위함)
+   */
+  private boolean buildLevels(int source, int sink) {
+    Arrays.fill(level, -1);
+    level[source] = 0;
+    int headIndex = 0;
+    int tailIndex = 0;
+    queue[tailIndex++] = source;
+    while (headIndex < tailIndex) {
+      int u = queue[headIndex++];
+      for (int e = head[u]; e != -1; e = next[e]) {
+        int v = to[e];
+        if (capacity[e] > 0 && level[v] < 0 && reducedCost(e, u) == 0) {
+          level[v] = level[u] + 1;
+          queue[tailIndex++] = v;
+        }
+      }
+    }
+    return level[sink] >= 0;
+  }
+
+  private int augment(int u, int sink, int limit) {
+    if (u == sink) {
+      return limit;
+    }
+    for (; iter[u] != -1; iter[u] = next[iter[u]]) {
+      int e = iter[u];
+      int v = to[e];
+      if (capacity[e] == 0 || level[v] != level[u] + 1 || reducedCost(e, u) != 0) {
+        continue;
+      }
+      int pushed = augment(v, sink, Math.min(limit, capacity[e]));
+      if (pushed > 0) {
+        capacity[e] -= pushed;
+        capacity[e ^ 1] += pushed;
+        return pushed;
+      }
+    }
+    return 0;
+  }
+
+  private int reducedCost(int edge, int from) {
+    return cost[edge] + potential[from] - potential[to[edge]];
+  }
+
+  private void link(int from, int target, int edgeCapacity, int edgeCost) {
+    to[edgeCount] = target;
+    capacity[edgeCount] = edgeCapacity;
+    cost[edgeCount] = edgeCost;
+    next[edgeCount] = head[from];
+    head[from] = edgeCount++;
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= to.length) {
+      return;
+    }
+    int size = Math.max(required, to.length * 2);
+    next = Arrays.copyOf(next, size);
+    to = Arrays.copyOf(to, size);
+    capacity = Arrays.copyOf(capacity, size);
+    cost = Arrays.copyOf(cost, size);
+  }
+
+  /**
+   * (거리 << 32 | 노드) 를 보관하는 최소 힙
+   */
+  private static final class LongHeap {
+
+    private long[] values;
+    private int size;
+
+    LongHeap(int initialCapacity) {
+      this.values = new long[Math.max(16, initialCapacity)];
+    }
+
+    void push(int node, int distance) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      long value = ((long) distance << 32) | node;
+      int i = size++;
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (values[parent] <= value) {
+          break;
+        }
+        values[i] = values[parent];
+        i = parent;
+      }
+      values[i] = value;
+    }
+
+    long pop() {
+      long top = values[0];
+      long last = values[--size];
+      int i = 0;
+      int half = size >>> 1;
+      while (i < half) {
+        int child = 2 * i + 1;
+        if (child + 1 < size && values[child + 1] < values[child]) {
+          child++;
+        }
+        if (last <= values[child]) {
+          break;
+        }
+        values[i] = values[child];
+        i = child;
+      }
+      values[i] = last;
+      return top;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+}
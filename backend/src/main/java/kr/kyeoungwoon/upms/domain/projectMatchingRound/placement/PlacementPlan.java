@@ -0,0 +1,22 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.placement;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.ProjectMemberKey;
+
+/**
+ * 미배정 챌린저 배정 계획
+ *
+ * @param assignments    새로 추가할 프로젝트 멤버
+ * @param candidateCount 배정 대상이었던 미배정 챌린저 수
+ * @param openSlotCount  배정 전 남아있던 자리 수
+ * @param preferredCount 지원했던 프로젝트에 배정된 인원
+ */
+public record PlacementPlan(
+    Long chapterId,
+    List<ProjectMemberKey> assignments,
+    int candidateCount,
+    int openSlotCount,
+    int preferredCount
+) {
+
+}
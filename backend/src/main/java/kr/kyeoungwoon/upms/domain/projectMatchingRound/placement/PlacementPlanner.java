@@ -0,0 +1,183 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.placement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.ProjectMemberKey;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미배정 챌린저의 남은 TO 배정 계획 수립
+ * <p>
+ * 챌린저와 (프로젝트, 파트) 의 남은 자리를 이분 그래프 유량 문제로 보고, 최소 비용 최대 유량으로 가능한 많은 챌린저를 배정합니다. DB 에 접근하지 않으며
+ * 같은 입력이면 항상 같은 결과가 나옵니다.
+ * <ul>
+ *   <li>챌린저는 자기 파트의 자리에만 배정됩니다.</li>
+ *   <li>지원했던 프로젝트에 우선 배정합니다. 지원하지 않은 프로젝트로 가는 경로는 파트별 공용 노드를 거치도록 하여 간선 수를 챌린저 수에 비례하게
+ *   유지합니다.</li>
+ *   <li>k 번째 자리를 채우는 비용을 (k / 남은 자리 수) 에 비례하게 두어, 남은 자리 대비 채워진 비율이 프로젝트 간에 고르게 되도록 합니다.</li>
+ * </ul>
+ */
+@Component
+public class PlacementPlanner {
+
+  // 남은 자리를 모두 채웠을 때의 비용
+  private static final int BALANCE_SCALE = 100;
+  // 지원하지 않은 프로젝트 배정 비용 (균형 비용보다 항상 크게 하여 지원 여부를 먼저 고려)
+  private static final int NOT_APPLIED_COST = BALANCE_SCALE * 10;
+
+  /**
+   * @param appliedPairs 챌린저가 지원했던 (프로젝트, 챌린저)
+   */
+  public PlacementPlan plan(
+      Long chapterId,
+      List<OpenSlot> slots,
+      List<Candidate> candidates,
+      Set<ProjectMemberKey> appliedPairs
+  ) {
+    List<OpenSlot> openSlots = slots.stream().filter(slot -> slot.remaining() > 0).toList();
+    int totalRemaining = openSlots.stream().mapToInt(OpenSlot::remaining).sum();
+    if (openSlots.isEmpty() || candidates.isEmpty()) {
+      return new PlacementPlan(chapterId, List.of(), candidates.size(), totalRemaining, 0);
+    }
+
+    // 노드: source, sink, 챌린저, 자리(프로젝트 파트), 파트별 공용 노드
+    int source = 0;
+    int sink = 1;
+    int candidateBase = 2;
+    int slotBase = candidateBase + candidates.size();
+    int poolBase = slotBase + openSlots.size();
+    int nodeCount = poolBase + ChallengerPart.values().length;
+
+    // 파트별 자리 순번과 (파트, 프로젝트) -> 자리 순번 색인
+    List<List<Integer>> slotsByPart = new ArrayList<>();
+    List<Map<Long, Integer>> slotIndexByPartProject = new ArrayList<>();
+    for (int p = 0; p < ChallengerPart.values().length; p++) {
+      slotsByPart.add(new ArrayList<>());
+      slotIndexByPartProject.add(new HashMap<>());
+    }
+    for (int i = 0; i < openSlots.size(); i++) {
+      OpenSlot slot = openSlots.get(i);
+      slotsByPart.get(slot.part().ordinal()).add(i);
+      slotIndexByPartProject.get(slot.part().ordinal()).put(slot.projectId(), i);
+    }
+    // 챌린저별 지원 프로젝트 (같은 입력이면 같은 간선 순서가 되도록 정렬)
+    Map<Long, List<Long>> appliedProjectIds = appliedPairs.stream()
+        .collect(Collectors.groupingBy(ProjectMemberKey::challengerId,
+            Collectors.mapping(ProjectMemberKey::projectId, Collectors.toList())));
+    appliedProjectIds.values().forEach(Collections::sort);
+
+    MinCostFlow flow = new MinCostFlow(nodeCount,
+        candidates.size() * 2 + appliedPairs.size() + openSlots.size() + totalRemaining);
+
+    // 공용 노드 -> 같은 파트의 자리, 자리 -> sink (채울수록 비용 증가)
+    int[] poolEdges = new int[openSlots.size()];
+    for (int i = 0; i < openSlots.size(); i++) {
+      OpenSlot slot = openSlots.get(i);
+      int slotNode = slotBase + i;
+      poolEdges[i] = flow.addEdge(poolBase + slot.part().ordinal(), slotNode, slot.remaining(), 0);
+      for (int k = 1; k <= slot.remaining(); k++) {
+        flow.addEdge(slotNode, sink, 1, Math.ceilDiv(k * BALANCE_SCALE, slot.remaining()));
+      }
+    }
+
+    // source -> 챌린저 -> (지원한 프로젝트 자리 | 파트 공용 노드)
+    // 챌린저별로 추가한 간선 번호와 도착 자리 순번 (공용 노드는 -1)
+    int[][] candidateEdges = new int[candidates.size()][];
+    int[][] candidateTargets = new int[candidates.size()][];
+    for (int c = 0; c < candidates.size(); c++) {
+      Candidate candidate = candidates.get(c);
+      List<Integer> partSlots = slotsByPart.get(candidate.part().ordinal());
+      if (partSlots.isEmpty()) {
+        continue;
+      }
+      int candidateNode = candidateBase + c;
+      flow.addEdge(source, candidateNode, 1, 0);
+
+      // 지원한 프로젝트 중 같은 파트의 자리가 남은 곳만 직접 연결 (자리 전체를 훑지 않음)
+      List<Long> projectIds = appliedProjectIds.getOrDefault(candidate.challengerId(), List.of());
+      Map<Long, Integer> partSlotIndex = slotIndexByPartProject.get(candidate.part().ordinal());
+      int[] edges = new int[projectIds.size() + 1];
+      int[] targets = new int[projectIds.size() + 1];
+      int count = 0;
+      for (Long projectId : projectIds) {
+        Integer slotIndex = partSlotIndex.get(projectId);
+        if (slotIndex != null) {
+          edges[count] = flow.addEdge(candidateNode, slotBase + slotIndex, 1, 0);
+          targets[count++] = slotIndex;
+        }
+      }
+      edges[count] = flow.addEdge(candidateNode, poolBase + candidate.part().ordinal(), 1,
+          NOT_APPLIED_COST);
+      targets[count++] = -1;
+      candidateEdges[c] = Arrays.copyOf(edges, count);
+      candidateTargets[c] = Arrays.copyOf(targets, count);
+    }
+
+    flow.run(source, sink);
+
+    // 공용 노드에서 자리로 흐른 유량
+    int[] pooledRemaining = new int[openSlots.size()];
+    for (int i = 0; i < openSlots.size(); i++) {
+      pooledRemaining[i] = flow.flowOf(poolEdges[i]);
+    }
+
+    List<ProjectMemberKey> assignments = new ArrayList<>();
+    int preferredCount = 0;
+    for (int c = 0; c < candidates.size(); c++) {
+      if (candidateEdges[c] == null) {
+        continue;
+      }
+      Candidate candidate = candidates.get(c);
+      for (int i = 0; i < candidateEdges[c].length; i++) {
+        if (flow.flowOf(candidateEdges[c][i]) == 0) {
+          continue;
+        }
+        int slotIndex = candidateTargets[c][i];
+        if (slotIndex >= 0) {
+          preferredCount++;
+        } else {
+          // 공용 노드를 거친 챌린저는 공용 노드에서 자리로 흐른 유량을 자리 순서대로 나눠 가짐 (같은 파트 안에서는 비용이 같음)
+          slotIndex = takePooledSlot(slotsByPart.get(candidate.part().ordinal()),
+              pooledRemaining);
+        }
+        assignments.add(new ProjectMemberKey(openSlots.get(slotIndex).projectId(),
+            candidate.challengerId()));
+        break;
+      }
+    }
+
+    return new PlacementPlan(chapterId, assignments, candidates.size(), totalRemaining,
+        preferredCount);
+  }
+
+  private int takePooledSlot(List<Integer> partSlots, int[] pooledRemaining) {
+    for (int slotIndex : partSlots) {
+      if (pooledRemaining[slotIndex] > 0) {
+        pooledRemaining[slotIndex]--;
+        return slotIndex;
+      }
+    }
+    throw new IllegalStateException("공용 노드 유량과 배정 인원이 일치하지 않습니다.");
+  }
+
+  /**
+   * (프로젝트, 파트) 의 남은 자리
+   */
+  public record OpenSlot(Long projectId, ChallengerPart part, int remaining) {
+
+  }
+
+  /**
+   * 배정 대상 챌린저
+   */
+  public record Candidate(Long challengerId, ChallengerPart part) {
+
+  }
+}
@@ -0,0 +1,10 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.repository;
+
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.AutoDecisionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AutoDecisionCheckpointRepository extends JpaRepository<AutoDecisionCheckpoint, Long> {
+
+}
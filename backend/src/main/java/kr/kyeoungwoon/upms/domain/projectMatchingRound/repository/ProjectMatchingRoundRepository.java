@@ -1,8 +1,9 @@
 package kr.kyeoungwoon.upms.domain.projectMatchingRound.repository;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.projection.RoundDeadlineRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,42 +13,13 @@ import org.springframework.stereotype.Repository;
 public interface ProjectMatchingRoundRepository extends JpaRepository<ProjectMatchingRound, Long> {
 
   /**
-   * 현재 진행 중인 매칭 라운드 조회 (현재 시간이 startAt과 endAt 사이)
+   * 특정 Chapter의 모든 매칭 라운드 조회 (챕터 fetch join, 타임라인 적재용)
    */
   @Query("SELECT mr FROM ProjectMatchingRound mr "
+      + "JOIN FETCH mr.chapter "
       + "WHERE mr.chapter.id = :chapterId "
-      + "AND :now BETWEEN mr.startAt AND mr.endAt "
-      + "ORDER BY mr.startAt ASC "
-      + "LIMIT 1")
-  Optional<ProjectMatchingRound> findCurrentMatchingRound(
-      @Param("chapterId") Long chapterId,
-      @Param("now") Instant now);
-
-  /**
-   * 특정 Chapter의 현재 진행 중이거나 가장 가까운 미래의 매칭 라운드 조회 1순위: 현재 진행 중인 라운드 2순위: 아직 시작하지 않은 가장 가까운 라운드
-   */
-  @Query("SELECT mr FROM ProjectMatchingRound mr "
-      + "WHERE mr.chapter.id = :chapterId AND mr.endAt >= :now "
-      + "ORDER BY CASE WHEN :now BETWEEN mr.startAt AND mr.endAt THEN 0 ELSE 1 END, "
-      + "mr.startAt ASC "
-      + "LIMIT 1")
-  Optional<ProjectMatchingRound> findCurrentOrUpcomingByChapterId(
-      @Param("chapterId") Long chapterId,
-      @Param("now") Instant now);
-
-  /**
-   * 특정 Chapter의 특정 기간 내 매칭 라운드 목록 조회 (startAt이 검색 기간 내에 있거나, endAt이 검색 기간 내에 있거나, 검색 기간을 포함하는 경우)
-   */
-  @Query("SELECT mr FROM ProjectMatchingRound mr "
-      + "WHERE mr.chapter.id = :chapterId "
-      + "AND (mr.startAt BETWEEN :startTime AND :endTime "
-      + "OR mr.endAt BETWEEN :startTime AND :endTime "
-      + "OR (mr.startAt <= :startTime AND mr.endAt >= :endTime)) "
       + "ORDER BY mr.startAt ASC")
-  java.util.List<ProjectMatchingRound> findByChapterIdAndTimeBetween(
-      @Param("chapterId") Long chapterId,
-      @Param("startTime") Instant startTime,
-      @Param("endTime") Instant endTime);
+  List<ProjectMatchingRound> findAllWithChapterByChapterId(@Param("chapterId") Long chapterId);
 
   /**
    * 특정 Chapter에서 기간이 중복되는 매칭 라운드가 있는지 확인 (생성 시 사용)
@@ -78,11 +50,44 @@ public interface ProjectMatchingRoundRepository extends JpaRepository<ProjectMat
    */
   java.util.List<ProjectMatchingRound> findByChapterId(Long chapterId);
 
+  /**
+   * 특정 Chapter에 아직 합/불이 끝나지 않은 매칭 라운드가 있는지 확인
+   * <p>
+   * 결정 마감이 있는 라운드는 자동 합/불 처리 전이면 끝나지 않은 것으로 봅니다. 결정 마감이 없는 라운드는 자동 합/불 처리 대상이 아니므로, 지원 기간이
+   * 끝났고 대기 지원서가 남지 않았으면 끝난 것으로 봅니다.
+   */
+  @Query("SELECT COUNT(mr) > 0 FROM ProjectMatchingRound mr "
+      + "WHERE mr.chapter.id = :chapterId "
+      + "AND mr.isAutoDecisionExecuted = false "
+      + "AND (mr.decisionDeadlineAt IS NOT NULL "
+      + "OR mr.endAt > :now "
+      + "OR EXISTS (SELECT 1 FROM ProjectApplication pa WHERE pa.matchingRound = mr "
+      + "AND pa.status = kr.kyeoungwoon.upms.global.enums.ApplicationStatus.PENDING))")
+  boolean existsUndecidedByChapterId(@Param("chapterId") Long chapterId,
+      @Param("now") Instant now);
+
   /**
    * 자동 합/불 처리가 필요한 매칭 라운드 조회 (결정 마감이 지났고, 아직 처리되지 않은 경우)
    */
-  @Query("SELECT mr FROM ProjectMatchingRound mr "
+  @Query("SELECT mr.id FROM ProjectMatchingRound mr "
       + "WHERE mr.decisionDeadlineAt <= :now "
-      + "AND mr.isAutoDecisionExecuted = false")
-  java.util.List<ProjectMatchingRound> findRoundsToAutoDecide(@Param("now") Instant now);
+      + "AND mr.isAutoDecisionExecuted = false "
+      + "ORDER BY mr.decisionDeadlineAt, mr.id")
+  java.util.List<Long> findRoundIdsToAutoDecide(@Param("now") Instant now);
+
+  /**
+   * 자동 합/불 처리 전인 모든 매칭 라운드의 결정 마감 시각 조회 (마감 큐 적재용)
+   */
+  @Query("SELECT mr.id AS id, mr.decisionDeadlineAt AS decisionDeadlineAt "
+      + "FROM ProjectMatchingRound mr "
+      + "WHERE mr.isAutoDecisionExecuted = false AND mr.decisionDeadlineAt IS NOT NULL")
+  java.util.List<RoundDeadlineRow> findPendingDeadlines();
+
+  /**
+   * ID 목록으로 매칭 라운드 조회 (Keyset 페이지네이션 2단계, 챕터 fetch join)
+   */
+  @Query("SELECT mr FROM ProjectMatchingRound mr "
+      + "JOIN FETCH mr.chapter "
+      + "WHERE mr.id IN :ids")
+  List<ProjectMatchingRound> findAllWithChapterByIdIn(@Param("ids") List<Long> ids);
 }
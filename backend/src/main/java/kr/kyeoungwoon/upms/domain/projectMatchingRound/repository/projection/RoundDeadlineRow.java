@@ -0,0 +1,13 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * 자동 합/불 처리 전인 매칭 라운드의 결정 마감 시각 Projection
+ */
+public interface RoundDeadlineRow {
+
+  Long getId();
+
+  Instant getDecisionDeadlineAt();
+}
@@ -1,9 +1,15 @@
 package kr.kyeoungwoon.upms.domain.projectMatchingRound.scheduler;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.AutoDecisionDeadlineQueue;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.AutoDecisionJob;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundAutoDecisionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -12,16 +18,41 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ProjectMatchingRoundAutoDecisionScheduler {
 
+  private final AutoDecisionJob autoDecisionJob;
+  private final AutoDecisionDeadlineQueue autoDecisionDeadlineQueue;
   private final ProjectMatchingRoundAutoDecisionService autoDecisionService;
 
   /**
-   * 10분 간격으로 자동 합/불 처리를 실행합니다.
+   * 시작 시 자동 합/불 처리 전인 라운드의 결정 마감을 큐에 적재합니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadDeadlines() {
+    autoDecisionDeadlineQueue.mergeAll(autoDecisionService.findPendingDeadlines());
+  }
+
+  /**
+   * 5초 간격으로 마감 큐를 확인하여 결정 마감이 지난 라운드를 바로 처리합니다. (DB 조회 없음)
+   * <p>
+   * 라운드 처리는 AutoDecisionJob 의 작업 스레드에 넘기고 기다리지 않습니다.
+   */
+  @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.SECONDS)
+  public void executeDueRounds() {
+    List<Long> dueRoundIds = autoDecisionDeadlineQueue.pollDue(Instant.now());
+    if (dueRoundIds.isEmpty()) {
+      return;
+    }
+    log.info("[매칭 차수 종료 Scheduler] 결정 마감이 지난 매칭 라운드를 처리합니다. {}", dueRoundIds);
+    autoDecisionJob.runRounds(dueRoundIds);
+  }
+
+  /**
+   * 1시간 간격 안전망: 큐에서 누락된 라운드(다른 인스턴스에서 변경 등)를 DB 에서 찾아 처리하고 큐를 보정합니다.
    */
-//  @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.SECONDS)
   @Scheduled(cron = "0 5 * * * *")
   public void executeAutoDecisionJob() {
     Instant now = Instant.now();
     log.info("[매칭 차수 종료 Scheduler] 매칭 차수가 끝났는지 검증합니다. {}", now);
-    autoDecisionService.processExpiredRounds(now);
+    autoDecisionJob.run(now);
+    autoDecisionDeadlineQueue.mergeAll(autoDecisionService.findPendingDeadlines());
   }
 }
@@ -1,22 +1,36 @@
 package kr.kyeoungwoon.upms.domain.projectMatchingRound.service;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
-import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
 import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
-import kr.kyeoungwoon.upms.domain.project.entity.ProjectTo;
 import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
-import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
-import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.project.service.ProjectToService;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.PartQuota;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaRequirement;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
 import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.PendingDecisionRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.AutoDecisionPlan;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.AutoDecisionPlanner;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.AutoDecisionRun;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.ProjectMemberKey;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.dto.ProjectMatchingRoundDto;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.AutoDecisionCheckpoint;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.AutoDecisionCheckpointRepository;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.projection.RoundDeadlineRow;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
 import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
 import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
 import lombok.RequiredArgsConstructor;
@@ -24,226 +38,279 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 매칭 차수 자동 합/불 처리
+ * <p>
+ * (프로젝트, 파트) 단위로 필요한 값을 한 번씩만 적재하여 메모리에서 계획(AutoDecisionPlanner)을 세운 뒤, 지원서 상태는 벌크 UPDATE, 멤버는 배치
+ * INSERT, 카운터는 변경 건수만큼 한 번에 반영합니다. 파트마다 따로 커밋하고 처리 기록(AutoDecisionCheckpoint)을 남기므로, 중단되어도 마지막으로 커밋한
+ * 파트 다음부터 같은 시드로 이어서 처리합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProjectMatchingRoundAutoDecisionService {
 
+  // IN 절 파라미터 수 제한
+  private static final int UPDATE_CHUNK_SIZE = 1000;
+
   private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
   private final ProjectApplicationRepository projectApplicationRepository;
-  private final ProjectToRepository projectToRepository;
   private final ProjectMemberRepository projectMemberRepository;
+  private final ProjectRepository projectRepository;
+  private final ChallengerRepository challengerRepository;
+  private final ProjectToService projectToService;
+  private final ProjectApplicationCounterService projectApplicationCounterService;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
+  private final AutoDecisionPlanner autoDecisionPlanner;
+  private final AutoDecisionCheckpointRepository autoDecisionCheckpointRepository;
 
   /**
-   * 마감이 지난 매칭 라운드에 대해 자동 합/불 처리를 실행합니다.
+   * 자동 합/불 처리가 필요한 매칭 라운드 ID 조회 (결정 마감이 빠른 순)
    */
-  @Transactional
-  public void processExpiredRounds(Instant now) {
-    List<ProjectMatchingRound> rounds = projectMatchingRoundRepository.findRoundsToAutoDecide(now);
-    if (rounds.isEmpty()) {
-      return;
-    }
+  @Transactional(readOnly = true)
+  public List<Long> findRoundIdsToAutoDecide(Instant now) {
+    return projectMatchingRoundRepository.findRoundIdsToAutoDecide(now);
+  }
 
-    log.info("[매칭 차수 종료 Scheduler] Plan 결정 마감 시간이 지난 매칭 라운드가 {}개 있습니다.", rounds.size());
-    for (ProjectMatchingRound round : rounds) {
-      try {
-        processSingleRound(round.getId());
-      } catch (Exception e) {
-        log.error("[매칭 차수 종료 Scheduler] 매칭 라운드 {}에 대한 처리를 실패하였습니다.", round.getId(), e);
-      }
-    }
+  /**
+   * 자동 합/불 처리 전인 매칭 라운드별 결정 마감 시각 (마감 큐 적재용)
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, Instant> findPendingDeadlines() {
+    return projectMatchingRoundRepository.findPendingDeadlines().stream()
+        .collect(Collectors.toMap(RoundDeadlineRow::getId, RoundDeadlineRow::getDecisionDeadlineAt));
   }
 
+  /**
+   * 매칭 라운드 자동 합/불 처리 시작 (또는 중단된 처리 재개)
+   * <p>
+   * 처리 기록이 없으면 새 시드로 만들고, 있으면 저장된 시드를 그대로 사용합니다. 이미 처리된 (프로젝트, 파트) 는 대기 지원서가 없으므로 남은 파트만
+   * 반환됩니다. 같은 라운드를 여러 인스턴스가 동시에 처리하지 않도록 호출자가 라운드 리스를 잡고 있어야 합니다.
+   *
+   * @return 이미 처리되었거나 존재하지 않거나 아직 결정 마감 전이면 empty
+   */
   @Transactional
-  protected void processSingleRound(Long matchingRoundId) {
+  public Optional<AutoDecisionRun> startRound(Long matchingRoundId) {
     ProjectMatchingRound round = projectMatchingRoundRepository.findById(matchingRoundId)
         .orElse(null);
     if (round == null || Boolean.TRUE.equals(round.getIsAutoDecisionExecuted())) {
-      return;
+      return Optional.empty();
     }
-
-    // 아직 상태변경을 하지 않은 지원서를 조회합니다
-    List<ProjectApplication> pendingApplications =
-        projectApplicationRepository.findByMatchingRoundIdAndStatus(
-            matchingRoundId, ApplicationStatus.PENDING);
-
-    // 처리해야할 지원서가 없다면 바로 종료합니다
-    if (pendingApplications.isEmpty()) {
-      round.markAutoDecisionExecuted();
-      return;
+    // 마감 큐에 등록된 이후 마감이 연장된 경우
+    if (round.getDecisionDeadlineAt() == null
+        || round.getDecisionDeadlineAt().isAfter(Instant.now())) {
+      log.info("[매칭 차수 종료 Scheduler] 결정 마감 전인 매칭 라운드는 건너뜁니다. matchingRoundId={}, 결정 마감={}",
+          matchingRoundId, round.getDecisionDeadlineAt());
+      return Optional.empty();
     }
 
-    Map<Project, List<ProjectTo>> projectToCache = new HashMap<>();
-
-    Map<Project, Map<ChallengerPart, List<ProjectApplication>>> groupedApplications =
-        pendingApplications.stream()
-            // 프로젝트 별로 1차 분류를 하고
-            .collect(Collectors.groupingBy(
-                pa -> pa.getForm().getProject(),
-                // 그 안에서 파트별로 2차 분류
-                Collectors.groupingBy(pa -> pa.getApplicant().getPart())
-            ));
-
-    groupedApplications.forEach((project, partMap) -> {
-      // groupedApplication은 결국 프로젝트 - (파트, 파트별 지원서) map 형태
-      // 각 프로젝트에 대해서 나열하게 됨
-
-      // HashMap 캐시를 통해서 프로젝트 TO 목록을 가져옴
-      List<ProjectTo> tos = projectToCache.computeIfAbsent(project,
-          projectToRepository::findByProject);
-
-      // 파트별 지원서 처리
-      partMap.forEach((part, applications) -> {
-        ProjectTo projectTo = tos.stream()
-            .filter(to -> Objects.equals(to.getPart(), part))
-            .findFirst()
-            .orElse(null);
-
-        // projectTo가 존재하지 않으면 모두 불합격 처리 (이러면 안됨)
-        if (projectTo == null) {
-          log.error(
-              "[매칭 차수 종료 Scheduler] 접수된 지원서에 대한 파트가 프로젝트 TO 목록에 존재하지 않습니다. projectId={}, part={}",
-              project.getId(),
-              part);
-          rejectAll(applications);
-          return;
-        }
-
-        handlePartDecisions(round, project, part, projectTo, applications);
-      });
-    });
-
-    round.markAutoDecisionExecuted();
-  }
-
-  private void handlePartDecisions(
-      ProjectMatchingRound round,
-      Project project,
-      ChallengerPart part,
-      ProjectTo projectTo,
-      List<ProjectApplication> applications
-  ) {
-    // 기존 라운드에서 이미 합격한 인원
-    long previouslyConfirmed = projectApplicationRepository
-        .countByFormProjectAndApplicantPartAndMatchingRoundNotAndStatus(
-            project, part, round, ApplicationStatus.CONFIRMED);
-
-    // 현재 라운드에서 이미 확정된 인원
-    long currentConfirmed = projectApplicationRepository
-        .countByFormProjectAndApplicantPartAndMatchingRoundAndStatus(
-            project, part, round, ApplicationStatus.CONFIRMED);
-
-    // 현재 라운드에서 지원한 총 인원
-    long currentApplied = projectApplicationRepository
-        .countByFormProjectAndApplicantPartAndMatchingRound(
-            project, part, round);
-
-    // 프로젝트 TO
-    int maxTo = projectTo.getToCount();
-    // 남은 TO 계산, 음수면 0으로 처리함 (TO- 예전에 합격한 사람 - 현재 합격한 사람)
-
-    // 이번 매칭 차수에 할당된 TO
-    long currentMatchingRoundTo = Math.max(0, maxTo - previouslyConfirmed);
-
-    // 최소 선발 인원 계산
-    long minSelectCount;
-    // 디자인 파트 매칭의 경우
-    if (part == ChallengerPart.DESIGN) {
-      // 만약에 디자인 파트 TO가 1명인 경우 최소 선발 인원 없음
-      if (maxTo == 1) {
-        minSelectCount = 0;
-      } else {
-        // 디자인 파트 TO가 2명 이상인 경우, 최소 한 명은 선발하여야 함
-        minSelectCount = 1;
-      }
-    }
-    // 개발자 매칭의 경우
-    else {
-      long halfTo = (long) Math.ceil(currentMatchingRoundTo * 0.5);
-      long quarterTo = (long) Math.ceil(currentMatchingRoundTo * 0.25);
-
-      // 현재 매칭 차수의 TO보다 지원자가 많은 경우 최소 선발 인원은 50%
-      if (currentApplied >= currentMatchingRoundTo) {
-        minSelectCount = halfTo;
-      } else if (currentApplied > halfTo) {
-        // 지원자가 TO의 50% 이상인 경우 최소 선발은 25%
-        minSelectCount = quarterTo;
-      } else {
-        // 아니면 없음
-        minSelectCount = 0;
-      }
+    AutoDecisionCheckpoint checkpoint = autoDecisionCheckpointRepository.findById(matchingRoundId)
+        .orElse(null);
+    boolean resumed = checkpoint != null;
+    if (checkpoint == null) {
+      checkpoint = autoDecisionCheckpointRepository.save(AutoDecisionCheckpoint.builder()
+          .matchingRoundId(matchingRoundId)
+          .seed(ThreadLocalRandom.current().nextLong())
+          .build());
     }
 
-    // 지원서들을 무작위로 섞어서 반환
-    // 결정 마감 기한까지 지원서에 대한 합/불 결정을 하지 않으면 지원자 중에서 최소 선발 인원만큼 랜덤으로 합격 처리 합니다
-    List<ProjectApplication> randomList = new ArrayList<>(applications);
-    Collections.shuffle(randomList);
-
-    // 합격시킬 인원 계산 (최소 선발 인원 vs 지원서 개수)
-    // 최소 선발 인원 "만큼" 은 뽑아야 하니까, 현재 상황에서 추가로 선발해야 하는 인원을 고려함.
-    // 즉, minSelectCount에서 currentConfirmed를 뺀 값이 됨 (0 이하로는 떨어지면 안되므로 0과 max 비교)
-
-    // 추가: 최소 선발인원만큼 이미 뽑은 상황도 생각해야함. 따라서 minSelectCount - currentConfirmed와 비교하여야 함
-    int toConfirm = (int) Math.max(minSelectCount - currentConfirmed, 0);
+    List<AutoDecisionRun.Part> parts = projectApplicationRepository
+        .findPendingDecisionGroups(matchingRoundId).stream()
+        .map(row -> new AutoDecisionRun.Part(row.getProjectId(), row.getPart()))
+        .toList();
+    if (resumed) {
+      log.warn(
+          "[매칭 차수 종료 Scheduler] 중단된 매칭 라운드 처리를 재개합니다. matchingRoundId={}, 처리 완료 파트 {}개 (마지막: 프로젝트 {} {}), 남은 파트 {}개",
+          matchingRoundId, checkpoint.getCompletedPartCount(), checkpoint.getLastProjectId(),
+          checkpoint.getLastPart(), parts.size());
+    }
+    return Optional.of(new AutoDecisionRun(matchingRoundId, round.getChapter().getId(),
+        checkpoint.getSeed(), resumed, parts));
+  }
 
-    List<ProjectApplication> confirmTargets = randomList.subList(0, toConfirm);
-    List<ProjectApplication> rejectTargets = randomList.subList(toConfirm, randomList.size());
+  /**
+   * (프로젝트, 파트) 하나를 자체 트랜잭션으로 자동 합/불 처리하고 처리 기록 갱신
+   * <p>
+   * 파트 TO 행을 잠근 뒤 대기 지원서와 집계 값을 다시 읽어 계획하므로, 재개하거나 다시 호출해도 이미 처리된 지원서는 대상이 아닙니다. 중단되어도 이 파트
+   * 하나만 다시 처리하면 됩니다.
+   */
+  @Transactional
+  public void processPart(Long matchingRoundId, long seed, AutoDecisionRun.Part target) {
+    Long projectId = target.projectId();
+    ChallengerPart part = target.part();
 
-    log.info(
-        "[매칭 차수 종료 Scheduler] MatchingRoundId {}, 프로젝트 ID {}, Part {}: 총 지원자 {}, 기존 합격 인원 {}, 현재 매칭 차수 합격 인원 {}, 최소 선발 인원 {}, 추가로 합격 처리해야 하는 인원 {}",
-        round.getId(), project.getId(), part, applications.size(),
-        previouslyConfirmed, currentConfirmed, minSelectCount, toConfirm);
+    // 1. 파트 TO 행을 먼저 잠가서 이후 적재하는 멤버 수가 처리 도중 바뀌지 않도록 함
+    projectToService.lockPartTo(projectId, part);
 
-    confirmTargets.forEach(application -> confirmApplication(application, projectTo));
-    rejectTargets.forEach(this::rejectApplication);
+    // 2. 대기 지원서, 파트 집계 값, 프로젝트 기존 멤버 적재 (캐시를 거치지 않음)
+    List<PendingDecisionRow> pendingApplications =
+        projectApplicationRepository.findPendingDecisionRows(matchingRoundId, projectId, part);
+    PartQuota quota = roundQuotaSnapshotCache.loadPart(matchingRoundId, projectId, part)
+        .orElse(null);
+    Set<ProjectMemberKey> existingMembers = projectMemberRepository.findKeysByProjectId(projectId)
+        .stream()
+        .map(row -> new ProjectMemberKey(row.getProjectId(), row.getChallengerId()))
+        .collect(Collectors.toSet());
+
+    // 3. 메모리에서 합/불 계획 수립 후 처리 기록과 함께 반영
+    AutoDecisionPlan plan = autoDecisionPlanner.planPart(matchingRoundId, projectId, part, quota,
+        pendingApplications, existingMembers, seed);
+    logPlan(plan);
+    AutoDecisionCheckpoint checkpoint = autoDecisionCheckpointRepository.findById(matchingRoundId)
+        .orElseThrow(() -> new IllegalStateException(
+            "자동 합/불 처리 기록이 없습니다. matchingRoundId=" + matchingRoundId));
+    apply(plan, projectId, part, checkpoint);
   }
 
-  private void confirmApplication(ProjectApplication application, ProjectTo projectTo) {
-    Project project = application.getForm().getProject();
-    ChallengerPart applicantPart = application.getApplicant().getPart();
+  /**
+   * 모든 파트 처리 후 라운드를 처리 완료로 표시
+   */
+  @Transactional
+  public void finishRound(Long matchingRoundId) {
+    ProjectMatchingRound round = projectMatchingRoundRepository.findById(matchingRoundId)
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+            ErrorStatus.MATCHING_ROUND_NOT_FOUND));
+    round.markAutoDecisionExecuted();
+    autoDecisionCheckpointRepository.findById(matchingRoundId).ifPresent(checkpoint -> {
+      checkpoint.complete(Instant.now());
+      log.info(
+          "[매칭 차수 종료 Scheduler] MatchingRoundId {} 처리 완료 - 처리 파트 {}개, 합격 {}건, 불합격 {}건, 시드 {}",
+          matchingRoundId, checkpoint.getCompletedPartCount(), checkpoint.getConfirmedCount(),
+          checkpoint.getRejectedCount(), checkpoint.getSeed());
+    });
+  }
 
-    long currentMembers = projectMemberRepository.countByProjectAndChallengerPart(
-        project, applicantPart);
-    if (currentMembers >= projectTo.getToCount()) {
-      log.warn(
-          "[매칭 차수 종료 Scheduler] 합격 처리 시도 중 프로젝트 TO가 모두 찼습니다. projectId={}, part={}, applicantId={}",
-          project.getId(), applicantPart, application.getApplicant().getId());
-      rejectApplication(application);
-      return;
-    }
+  /**
+   * Chapter 의 모든 매칭 라운드 합/불이 끝났는지 확인 (미배정 챌린저 배정 여부 판단)
+   * <p>
+   * 결정 마감이 없는 라운드는 자동 합/불 처리되지 않으므로, 처리 여부 대신 지원 기간 종료와 대기 지원서 유무로 판단합니다. 그렇지 않으면 그런 라운드가
+   * 하나라도 있는 Chapter 는 배정이 실행되지 않습니다.
+   */
+  @Transactional(readOnly = true)
+  public boolean isChapterDecided(Long chapterId) {
+    return !projectMatchingRoundRepository.existsUndecidedByChapterId(chapterId, Instant.now());
+  }
 
-    // 이미 해당 프로젝트의 멤버가 아닌 경우, 멤버로 추가하기
-    if (!projectMemberRepository.existsByProjectAndChallenger(project,
-        application.getApplicant())) {
-      ProjectMember member = ProjectMember.builder()
-          .project(project)
-          .challenger(application.getApplicant())
-          .build();
-      projectMemberRepository.save(member);
-    }
-    // dirty checking으로 status update
-    application.updateStatus(ApplicationStatus.CONFIRMED);
+  /**
+   * 자동 합/불 처리 미리보기 (DB 에 쓰지 않음)
+   * <p>
+   * 실제 처리와 같은 AutoDecisionPlanner 로 현재 상태의 계획만 세웁니다. 잠금을 잡지 않고 캐시된 차수 스냅샷을 사용하므로 큰 차수에서도 조회 쿼리 몇 번으로
+   * 끝납니다. 실제 처리는 시작할 때 정한 시드를 사용하므로 합/불 인원은 같지만 선발되는 지원서는 다를 수 있습니다.
+   *
+   * @param seed 무작위 선발 시드 (null 이면 처리 기록의 시드, 기록이 없으면 새로 생성하여 응답에 포함)
+   */
+  @Transactional(readOnly = true)
+  public ProjectMatchingRoundDto.AutoDecisionPreviewResponse preview(Long matchingRoundId,
+      Long seed) {
+    ProjectMatchingRound round = projectMatchingRoundRepository.findById(matchingRoundId)
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+            ErrorStatus.MATCHING_ROUND_NOT_FOUND));
+    // 처리를 시작한 라운드는 실제 처리에 사용하는 시드를 기본값으로 사용
+    long resolvedSeed = seed != null ? seed : autoDecisionCheckpointRepository
+        .findById(matchingRoundId)
+        .map(AutoDecisionCheckpoint::getSeed)
+        .orElseGet(() -> ThreadLocalRandom.current().nextLong());
+
+    List<PendingDecisionRow> pendingApplications =
+        projectApplicationRepository.findPendingDecisionRows(matchingRoundId);
+    AutoDecisionPlan plan = autoDecisionPlanner.plan(matchingRoundId,
+        roundQuotaSnapshotCache.get(matchingRoundId), pendingApplications,
+        loadMemberKeys(round.getChapter().getId()), resolvedSeed);
+
+    return ProjectMatchingRoundDto.AutoDecisionPreviewResponse.builder()
+        .matchingRoundId(matchingRoundId)
+        .decisionDeadlineAt(round.getDecisionDeadlineAt())
+        .autoDecisionExecuted(round.getIsAutoDecisionExecuted())
+        .seed(resolvedSeed)
+        .pendingCount(pendingApplications.size())
+        .confirmedCount(plan.confirmedApplicationIds().size())
+        .rejectedCount(plan.rejectedApplicationIds().size())
+        .newMemberCount(plan.newMembers().size())
+        .parts(plan.parts().stream().map(this::toPartPreview).toList())
+        .build();
+  }
 
-    log.info(
-        "[매칭 차수 종료 Scheduler] 지원서를 합격 처리하였습니다. applicationId={}, projectId={}, applicantId={}",
-        application.getId(), project.getId(), application.getApplicant().getId());
+  private ProjectMatchingRoundDto.AutoDecisionPartPreview toPartPreview(
+      AutoDecisionPlan.PartDecision part) {
+    QuotaRequirement requirement = part.requirement();
+    return ProjectMatchingRoundDto.AutoDecisionPartPreview.builder()
+        .projectId(part.projectId())
+        .part(part.part())
+        .pendingCount(part.pendingCount())
+        .requiredCount(requirement != null ? requirement.requiredCount() : null)
+        .alreadyConfirmedCount(requirement != null ? requirement.confirmedCount() : null)
+        .targetCount(part.targetCount())
+        .toFullRejectedCount(part.toFullRejectedCount())
+        .confirmedApplicationIds(part.confirmedApplicationIds())
+        .rejectedApplicationIds(part.rejectedApplicationIds())
+        .build();
   }
 
-  private void rejectApplication(ProjectApplication application) {
-    application.updateStatus(ApplicationStatus.REJECTED);
+  private Set<ProjectMemberKey> loadMemberKeys(Long chapterId) {
+    return projectMemberRepository.findKeysByChapterId(chapterId).stream()
+        .map(row -> new ProjectMemberKey(row.getProjectId(), row.getChallengerId()))
+        .collect(Collectors.toSet());
+  }
 
-    log.info(
-        "[매칭 차수 종료 Scheduler] 지원서를 불합격 처리하였습니다. applicationId={}, projectId={}, applicantId={}",
-        application.getId(),
-        application.getForm().getProject().getId(),
-        application.getApplicant().getId());
+  /**
+   * 파트 하나의 계획 반영, 처리 기록도 같은 트랜잭션에서 갱신
+   */
+  private void apply(AutoDecisionPlan plan, Long projectId, ChallengerPart part,
+      AutoDecisionCheckpoint checkpoint) {
+    Instant now = Instant.now();
+    int confirmed = updateStatusInChunks(plan.confirmedApplicationIds(),
+        ApplicationStatus.CONFIRMED, now);
+    int rejected = updateStatusInChunks(plan.rejectedApplicationIds(),
+        ApplicationStatus.REJECTED, now);
+
+    // 연관 엔티티는 프록시로만 참조하고 JDBC 배치로 INSERT
+    projectMemberRepository.saveAll(plan.newMembers().stream()
+        .map(member -> ProjectMember.builder()
+            .project(projectRepository.getReferenceById(member.projectId()))
+            .challenger(challengerRepository.getReferenceById(member.challengerId()))
+            .build())
+        .toList());
+
+    // 지원서별로 카운터를 증감하지 않고 실제로 변경된 건수만큼 한 번에 반영
+    Long matchingRoundId = plan.matchingRoundId();
+    projectApplicationCounterService.shift(projectId, part, matchingRoundId,
+        ApplicationStatus.PENDING, ApplicationStatus.CONFIRMED, confirmed);
+    projectApplicationCounterService.shift(projectId, part, matchingRoundId,
+        ApplicationStatus.PENDING, ApplicationStatus.REJECTED, rejected);
+    checkpoint.recordPart(projectId, part, confirmed, rejected);
   }
 
-  private void rejectAll(List<ProjectApplication> applications) {
-    applications.forEach(this::rejectApplication);
+  private int updateStatusInChunks(List<Long> applicationIds, ApplicationStatus status,
+      Instant now) {
+    int updated = 0;
+    for (int from = 0; from < applicationIds.size(); from += UPDATE_CHUNK_SIZE) {
+      List<Long> chunk = applicationIds.subList(from,
+          Math.min(from + UPDATE_CHUNK_SIZE, applicationIds.size()));
+      updated += projectApplicationRepository.updateStatusByIdInAndStatus(chunk,
+          ApplicationStatus.PENDING, status, now);
+    }
+    return updated;
+  }
 
-    log.info(
-        "[매칭 차수 종료 Scheduler] 지원서 파트 전체를 불합격 처리하였습니다. applicationCount={}",
-        applications.size());
+  private void logPlan(AutoDecisionPlan plan) {
+    for (AutoDecisionPlan.PartDecision part : plan.parts()) {
+      if (part.requirement() == null) {
+        log.error(
+            "[매칭 차수 종료 Scheduler] 접수된 지원서에 대한 파트가 프로젝트 TO 목록에 존재하지 않습니다. projectId={}, part={}, 불합격 처리 {}건",
+            part.projectId(), part.part(), part.pendingCount());
+        continue;
+      }
+      log.info(
+          "[매칭 차수 종료 Scheduler] MatchingRoundId {}, 프로젝트 ID {}, Part {}: 대기 지원자 {}, 현재 매칭 차수 합격 인원 {}, 최소 선발 인원 {}, 추가로 합격 처리해야 하는 인원 {}, 합격 {}, 불합격 {}",
+          plan.matchingRoundId(), part.projectId(), part.part(), part.pendingCount(),
+          part.requirement().confirmedCount(), part.requirement().requiredCount(),
+          part.targetCount(), part.confirmedApplicationIds().size(),
+          part.rejectedApplicationIds().size());
+      if (part.toFullRejectedCount() > 0) {
+        log.warn(
+            "[매칭 차수 종료 Scheduler] 합격 처리 시도 중 프로젝트 TO가 모두 찼습니다. projectId={}, part={}, 불합격 처리 {}건",
+            part.projectId(), part.part(), part.toFullRejectedCount());
+      }
+    }
   }
 }
@@ -0,0 +1,91 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
+import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
+import kr.kyeoungwoon.upms.domain.project.service.ProjectToService;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.RoundQuotaSnapshotCache;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.ProjectMemberKey;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.placement.PlacementPlan;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.placement.PlacementPlanner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Chapter 의 매칭 라운드가 모두 끝난 뒤 미배정 챌린저를 남은 TO 에 자동 배정
+ * <p>
+ * 관리자가 한 명씩 프로젝트 멤버로 추가하던 작업을 대신합니다. Chapter 의 TO 행을 모두 잠근 뒤 남은 자리와 미배정 챌린저를 한 번씩만 적재하고,
+ * 메모리에서 배정 계획(PlacementPlanner)을 세워 멤버를 배치 INSERT 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectMatchingRoundPlacementService {
+
+  private final ProjectToService projectToService;
+  private final ProjectToRepository projectToRepository;
+  private final ProjectMemberRepository projectMemberRepository;
+  private final ProjectRepository projectRepository;
+  private final ChallengerRepository challengerRepository;
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final RoundQuotaSnapshotCache roundQuotaSnapshotCache;
+  private final PlacementPlanner placementPlanner;
+
+  /**
+   * 미배정 챌린저를 남은 TO 에 배정
+   * <p>
+   * TO 행을 잠근 이후에 멤버 수와 미배정 챌린저를 읽으므로, 동시에 들어온 합격 처리나 다른 인스턴스의 배정과 겹쳐도 TO 를 초과하거나 같은 챌린저를 두 번
+   * 배정하지 않습니다.
+   */
+  @Transactional
+  public PlacementPlan placeUnplaced(Long chapterId) {
+    // 1. Chapter 의 TO 행을 ID 순으로 잠금
+    projectToService.lockChapterTos(chapterId);
+
+    // 2. 남은 자리, 미배정 챌린저, 지원 이력 적재
+    List<PlacementPlanner.OpenSlot> slots = projectToRepository
+        .findCapacityRowsByChapterId(chapterId).stream()
+        .map(row -> new PlacementPlanner.OpenSlot(row.getProjectId(), row.getPart(),
+            (int) Math.max(0L, row.getToCount() - row.getMemberCount())))
+        .toList();
+    List<PlacementPlanner.Candidate> candidates = challengerRepository
+        .findUnplacedByChapterId(chapterId).stream()
+        .map(row -> new PlacementPlanner.Candidate(row.getChallengerId(), row.getPart()))
+        .toList();
+    Set<ProjectMemberKey> appliedPairs = projectApplicationRepository
+        .findAppliedKeysByChapterId(chapterId).stream()
+        .map(row -> new ProjectMemberKey(row.getProjectId(), row.getChallengerId()))
+        .collect(Collectors.toSet());
+
+    // 3. 메모리에서 배정 계획 수립
+    long startedAt = System.nanoTime();
+    PlacementPlan plan = placementPlanner.plan(chapterId, slots, candidates, appliedPairs);
+    long planMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    // 4. 연관 엔티티는 프록시로만 참조하고 JDBC 배치로 INSERT
+    projectMemberRepository.saveAll(plan.assignments().stream()
+        .map(member -> ProjectMember.builder()
+            .project(projectRepository.getReferenceById(member.projectId()))
+            .challenger(challengerRepository.getReferenceById(member.challengerId()))
+            .build())
+        .toList());
+    if (!plan.assignments().isEmpty()) {
+      roundQuotaSnapshotCache.evictAll();
+    }
+
+    log.info(
+        "[미배정 챌린저 자동 배정] chapterId={}, 미배정 챌린저 {}명, 남은 자리 {}개, 배정 {}명 (지원했던 프로젝트 {}명), 계획 수립 {}ms",
+        chapterId, plan.candidateCount(), plan.openSlotCount(), plan.assignments().size(),
+        plan.preferredCount(), planMillis);
+    return plan;
+  }
+}
@@ -2,14 +2,20 @@ package kr.kyeoungwoon.upms.domain.projectMatchingRound.service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import kr.kyeoungwoon.upms.domain.challenger.entity.Chapter;
 import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.AutoDecisionDeadlineQueue;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.dto.ProjectMatchingRoundDto;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
 import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.timeline.ChapterRoundTimeline;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.timeline.MatchingRoundTimeline;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
 import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
 import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.pagination.CursorPage;
+import kr.kyeoungwoon.upms.global.pagination.KeysetPaginator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,12 +29,16 @@ public class ProjectMatchingRoundService {
 
   private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
   private final ChapterRepository chapterRepository;
+  private final KeysetPaginator keysetPaginator;
+  private final MatchingRoundTimeline matchingRoundTimeline;
+  private final AutoDecisionDeadlineQueue autoDecisionDeadlineQueue;
 
   @Transactional
   public ProjectMatchingRoundDto.Response create(ProjectMatchingRoundDto.CreateRequest request) {
     log.info("매칭 라운드 생성 요청 - chapterId: {}, 기간: {} ~ {}", request.chapterId(),
         request.startAt(), request.endAt());
-    Chapter chapter = chapterRepository.findById(request.chapterId())
+    // 같은 Chapter 의 라운드 생성/수정을 직렬화 (기간 중복 검증과 저장 사이에 다른 라운드가 끼어들지 않도록)
+    Chapter chapter = chapterRepository.findForUpdateById(request.chapterId())
         .orElseThrow(() -> new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND));
 
     // 시작 시간이 종료 시간보다 늦은 경우 검증
@@ -45,12 +55,9 @@ public class ProjectMatchingRoundService {
           ErrorStatus.MATCHING_ROUND_INVALID_SCHEDULE);
     }
 
-    // 같은 Chapter에서 기간이 중복되는 매칭 라운드가 있는지 확인
-    boolean hasOverlap = projectMatchingRoundRepository.existsOverlappingRound(
-        request.chapterId(),
-        request.startAt(),
-        request.endAt()
-    );
+    // 같은 Chapter에서 기간이 중복되는 매칭 라운드가 있는지 확인 (캐시된 타임라인이 아닌 DB 기준)
+    boolean hasOverlap = projectMatchingRoundRepository.existsOverlappingRound(chapter.getId(),
+        request.startAt(), request.endAt());
 
     if (hasOverlap) {
       throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
@@ -67,6 +74,8 @@ public class ProjectMatchingRoundService {
         .build();
 
     ProjectMatchingRound saved = projectMatchingRoundRepository.save(matchingRound);
+    matchingRoundTimeline.evict(chapter.getId());
+    autoDecisionDeadlineQueue.schedule(saved.getId(), saved.getDecisionDeadlineAt());
     log.info("매칭 라운드 생성 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -89,16 +98,26 @@ public class ProjectMatchingRoundService {
         .toList();
   }
 
+  /**
+   * 전체 매칭 라운드 커서 기반 페이지 조회
+   */
+  public CursorPage<ProjectMatchingRoundDto.Response> findPage(String cursor, Integer size) {
+    log.info("전체 매칭 라운드 페이지 조회 - cursor: {}, size: {}", cursor, size);
+    return keysetPaginator.paginate(ProjectMatchingRound.class, cursor, size,
+        projectMatchingRoundRepository::findAllWithChapterByIdIn,
+        ProjectMatchingRound::getId,
+        this::toResponse);
+  }
+
   /**
    * 특정 Chapter의 현재 진행 중이거나 가장 가까운 매칭 라운드 조회
    */
   public ProjectMatchingRoundDto.Response findCurrentOrUpcoming(Long chapterId) {
     log.info("챕터의 진행/예정 매칭 라운드 조회 - chapterId: {}", chapterId);
-    ProjectMatchingRound matchingRound = projectMatchingRoundRepository
-        .findCurrentOrUpcomingByChapterId(chapterId, Instant.now())
+    return matchingRoundTimeline.get(chapterId, this::loadTimeline)
+        .flatMap(timeline -> timeline.currentOrUpcoming(Instant.now()))
         .orElseThrow(() -> new DomainException(DomainType.PROJECT_MATCHING_ROUND,
             ErrorStatus.MATCHING_ROUND_NOT_AVAILABLE_FOR_CHAPTER));
-    return toResponse(matchingRound);
   }
 
   /**
@@ -106,11 +125,10 @@ public class ProjectMatchingRoundService {
    */
   public ProjectMatchingRoundDto.Response findCurrent(Long chapterId) {
     log.info("챕터의 현재 매칭 라운드 조회 - chapterId: {}", chapterId);
-    ProjectMatchingRound matchingRound = projectMatchingRoundRepository
-        .findCurrentMatchingRound(chapterId, Instant.now())
+    return matchingRoundTimeline.get(chapterId, this::loadTimeline)
+        .flatMap(timeline -> timeline.current(Instant.now()))
         .orElseThrow(() -> new DomainException(DomainType.PROJECT_MATCHING_ROUND,
             ErrorStatus.MATCHING_ROUND_NOT_AVAILABLE_FOR_CHAPTER));
-    return toResponse(matchingRound);
   }
 
   /**
@@ -120,13 +138,7 @@ public class ProjectMatchingRoundService {
       Long chapterId, Instant startTime, Instant endTime) {
     log.info("챕터 매칭 라운드 기간 검색 - chapterId: {}, 기간: {} ~ {}", chapterId, startTime,
         endTime);
-    if (!chapterRepository.existsById(chapterId)) {
-      throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
-    }
-    return projectMatchingRoundRepository
-        .findByChapterIdAndTimeBetween(chapterId, startTime, endTime).stream()
-        .map(this::toResponse)
-        .toList();
+    return getTimeline(chapterId).between(startTime, endTime);
   }
 
 
@@ -157,14 +169,11 @@ public class ProjectMatchingRoundService {
           ErrorStatus.MATCHING_ROUND_INVALID_SCHEDULE);
     }
 
-    // 기간이 변경되는 경우에만 중복 체크
+    // 기간이 변경되는 경우에만 중복 체크 (Chapter 를 잠근 뒤 캐시된 타임라인이 아닌 DB 기준)
     if (request.startAt() != null || request.endAt() != null) {
+      chapterRepository.findForUpdateById(matchingRound.getChapter().getId());
       boolean hasOverlap = projectMatchingRoundRepository.existsOverlappingRoundExcludingSelf(
-          matchingRound.getChapter().getId(),
-          id,
-          newStartAt,
-          newEndAt
-      );
+          matchingRound.getChapter().getId(), id, newStartAt, newEndAt);
 
       if (hasOverlap) {
         throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
@@ -186,6 +195,12 @@ public class ProjectMatchingRoundService {
         .build();
 
     ProjectMatchingRound saved = projectMatchingRoundRepository.save(updated);
+    matchingRoundTimeline.evict(matchingRound.getChapter().getId());
+    if (Boolean.TRUE.equals(saved.getIsAutoDecisionExecuted())) {
+      autoDecisionDeadlineQueue.cancel(saved.getId());
+    } else {
+      autoDecisionDeadlineQueue.schedule(saved.getId(), saved.getDecisionDeadlineAt());
+    }
     log.info("매칭 라운드 수정 완료 - id: {}", saved.getId());
     return toResponse(saved);
   }
@@ -193,11 +208,32 @@ public class ProjectMatchingRoundService {
   @Transactional
   public void delete(Long id) {
     log.info("매칭 라운드 삭제 요청 - id: {}", id);
-    if (!projectMatchingRoundRepository.existsById(id)) {
-      throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
-          ErrorStatus.MATCHING_ROUND_NOT_FOUND);
+    ProjectMatchingRound matchingRound = projectMatchingRoundRepository.findById(id)
+        .orElseThrow(() -> new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+            ErrorStatus.MATCHING_ROUND_NOT_FOUND));
+    Long chapterId = matchingRound.getChapter().getId();
+    projectMatchingRoundRepository.delete(matchingRound);
+    matchingRoundTimeline.evict(chapterId);
+    autoDecisionDeadlineQueue.cancel(id);
+  }
+
+  /**
+   * Chapter 매칭 라운드 타임라인 조회 (존재하지 않는 Chapter 는 예외)
+   */
+  private ChapterRoundTimeline getTimeline(Long chapterId) {
+    return matchingRoundTimeline.get(chapterId, this::loadTimeline)
+        .orElseThrow(() -> new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND));
+  }
+
+  private Optional<ChapterRoundTimeline> loadTimeline(Long chapterId) {
+    if (!chapterRepository.existsById(chapterId)) {
+      return Optional.empty();
     }
-    projectMatchingRoundRepository.deleteById(id);
+    List<ProjectMatchingRoundDto.Response> rounds = projectMatchingRoundRepository
+        .findAllWithChapterByChapterId(chapterId).stream()
+        .map(this::toResponse)
+        .toList();
+    return Optional.of(new ChapterRoundTimeline(chapterId, rounds, Instant.now()));
   }
 
   private ProjectMatchingRoundDto.Response toResponse(ProjectMatchingRound matchingRound) {
@@ -0,0 +1,211 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.projection.UnplacedChallengerRow;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.projection.ProjectPartCapacityRow;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationCounterRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.projection.ProjectPartCountRow;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.dto.ProjectMatchingRoundDto;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.simulation.MatchingSimulator;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.simulation.SimulationInput;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.simulation.SimulationResult;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.enums.DomainType;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ApplicantDistribution;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * TO 구성 what-if 시뮬레이션
+ * <p>
+ * Chapter 의 현재 TO, 멤버 수, 미배정 챌린저, 지원 이력을 한 번씩 적재한 뒤 요청한 TO 변경을 덮어써서 MatchingSimulator 로 매칭 라운드를 반복
+ * 실행합니다. DB 에는 아무것도 반영하지 않으며, 시뮬레이션 동안 커넥션을 잡고 있지 않도록 트랜잭션을 열지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectMatchingRoundSimulationService {
+
+  private static final int DEFAULT_ITERATIONS = 2000;
+  private static final int MAX_ITERATIONS = 20000;
+  private static final int MAX_ROUND_COUNT = 10;
+
+  private final ChapterRepository chapterRepository;
+  private final ProjectRepository projectRepository;
+  private final ProjectToRepository projectToRepository;
+  private final ChallengerRepository challengerRepository;
+  private final ProjectApplicationCounterRepository projectApplicationCounterRepository;
+  private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
+  private final MatchingSimulator matchingSimulator;
+
+  public ProjectMatchingRoundDto.SimulationResponse simulate(
+      ProjectMatchingRoundDto.SimulationRequest request) {
+    Long chapterId = request.chapterId();
+    if (chapterId == null || !chapterRepository.existsById(chapterId)) {
+      throw new DomainException(DomainType.CHAPTER, ErrorStatus.CHAPTER_NOT_FOUND);
+    }
+
+    int roundCount = request.roundCount() != null ? request.roundCount()
+        : Math.max(1, projectMatchingRoundRepository.findByChapterId(chapterId).size());
+    int iterations = request.iterations() != null ? request.iterations() : DEFAULT_ITERATIONS;
+    double applyRate = request.applyRate() != null ? request.applyRate() : 1.0;
+    double poAcceptRate = request.poAcceptRate() != null ? request.poAcceptRate() : 0.0;
+    if (roundCount < 1 || roundCount > MAX_ROUND_COUNT
+        || iterations < 1 || iterations > MAX_ITERATIONS
+        || !isRate(applyRate) || !isRate(poAcceptRate)) {
+      throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+          ErrorStatus.MATCHING_ROUND_SIMULATION_INVALID_OPTION);
+    }
+    long seed = request.seed() != null ? request.seed() : ThreadLocalRandom.current().nextLong();
+
+    SimulationInput input = new SimulationInput(
+        loadSlots(chapterId, request.toOverrides(), request.distribution()),
+        loadApplicantCounts(chapterId, request.applicantCounts()),
+        roundCount, iterations, seed, applyRate, poAcceptRate);
+
+    long startedAt = System.nanoTime();
+    SimulationResult result = matchingSimulator.simulate(input);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    log.info("매칭 시뮬레이션 완료 - chapterId: {}, 프로젝트 파트 {}개, 라운드 {}회, 반복 {}회, 시드 {}, 소요 시간 {}ms",
+        chapterId, input.slots().size(), roundCount, iterations, seed, elapsedMillis);
+
+    return ProjectMatchingRoundDto.SimulationResponse.builder()
+        .chapterId(chapterId)
+        .iterations(result.iterations())
+        .roundCount(result.roundCount())
+        .seed(result.seed())
+        .elapsedMillis(elapsedMillis)
+        .parts(result.parts().stream().map(this::toPartResult).toList())
+        .slots(result.slots().stream().map(this::toSlotResult).toList())
+        .build();
+  }
+
+  /**
+   * 현재 TO 와 멤버 수에 요청한 TO 변경을 덮어쓴 프로젝트 파트 목록 (프로젝트, 파트 순)
+   */
+  private List<SimulationInput.Slot> loadSlots(Long chapterId,
+      List<ProjectMatchingRoundDto.SimulationToOverride> overrides,
+      ApplicantDistribution distribution) {
+    Map<SlotKey, int[]> capacities = new TreeMap<>(
+        Comparator.comparing(SlotKey::projectId).thenComparing(SlotKey::part));
+    for (ProjectPartCapacityRow row : projectToRepository.findCapacityRowsByChapterId(chapterId)) {
+      capacities.put(new SlotKey(row.getProjectId(), row.getPart()),
+          new int[]{row.getToCount(), Math.toIntExact(row.getMemberCount())});
+    }
+
+    if (overrides != null && !overrides.isEmpty()) {
+      Set<Long> chapterProjectIds = projectRepository.findByChapterId(chapterId).stream()
+          .map(Project::getId)
+          .collect(Collectors.toSet());
+      for (ProjectMatchingRoundDto.SimulationToOverride override : overrides) {
+        if (override.part() == null || override.toCount() == null || override.toCount() < 0) {
+          throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+              ErrorStatus.MATCHING_ROUND_SIMULATION_INVALID_OPTION);
+        }
+        if (!chapterProjectIds.contains(override.projectId())) {
+          throw new DomainException(DomainType.PROJECT, ErrorStatus.PROJECT_NOT_FOUND);
+        }
+        SlotKey key = new SlotKey(override.projectId(), override.part());
+        if (override.toCount() == 0) {
+          capacities.remove(key);
+        } else {
+          capacities.computeIfAbsent(key, k -> new int[2])[0] = override.toCount();
+        }
+      }
+    }
+
+    // 지원 이력이 없는 프로젝트도 선택될 수 있도록 모든 가중치에 1 을 더함
+    Map<SlotKey, Long> applicationCounts = new HashMap<>();
+    if (distribution != ApplicantDistribution.UNIFORM) {
+      for (ProjectPartCountRow row : projectApplicationCounterRepository
+          .sumGroupByProjectAndPartByChapterId(chapterId)) {
+        applicationCounts.put(new SlotKey(row.getProjectId(), row.getPart()),
+            row.getApplicationCount());
+      }
+    }
+
+    List<SimulationInput.Slot> slots = new ArrayList<>();
+    capacities.forEach((key, capacity) -> slots.add(new SimulationInput.Slot(key.projectId(),
+        key.part(), capacity[0], capacity[1],
+        1.0 + Math.max(0L, applicationCounts.getOrDefault(key, 0L)))));
+    return slots;
+  }
+
+  /**
+   * 파트별 현재 미배정 챌린저 수에 요청한 인원을 덮어씀
+   */
+  private Map<ChallengerPart, Integer> loadApplicantCounts(Long chapterId,
+      Map<ChallengerPart, Integer> overrides) {
+    Map<ChallengerPart, Integer> counts = new EnumMap<>(ChallengerPart.class);
+    for (UnplacedChallengerRow row : challengerRepository.findUnplacedByChapterId(chapterId)) {
+      counts.merge(row.getPart(), 1, Integer::sum);
+    }
+    if (overrides != null) {
+      overrides.forEach((part, count) -> {
+        if (count == null || count < 0) {
+          throw new DomainException(DomainType.PROJECT_MATCHING_ROUND,
+              ErrorStatus.MATCHING_ROUND_SIMULATION_INVALID_OPTION);
+        }
+        counts.put(part, count);
+      });
+    }
+    return counts;
+  }
+
+  private boolean isRate(double value) {
+    return value >= 0.0 && value <= 1.0;
+  }
+
+  private ProjectMatchingRoundDto.SimulationPartResult toPartResult(
+      SimulationResult.PartSummary part) {
+    return ProjectMatchingRoundDto.SimulationPartResult.builder()
+        .part(part.part())
+        .toCount(part.toCount())
+        .initialMemberCount(part.initialMemberCount())
+        .applicantCount(part.applicantCount())
+        .meanMemberCount(part.meanMemberCount())
+        .fillRate(part.fillRate())
+        .meanUnplacedCount(part.meanUnplacedCount())
+        .p50UnplacedCount(part.p50UnplacedCount())
+        .p90UnplacedCount(part.p90UnplacedCount())
+        .maxUnplacedCount(part.maxUnplacedCount())
+        .noUnplacedRatio(part.noUnplacedRatio())
+        .build();
+  }
+
+  private ProjectMatchingRoundDto.SimulationSlotResult toSlotResult(
+      SimulationResult.SlotSummary slot) {
+    return ProjectMatchingRoundDto.SimulationSlotResult.builder()
+        .projectId(slot.projectId())
+        .part(slot.part())
+        .toCount(slot.toCount())
+        .initialMemberCount(slot.initialMemberCount())
+        .meanMemberCount(slot.meanMemberCount())
+        .fillRate(slot.fillRate())
+        .fullRatio(slot.fullRatio())
+        .build();
+  }
+
+  private record SlotKey(Long projectId, ChallengerPart part) {
+
+  }
+}
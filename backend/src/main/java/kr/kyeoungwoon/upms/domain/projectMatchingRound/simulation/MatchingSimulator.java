@@ -0,0 +1,326 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.simulation;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.PartQuota;
+import kr.kyeoungwoon.upms.domain.projectApplication.policy.QuotaPolicy;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TO 구성 what-if 시뮬레이션
+ * <p>
+ * 매칭 라운드 지원과 자동 합/불 처리를 메모리에서 여러 번 반복하여 파트별 충원율과 미배정 인원 분포를 계산합니다. 최소 선발 인원은 실제 처리와 같은
+ * QuotaPolicy 로 평가합니다. 반복마다 (시드, 반복 번호) 로 만든 난수를 사용하므로, 반복을 ForkJoin 으로 나눠 병렬 실행해도 같은 시드면 항상 같은 결과가
+ * 나옵니다.
+ * <p>
+ * 라운드 하나는 다음 순서로 진행합니다.
+ * <ol>
+ *   <li>미배정 챌린저가 지원 확률만큼 지원하고, 자리가 남은 같은 파트 프로젝트 중 가중치에 비례하여 한 곳을 고름</li>
+ *   <li>PO 가 지원자마다 PO 합격 확률로 직접 합격 처리 (남은 TO 이내)</li>
+ *   <li>자동 합/불 처리: 최소 선발 인원에 못 미친 만큼 대기 지원자를 추가로 합격시키고 나머지는 불합격</li>
+ * </ol>
+ */
+@Component
+public class MatchingSimulator {
+
+  private static final int PART_COUNT = ChallengerPart.values().length;
+  // 작업 하나가 나누지 않고 처리하는 최대 반복 수
+  private static final int LEAF_ITERATIONS = 32;
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private final QuotaPolicy quotaPolicy;
+  private final ForkJoinPool pool;
+
+  public MatchingSimulator(
+      QuotaPolicy quotaPolicy,
+      @Value("${upms.simulation.parallelism:0}") int parallelism) {
+    this.quotaPolicy = quotaPolicy;
+    // 공용 풀(parallel stream 등)과 CPU 를 다투지 않도록 전용 풀 사용
+    this.pool = new ForkJoinPool(
+        parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+  }
+
+  public SimulationResult simulate(SimulationInput input) {
+    Model model = new Model(input);
+    int[][] unplacedByIteration = new int[PART_COUNT][input.iterations()];
+    Tally tally = pool.invoke(
+        new IterationTask(model, unplacedByIteration, 0, input.iterations()));
+    return summarize(input, model, tally, unplacedByIteration);
+  }
+
+  /**
+   * 반복 하나 실행, 마지막 라운드 이후 파트별 미배정 인원과 프로젝트 파트별 멤버 수 기록
+   */
+  private void runIteration(Model model, int iteration, int[][] unplacedByIteration,
+      Tally tally) {
+    SplittableRandom random = new SplittableRandom(model.seed + GOLDEN_GAMMA * iteration);
+    int[] members = model.memberCounts.clone();
+    int[] unplaced = model.applicantCounts.clone();
+    int[] applied = new int[model.slotCount];
+    double[] cumulative = new double[model.maxSlotsPerPart];
+    int[] openSlots = new int[model.maxSlotsPerPart];
+
+    for (int round = 0; round < model.roundCount; round++) {
+      Arrays.fill(applied, 0);
+
+      // 1. 지원: 자리가 남은 프로젝트의 누적 가중치에서 이분 탐색으로 선택
+      for (int p = 0; p < PART_COUNT; p++) {
+        int openCount = 0;
+        double total = 0.0;
+        for (int s : model.slotsByPart[p]) {
+          if (members[s] < model.toCounts[s]) {
+            total += model.weights[s];
+            cumulative[openCount] = total;
+            openSlots[openCount++] = s;
+          }
+        }
+        if (openCount == 0) {
+          continue;
+        }
+        for (int a = 0; a < unplaced[p]; a++) {
+          if (random.nextDouble() >= model.applyRate) {
+            continue;
+          }
+          applied[openSlots[pick(cumulative, openCount, random.nextDouble() * total)]]++;
+        }
+      }
+
+      // 2. PO 합격 처리 후 3. 자동 합/불 처리
+      for (int s = 0; s < model.slotCount; s++) {
+        if (applied[s] == 0) {
+          continue;
+        }
+        int freeSlots = model.toCounts[s] - members[s];
+        int poConfirmed = 0;
+        for (int a = 0; a < applied[s]; a++) {
+          if (random.nextDouble() < model.poAcceptRate) {
+            poConfirmed++;
+          }
+        }
+        poConfirmed = Math.min(poConfirmed, freeSlots);
+
+        // 이번 라운드 지원자는 아직 멤버가 아니므로 라운드 시작 시점 멤버 수가 기존 멤버 수
+        PartQuota quota = new PartQuota(model.projectIds[s], model.parts[s], model.toCounts[s],
+            members[s] + poConfirmed, members[s], applied[s] - poConfirmed, poConfirmed, 0L);
+        long autoConfirmed = Math.min(quotaPolicy.evaluate(quota).remainingCount(),
+            Math.min(applied[s] - poConfirmed, freeSlots - poConfirmed));
+
+        int confirmed = poConfirmed + (int) autoConfirmed;
+        members[s] += confirmed;
+        unplaced[model.parts[s].ordinal()] -= confirmed;
+      }
+    }
+
+    for (int p = 0; p < PART_COUNT; p++) {
+      unplacedByIteration[p][iteration] = unplaced[p];
+    }
+    for (int s = 0; s < model.slotCount; s++) {
+      tally.memberSums[s] += members[s];
+      if (members[s] >= model.toCounts[s]) {
+        tally.fullCounts[s]++;
+      }
+    }
+  }
+
+  /**
+   * 누적 가중치가 target 을 처음 넘는 위치
+   */
+  private int pick(double[] cumulative, int length, double target) {
+    int low = 0;
+    int high = length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cumulative[mid] > target) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  private SimulationResult summarize(SimulationInput input, Model model, Tally tally,
+      int[][] unplacedByIteration) {
+    int iterations = input.iterations();
+
+    List<SimulationResult.SlotSummary> slots = new ArrayList<>();
+    for (int s = 0; s < model.slotCount; s++) {
+      double meanMembers = (double) tally.memberSums[s] / iterations;
+      slots.add(new SimulationResult.SlotSummary(model.projectIds[s], model.parts[s],
+          model.toCounts[s], model.memberCounts[s], meanMembers,
+          ratio(meanMembers, model.toCounts[s]), (double) tally.fullCounts[s] / iterations));
+    }
+
+    List<SimulationResult.PartSummary> parts = new ArrayList<>();
+    for (ChallengerPart part : ChallengerPart.values()) {
+      int p = part.ordinal();
+      if (model.slotsByPart[p].length == 0 && model.applicantCounts[p] == 0) {
+        continue;
+      }
+      int toCount = 0;
+      int initialMembers = 0;
+      long memberSum = 0L;
+      for (int s : model.slotsByPart[p]) {
+        toCount += model.toCounts[s];
+        initialMembers += model.memberCounts[s];
+        memberSum += tally.memberSums[s];
+      }
+      double meanMembers = (double) memberSum / iterations;
+
+      int[] unplaced = unplacedByIteration[p];
+      Arrays.sort(unplaced);
+      long unplacedSum = 0L;
+      int noUnplaced = 0;
+      for (int count : unplaced) {
+        unplacedSum += count;
+        if (count == 0) {
+          noUnplaced++;
+        }
+      }
+      parts.add(new SimulationResult.PartSummary(part, toCount, initialMembers,
+          model.applicantCounts[p], meanMembers, ratio(meanMembers, toCount),
+          (double) unplacedSum / iterations, percentile(unplaced, 0.5),
+          percentile(unplaced, 0.9), unplaced[iterations - 1],
+          (double) noUnplaced / iterations));
+    }
+
+    return new SimulationResult(iterations, input.roundCount(), input.seed(), parts, slots);
+  }
+
+  private double ratio(double value, int total) {
+    return total == 0 ? 0.0 : value / total;
+  }
+
+  private int percentile(int[] sorted, double quantile) {
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, index)];
+  }
+
+  @PreDestroy
+  void shutdown() {
+    pool.shutdown();
+  }
+
+  /**
+   * 반복 구간을 반으로 나눠 병렬 실행하고 프로젝트 파트별 합계를 합침
+   */
+  private final class IterationTask extends RecursiveTask<Tally> {
+
+    private final Model model;
+    private final int[][] unplacedByIteration;
+    private final int from;
+    private final int to;
+
+    private IterationTask(Model model, int[][] unplacedByIteration, int from, int to) {
+      this.model = model;
+      this.unplacedByIteration = unplacedByIteration;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (to - from <= LEAF_ITERATIONS) {
+        Tally tally = new Tally(model.slotCount);
+        for (int i = from; i < to; i++) {
+          runIteration(model, i, unplacedByIteration, tally);
+        }
+        return tally;
+      }
+      int mid = (from + to) >>> 1;
+      IterationTask left = new IterationTask(model, unplacedByIteration, from, mid);
+      left.fork();
+      Tally right = new IterationTask(model, unplacedByIteration, mid, to).compute();
+      return left.join().merge(right);
+    }
+  }
+
+  /**
+   * 프로젝트 파트별 멤버 수 합계와 TO 를 채운 반복 수
+   */
+  private static final class Tally {
+
+    private final long[] memberSums;
+    private final int[] fullCounts;
+
+    private Tally(int slotCount) {
+      this.memberSums = new long[slotCount];
+      this.fullCounts = new int[slotCount];
+    }
+
+    private Tally merge(Tally other) {
+      for (int s = 0; s < memberSums.length; s++) {
+        memberSums[s] += other.memberSums[s];
+        fullCounts[s] += other.fullCounts[s];
+      }
+      return this;
+    }
+  }
+
+  /**
+   * 반복마다 읽기만 하는 입력 배열 (슬롯 순번 기준)
+   */
+  private static final class Model {
+
+    private final int slotCount;
+    private final Long[] projectIds;
+    private final ChallengerPart[] parts;
+    private final int[] toCounts;
+    private final int[] memberCounts;
+    private final double[] weights;
+    private final int[][] slotsByPart;
+    private final int maxSlotsPerPart;
+    private final int[] applicantCounts;
+    private final int roundCount;
+    private final long seed;
+    private final double applyRate;
+    private final double poAcceptRate;
+
+    private Model(SimulationInput input) {
+      List<SimulationInput.Slot> slots = input.slots();
+      this.slotCount = slots.size();
+      this.projectIds = new Long[slotCount];
+      this.parts = new ChallengerPart[slotCount];
+      this.toCounts = new int[slotCount];
+      this.memberCounts = new int[slotCount];
+      this.weights = new double[slotCount];
+
+      int[] partSizes = new int[PART_COUNT];
+      for (int s = 0; s < slotCount; s++) {
+        SimulationInput.Slot slot = slots.get(s);
+        projectIds[s] = slot.projectId();
+        parts[s] = slot.part();
+        toCounts[s] = slot.toCount();
+        memberCounts[s] = slot.memberCount();
+        weights[s] = slot.weight();
+        partSizes[slot.part().ordinal()]++;
+      }
+      this.slotsByPart = new int[PART_COUNT][];
+      int maxSize = 0;
+      for (int p = 0; p < PART_COUNT; p++) {
+        slotsByPart[p] = new int[partSizes[p]];
+        maxSize = Math.max(maxSize, partSizes[p]);
+        partSizes[p] = 0;
+      }
+      for (int s = 0; s < slotCount; s++) {
+        int p = parts[s].ordinal();
+        slotsByPart[p][partSizes[p]++] = s;
+      }
+      this.maxSlotsPerPart = maxSize;
+
+      this.applicantCounts = new int[PART_COUNT];
+      input.applicantCounts().forEach((part, count) -> applicantCounts[part.ordinal()] = count);
+      this.roundCount = input.roundCount();
+      this.seed = input.seed();
+      this.applyRate = input.applyRate();
+      this.poAcceptRate = input.poAcceptRate();
+    }
+  }
+}
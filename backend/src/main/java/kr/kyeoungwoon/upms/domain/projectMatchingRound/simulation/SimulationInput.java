@@ -0,0 +1,36 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.simulation;
+
+import java.util.List;
+import java.util.Map;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * TO 구성 시뮬레이션 입력
+ *
+ * @param slots           프로젝트 파트별 TO 구성
+ * @param applicantCounts 파트별 미배정 챌린저 수 (라운드마다 지원하는 대상)
+ * @param roundCount      반복할 매칭 라운드 수
+ * @param iterations      시뮬레이션 반복 횟수
+ * @param seed            난수 시드 (같은 시드면 같은 결과)
+ * @param applyRate       미배정 챌린저가 라운드마다 지원할 확률
+ * @param poAcceptRate    PO 가 지원자를 직접 합격시킬 확률 (나머지는 자동 합/불 처리)
+ */
+public record SimulationInput(
+    List<Slot> slots,
+    Map<ChallengerPart, Integer> applicantCounts,
+    int roundCount,
+    int iterations,
+    long seed,
+    double applyRate,
+    double poAcceptRate
+) {
+
+  /**
+   * @param memberCount 시뮬레이션 시작 시점 멤버 수
+   * @param weight      지원자가 이 프로젝트를 고를 상대 가중치 (0 보다 커야 함)
+   */
+  public record Slot(Long projectId, ChallengerPart part, int toCount, int memberCount,
+                     double weight) {
+
+  }
+}
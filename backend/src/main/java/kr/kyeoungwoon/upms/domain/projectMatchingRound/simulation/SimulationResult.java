@@ -0,0 +1,55 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.simulation;
+
+import java.util.List;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+
+/**
+ * TO 구성 시뮬레이션 결과 (모든 반복의 평균과 분포)
+ */
+public record SimulationResult(
+    int iterations,
+    int roundCount,
+    long seed,
+    List<PartSummary> parts,
+    List<SlotSummary> slots
+) {
+
+  /**
+   * 파트별 충원율과 마지막 라운드 이후 미배정 인원 분포
+   *
+   * @param fillRate        평균 멤버 수 / 파트 전체 TO
+   * @param noUnplacedRatio 미배정 인원이 0 명으로 끝난 반복 비율
+   */
+  public record PartSummary(
+      ChallengerPart part,
+      int toCount,
+      int initialMemberCount,
+      int applicantCount,
+      double meanMemberCount,
+      double fillRate,
+      double meanUnplacedCount,
+      int p50UnplacedCount,
+      int p90UnplacedCount,
+      int maxUnplacedCount,
+      double noUnplacedRatio
+  ) {
+
+  }
+
+  /**
+   * 프로젝트 파트별 충원율
+   *
+   * @param fullRatio TO 를 모두 채운 반복 비율
+   */
+  public record SlotSummary(
+      Long projectId,
+      ChallengerPart part,
+      int toCount,
+      int initialMemberCount,
+      double meanMemberCount,
+      double fillRate,
+      double fullRatio
+  ) {
+
+  }
+}
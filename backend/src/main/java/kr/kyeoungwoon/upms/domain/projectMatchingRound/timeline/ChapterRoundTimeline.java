@@ -0,0 +1,95 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.timeline;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.dto.ProjectMatchingRoundDto;
+
+/**
+ * Chapter 하나의 매칭 라운드 구간 인덱스 (불변)
+ * <p>
+ * 라운드를 startAt 오름차순으로 보관하고, 시작 시각 기준 이진 탐색으로 후보 구간을 좁힙니다. 라운드가 없는 Chapter도 빈 타임라인으로 보관하여 "진행 중인
+ * 라운드 없음" 응답도 DB 조회 없이 처리합니다.
+ */
+public final class ChapterRoundTimeline {
+
+  private final Long chapterId;
+  private final List<ProjectMatchingRoundDto.Response> rounds;
+  private final Instant loadedAt;
+
+  public ChapterRoundTimeline(Long chapterId, List<ProjectMatchingRoundDto.Response> rounds,
+      Instant loadedAt) {
+    this.chapterId = chapterId;
+    this.rounds = rounds.stream()
+        .sorted(Comparator.comparing(ProjectMatchingRoundDto.Response::startAt)
+            .thenComparing(ProjectMatchingRoundDto.Response::id))
+        .toList();
+    this.loadedAt = loadedAt;
+  }
+
+  public Long chapterId() {
+    return chapterId;
+  }
+
+  public Instant loadedAt() {
+    return loadedAt;
+  }
+
+  /**
+   * now 시점에 진행 중인 라운드 (startAt <= now <= endAt, 여러 개면 먼저 시작한 라운드)
+   */
+  public Optional<ProjectMatchingRoundDto.Response> current(Instant now) {
+    int startedCount = countStartedAtOrBefore(now);
+    for (int i = 0; i < startedCount; i++) {
+      ProjectMatchingRoundDto.Response round = rounds.get(i);
+      if (!round.endAt().isBefore(now)) {
+        return Optional.of(round);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 진행 중인 라운드, 없으면 아직 시작하지 않은 가장 가까운 라운드
+   */
+  public Optional<ProjectMatchingRoundDto.Response> currentOrUpcoming(Instant now) {
+    Optional<ProjectMatchingRoundDto.Response> current = current(now);
+    if (current.isPresent()) {
+      return current;
+    }
+    int upcomingIndex = countStartedAtOrBefore(now);
+    return upcomingIndex < rounds.size()
+        ? Optional.of(rounds.get(upcomingIndex))
+        : Optional.empty();
+  }
+
+  /**
+   * 검색 기간과 걸치는 라운드 목록 (startAt 또는 endAt 이 기간 안에 있거나, 라운드가 기간을 포함하는 경우)
+   */
+  public List<ProjectMatchingRoundDto.Response> between(Instant startTime, Instant endTime) {
+    int candidateCount = countStartedAtOrBefore(endTime);
+    return rounds.subList(0, candidateCount).stream()
+        .filter(round -> !round.startAt().isBefore(startTime)
+            || (!round.endAt().isBefore(startTime) && !round.endAt().isAfter(endTime))
+            || !round.endAt().isBefore(endTime))
+        .toList();
+  }
+
+  /**
+   * startAt <= time 인 라운드 수 (= startAt > time 인 첫 라운드의 인덱스)
+   */
+  private int countStartedAtOrBefore(Instant time) {
+    int low = 0;
+    int high = rounds.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (rounds.get(mid).startAt().isAfter(time)) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+}
@@ -0,0 +1,80 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.timeline;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import kr.kyeoungwoon.upms.global.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Chapter별 매칭 라운드 타임라인 캐시
+ * <p>
+ * 매칭 라운드 생성/수정/삭제 시 해당 Chapter 타임라인을 무효화하고 다음 조회에서 다시 적재합니다. 무효화는 즉시 한 번, 트랜잭션 커밋 후 한 번 더
+ * 수행합니다. 무효화할 때마다 버전을 올리고, 적재를 시작한 뒤 버전이 바뀌었으면 적재한 타임라인을 저장하지 않으므로 무효화와 겹친 적재가 이전 라운드를 남기지
+ * 않습니다. 다른 인스턴스의 변경은 알 수 없으므로 타임라인은 최대 max-age 동안만 사용합니다.
+ */
+@Slf4j
+@Component
+public class MatchingRoundTimeline {
+
+  private final Duration maxAge;
+
+  private final AtomicLong version = new AtomicLong();
+  private final Map<Long, ChapterRoundTimeline> timelines = new ConcurrentHashMap<>();
+
+  public MatchingRoundTimeline(
+      @Value("${upms.matching-round-timeline.max-age:1m}") Duration maxAge) {
+    this.maxAge = maxAge;
+  }
+
+  /**
+   * Chapter 타임라인 조회 (없거나 max-age 가 지났으면 loader 로 적재)
+   *
+   * @param loader 존재하지 않는 Chapter 는 Optional.empty() 를 반환 (캐시하지 않음)
+   */
+  public Optional<ChapterRoundTimeline> get(Long chapterId,
+      Function<Long, Optional<ChapterRoundTimeline>> loader) {
+    ChapterRoundTimeline cached = timelines.get(chapterId);
+    if (cached != null && cached.loadedAt().plus(maxAge).isAfter(Instant.now())) {
+      return Optional.of(cached);
+    }
+
+    long loadingVersion = version.get();
+    Optional<ChapterRoundTimeline> loaded = loader.apply(chapterId);
+    // 쓰기 트랜잭션 안에서 적재한 타임라인은 커밋 전 변경이 섞여 있을 수 있어 공유하지 않음
+    if (loaded.isEmpty() || inWriteTransaction()) {
+      return loaded;
+    }
+    // 버전 확인과 저장을 같은 버킷 잠금 안에서 수행: 무효화는 버전을 올린 뒤 제거하므로, 확인 이후에 무효화되어도 저장한 값이 제거됨
+    ChapterRoundTimeline timeline = loaded.get();
+    timelines.compute(chapterId,
+        (id, existing) -> version.get() == loadingVersion ? timeline : existing);
+    log.debug("매칭 라운드 타임라인 적재 - chapterId: {}", chapterId);
+    return loaded;
+  }
+
+  /**
+   * Chapter 타임라인 무효화 (즉시 + 커밋 후)
+   */
+  public void evict(Long chapterId) {
+    remove(chapterId);
+    AfterCommit.run(() -> remove(chapterId));
+  }
+
+  private void remove(Long chapterId) {
+    version.incrementAndGet();
+    timelines.remove(chapterId);
+  }
+
+  private boolean inWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+}
@@ -0,0 +1,19 @@
+package kr.kyeoungwoon.upms.global.admission;
+
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.GeneralException;
+import lombok.Getter;
+
+/**
+ * 입장 제어에 의해 거절된 요청 (429 + Retry-After)
+ */
+@Getter
+public class AdmissionRejectedException extends GeneralException {
+
+  private final long retryAfterSeconds;
+
+  public AdmissionRejectedException(long retryAfterSeconds) {
+    super(ErrorStatus._TOO_MANY_REQUESTS);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
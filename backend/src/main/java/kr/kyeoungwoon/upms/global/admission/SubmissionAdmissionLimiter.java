@@ -0,0 +1,120 @@
+package kr.kyeoungwoon.upms.global.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지원서 제출 입장 제어
+ * <p>
+ * 매칭 라운드 시작 직후 제출 요청이 몰리면 커넥션 풀을 기다리는 스레드가 쌓여 전부 타임아웃으로 끝납니다. 동시에 처리되는 제출 수를 풀 크기 이하로 제한하고,
+ * 대기열이 가득 차거나 대기 시간이 초과되면 Retry-After 힌트와 함께 즉시 거절합니다.
+ */
+@Slf4j
+@Component
+public class SubmissionAdmissionLimiter {
+
+  private static final String METRIC_PREFIX = "upms.admission.submission";
+
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final int maxQueued;
+  private final Duration maxWait;
+  private final long retryAfterSeconds;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Timer waitTimer;
+  private final Counter queueFullCounter;
+  private final Counter timeoutCounter;
+
+  public SubmissionAdmissionLimiter(
+      @Value("${upms.admission.submission.max-concurrent:40}") int maxConcurrent,
+      @Value("${upms.admission.submission.max-queued:200}") int maxQueued,
+      @Value("${upms.admission.submission.max-wait:3s}") Duration maxWait,
+      @Value("${upms.admission.submission.retry-after:2s}") Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueued = maxQueued;
+    this.maxWait = maxWait;
+    this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+
+    meterRegistry.gauge(METRIC_PREFIX + ".queued", queued);
+    meterRegistry.gauge(METRIC_PREFIX + ".in-flight", inFlight);
+    this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+        .description("지원서 제출 입장 대기 시간 (입장 성공 건)")
+        .register(meterRegistry);
+    this.queueFullCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+        .tag("reason", "queue_full")
+        .description("대기열 초과로 거절된 지원서 제출 수")
+        .register(meterRegistry);
+    this.timeoutCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+        .tag("reason", "timeout")
+        .description("대기 시간 초과로 거절된 지원서 제출 수")
+        .register(meterRegistry);
+
+    log.info("지원서 제출 입장 제어 설정 - 동시 처리: {}, 대기열: {}, 최대 대기: {}ms, Retry-After: {}s",
+        maxConcurrent, maxQueued, maxWait.toMillis(), retryAfterSeconds);
+  }
+
+  /**
+   * 입장 허가를 받은 뒤 작업 실행
+   *
+   * @param task 실행할 작업 (트랜잭션은 작업 내부에서 시작되어야 함)
+   * @return 작업 결과
+   * @throws AdmissionRejectedException 대기열이 가득 찼거나 대기 시간이 초과된 경우
+   */
+  public <T> T execute(Supplier<T> task) {
+    acquire();
+    inFlight.incrementAndGet();
+    try {
+      return task.get();
+    } finally {
+      inFlight.decrementAndGet();
+      permits.release();
+    }
+  }
+
+  private void acquire() {
+    // 바로 입장 가능한 경우 대기열을 거치지 않음
+    if (permits.tryAcquire()) {
+      waitTimer.record(Duration.ZERO);
+      return;
+    }
+
+    if (queued.incrementAndGet() > maxQueued) {
+      queued.decrementAndGet();
+      queueFullCounter.increment();
+      log.warn("지원서 제출 대기열 초과 - 대기: {}명, 동시 처리: {}", maxQueued, maxConcurrent);
+      throw new AdmissionRejectedException(retryAfterSeconds);
+    }
+
+    long startedAt = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      timeoutCounter.increment();
+      throw new AdmissionRejectedException(retryAfterSeconds);
+    } finally {
+      queued.decrementAndGet();
+    }
+
+    if (!acquired) {
+      timeoutCounter.increment();
+      log.warn("지원서 제출 대기 시간 초과 - 최대 대기: {}ms", maxWait.toMillis());
+      throw new AdmissionRejectedException(retryAfterSeconds);
+    }
+    waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+}
@@ -19,6 +19,13 @@ public enum ErrorStatus implements BaseErrorCode {
   _BAD_REQUEST(HttpStatus.BAD_REQUEST, "COMMON-400", "잘못된 요청입니다."),
   _UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMON-401", "인증이 필요합니다."),
   _FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON-403", "허용되지 않는 요청입니다."),
+  PAGINATION_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON-0002", "페이지 커서가 올바르지 않습니다."),
+  _TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON-0003",
+      "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "COMMON-0004",
+      "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다."),
+  IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "COMMON-0005",
+      "같은 Idempotency-Key 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
   JWT_ACCESS_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "JWT-0001", "만료된 Access Token 입니다."),
   JWT_REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "JWT-0002", "만료된 Refresh Token 입니다."),
@@ -107,6 +114,18 @@ public enum ErrorStatus implements BaseErrorCode {
   PA_STATUS_CHANGE_AFTER_DECISION_DEADLINE_NOT_ALLOWED(HttpStatus.FORBIDDEN,
       "PROJECT-APPLICATION-0020",
       "합/불 결정 기간이 경과한 이후에는 지원서 상태 변경이 불가능합니다."),
+  PA_EXPORT_TARGET_REQUIRED(HttpStatus.BAD_REQUEST, "PROJECT-APPLICATION-0021",
+      "지원서 내보내기는 chapterId 또는 projectId 중 하나를 지정해야 합니다."),
+  PA_DECISION_EMPTY(HttpStatus.BAD_REQUEST, "PROJECT-APPLICATION-0022",
+      "합/불 결정할 지원서가 없습니다."),
+  PA_DECISION_TOO_MANY(HttpStatus.BAD_REQUEST, "PROJECT-APPLICATION-0023",
+      "한 번에 합/불 결정할 수 있는 지원서 수를 초과했습니다."),
+  PA_DECISION_DUPLICATED(HttpStatus.BAD_REQUEST, "PROJECT-APPLICATION-0024",
+      "같은 지원서가 중복으로 포함되어 있습니다."),
+  PA_DECISION_NOT_IN_PROJECT(HttpStatus.BAD_REQUEST, "PROJECT-APPLICATION-0025",
+      "요청한 프로젝트의 지원서가 아닙니다."),
+  PA_DUPLICATED_QUESTION_RESPONSE(HttpStatus.BAD_REQUEST, "PROJECT-APPLICATION-0026",
+      "같은 질문에 대한 응답이 중복으로 포함되어 있습니다."),
 
 
   // Matching Round
@@ -117,6 +136,8 @@ public enum ErrorStatus implements BaseErrorCode {
       "매칭 차수의 일정이 올바르지 않습니다."),
   MATCHING_ROUND_PERIOD_OVERLAP(HttpStatus.CONFLICT, "MATCHING-ROUND-0004",
       "매칭 차수는 서로 겹칠 수 없습니다."),
+  MATCHING_ROUND_SIMULATION_INVALID_OPTION(HttpStatus.BAD_REQUEST, "MATCHING-ROUND-0005",
+      "매칭 시뮬레이션 설정이 올바르지 않습니다."),
 
   // Infra - File
   FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "INFRA-0001", "파일이 존재하지 않습니다."),
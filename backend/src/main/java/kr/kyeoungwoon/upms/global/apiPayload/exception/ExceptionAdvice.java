@@ -7,6 +7,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import kr.kyeoungwoon.upms.global.admission.AdmissionRejectedException;
 import kr.kyeoungwoon.upms.global.apiPayload.ApiResponse;
 import kr.kyeoungwoon.upms.global.apiPayload.code.ErrorReasonDTO;
 import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
@@ -153,6 +154,20 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
     return handleExceptionInternal(domainException, errorReasonHttpStatus, null, request);
   }
 
+  /**
+   * 입장 제어 거절 - 클라이언트가 재시도 시점을 알 수 있도록 Retry-After 헤더 포함
+   */
+  @ExceptionHandler(value = AdmissionRejectedException.class)
+  public ResponseEntity<Object> onAdmissionRejected(AdmissionRejectedException e,
+      HttpServletRequest request) {
+    log.warn("[ADMISSION REJECTED] {} - Retry-After: {}s", request.getRequestURI(),
+        e.getRetryAfterSeconds());
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+    return handleExceptionInternal(e, e.getErrorReasonHttpStatus(), headers, request);
+  }
+
   @ExceptionHandler(value = GeneralException.class)
   public ResponseEntity<Object> onThrowException(GeneralException generalException,
       HttpServletRequest request) {
@@ -0,0 +1,11 @@
+package kr.kyeoungwoon.upms.global.enums;
+
+/**
+ * 시뮬레이션에서 지원자가 프로젝트를 고르는 분포
+ */
+public enum ApplicantDistribution {
+  // 지금까지 Chapter 에 들어온 (프로젝트, 파트) 별 지원서 수에 비례
+  HISTORICAL,
+  // 자리가 남은 같은 파트 프로젝트 중 균등
+  UNIFORM
+}
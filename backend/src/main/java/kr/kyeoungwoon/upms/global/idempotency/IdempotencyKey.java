@@ -0,0 +1,12 @@
+package kr.kyeoungwoon.upms.global.idempotency;
+
+/**
+ * Idempotency-Key 헤더 이름
+ */
+public final class IdempotencyKey {
+
+  public static final String HEADER = "Idempotency-Key";
+
+  private IdempotencyKey() {
+  }
+}
@@ -0,0 +1,53 @@
+package kr.kyeoungwoon.upms.global.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import kr.kyeoungwoon.upms.global.entity.BaseEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 처리 기록
+ * <p>
+ * 여러 인스턴스가 같은 키를 함께 보도록 DB 에 보관합니다. 처리 중인 키는 completed = false 이고, 처리가 끝나면 응답 본문(JSON)을 함께 저장합니다.
+ * 행은 IdempotencyRecordRepository 의 native 쿼리로만 생성/변경합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "idempotency_record", indexes = {
+    @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord extends BaseEntity {
+
+  /**
+   * 범위(엔드포인트 + 요청자) + Idempotency-Key
+   */
+  @Id
+  @Column(name = "store_key", length = 512)
+  private String storeKey;
+
+  /**
+   * 요청 본문 SHA-256
+   */
+  @Column(nullable = false, length = 64)
+  private String fingerprint;
+
+  @Column(nullable = false)
+  private boolean completed;
+
+  @Column(columnDefinition = "text")
+  private String response;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+
+  public boolean isExpired(Instant now) {
+    return expiresAt.isBefore(now);
+  }
+}
@@ -0,0 +1,57 @@
+package kr.kyeoungwoon.upms.global.idempotency;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+  /**
+   * 키 선점 (기록이 없거나 만료된 경우에만 처리 중으로 기록)
+   *
+   * @return 선점했으면 1, 다른 요청이 이미 가지고 있으면 0
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "INSERT INTO idempotency_record "
+      + "(store_key, fingerprint, completed, response, expires_at, created_at, updated_at) "
+      + "VALUES (:storeKey, :fingerprint, false, NULL, :expiresAt, now(), now()) "
+      + "ON CONFLICT (store_key) DO UPDATE SET fingerprint = EXCLUDED.fingerprint, "
+      + "completed = false, response = NULL, expires_at = EXCLUDED.expires_at, updated_at = now() "
+      + "WHERE idempotency_record.expires_at < :now")
+  int claim(
+      @Param("storeKey") String storeKey,
+      @Param("fingerprint") String fingerprint,
+      @Param("expiresAt") Instant expiresAt,
+      @Param("now") Instant now);
+
+  /**
+   * 처리 완료 기록 (응답 본문 저장)
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "UPDATE idempotency_record "
+      + "SET completed = true, response = :response, expires_at = :expiresAt, updated_at = now() "
+      + "WHERE store_key = :storeKey")
+  int complete(
+      @Param("storeKey") String storeKey,
+      @Param("response") String response,
+      @Param("expiresAt") Instant expiresAt);
+
+  /**
+   * 처리 중인 키 제거 (처리 실패 시 같은 키로 다시 시도할 수 있도록)
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "DELETE FROM idempotency_record "
+      + "WHERE store_key = :storeKey AND completed = false")
+  int release(@Param("storeKey") String storeKey);
+
+  /**
+   * 만료된 키 일괄 제거
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = "DELETE FROM idempotency_record WHERE expires_at < :now")
+  int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,182 @@
+package kr.kyeoungwoon.upms.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.GeneralException;
+import kr.kyeoungwoon.upms.global.lease.ClusterExclusive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Idempotency-Key 별 최근 처리 결과 저장소
+ * <p>
+ * 타임아웃 후 같은 키로 재시도된 요청은 검증/트랜잭션을 다시 실행하지 않고 처음 처리 결과를 그대로 반환합니다. 재시도가 다른 인스턴스로 가도 같은 결과를
+ * 받도록 키와 결과를 DB(idempotency_record)에 보관합니다.
+ * <ul>
+ *   <li>키는 INSERT ... ON CONFLICT 로 한 요청만 선점하고, 나머지는 결과가 저장될 때까지 기다립니다.</li>
+ *   <li>성공한 결과만 보관합니다. 실패하면(Error 포함) 키를 제거하므로, 기다리던 요청이나 이후 재시도가 키를 다시 선점하여 처리합니다.</li>
+ *   <li>처리 중인 키는 결과 보관 기간(TTL)과 별개인 짧은 선점 기간(in-progress-lease)만 유지합니다. 결과 저장에 실패하거나 인스턴스가 죽어 처리 중으로
+ *   남은 키도 선점 기간이 지나면 다시 선점할 수 있으므로, 선점 기간은 처리 시간보다 길어야 합니다.</li>
+ *   <li>보관 기간(TTL)이 지난 키는 다시 선점할 수 있고, 주기적으로 정리합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+  private final IdempotencyRecordRepository idempotencyRecordRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration ttl;
+  private final Duration inProgressLease;
+  private final Duration inProgressWait;
+
+  public IdempotencyStore(
+      IdempotencyRecordRepository idempotencyRecordRepository,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      @Value("${upms.idempotency.ttl:10m}") Duration ttl,
+      @Value("${upms.idempotency.in-progress-lease:30s}") Duration inProgressLease,
+      @Value("${upms.idempotency.in-progress-wait:5s}") Duration inProgressWait) {
+    this.idempotencyRecordRepository = idempotencyRecordRepository;
+    // 키 상태는 호출자의 트랜잭션과 무관하게 바로 커밋하여 다른 인스턴스에 보이도록 함
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.objectMapper = objectMapper;
+    this.ttl = ttl;
+    this.inProgressLease = inProgressLease;
+    this.inProgressWait = inProgressWait;
+  }
+
+  /**
+   * 키 단위로 한 번만 실행
+   *
+   * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 그대로 실행)
+   * @param scope          키 충돌 방지용 범위 (엔드포인트 + 요청자)
+   * @param request        요청 본문 (같은 키로 다른 요청을 보내는지 검증)
+   * @param resultType     저장된 결과를 되돌릴 타입
+   * @param action         실제 처리
+   */
+  public <T> T execute(String idempotencyKey, String scope, Object request, Class<T> resultType,
+      Supplier<T> action) {
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return action.get();
+    }
+
+    String storeKey = scope + ":" + idempotencyKey;
+    String fingerprint = fingerprint(request);
+    long waitDeadline = System.nanoTime() + inProgressWait.toNanos();
+
+    while (true) {
+      if (claim(storeKey, fingerprint)) {
+        return run(storeKey, action);
+      }
+
+      IdempotencyRecord record = transactionTemplate.execute(
+          status -> idempotencyRecordRepository.findById(storeKey).orElse(null));
+      // 처음 요청이 실패하여 키가 제거되었거나 그 사이 만료된 경우 다시 선점 시도
+      if (record == null || record.isExpired(Instant.now())) {
+        continue;
+      }
+      if (!record.getFingerprint().equals(fingerprint)) {
+        throw new GeneralException(ErrorStatus.IDEMPOTENCY_KEY_REUSED);
+      }
+      if (record.isCompleted()) {
+        log.info("Idempotency-Key 재시도 요청 - 저장된 결과 반환, scope: {}", scope);
+        return readResponse(record, resultType);
+      }
+      if (System.nanoTime() - waitDeadline > 0) {
+        throw new GeneralException(ErrorStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+      }
+      sleep();
+    }
+  }
+
+  /**
+   * 만료된 키 정리
+   */
+  @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+  @ClusterExclusive("idempotency-record-eviction")
+  public void evictExpired() {
+    Integer removed = transactionTemplate.execute(
+        status -> idempotencyRecordRepository.deleteExpired(Instant.now()));
+    if (removed != null && removed > 0) {
+      log.debug("Idempotency-Key 정리 - 제거: {}개", removed);
+    }
+  }
+
+  private boolean claim(String storeKey, String fingerprint) {
+    Instant now = Instant.now();
+    Integer claimed = transactionTemplate.execute(status -> idempotencyRecordRepository
+        .claim(storeKey, fingerprint, now.plus(inProgressLease), now));
+    return claimed != null && claimed > 0;
+  }
+
+  private <T> T run(String storeKey, Supplier<T> action) {
+    T result;
+    try {
+      result = action.get();
+    } catch (Throwable e) {
+      // Error 를 포함해 실패하면 키를 제거하여 같은 키로 다시 시도할 수 있게 함
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> idempotencyRecordRepository.release(storeKey));
+      } catch (RuntimeException releaseFailure) {
+        e.addSuppressed(releaseFailure);
+      }
+      throw e;
+    }
+
+    try {
+      String response = objectMapper.writeValueAsString(result);
+      transactionTemplate.executeWithoutResult(status -> idempotencyRecordRepository
+          .complete(storeKey, response, Instant.now().plus(ttl)));
+    } catch (JsonProcessingException | RuntimeException e) {
+      // 처리는 이미 커밋되었으므로 결과는 그대로 반환 (키는 처리 중으로 남아 선점 기간 이후 다시 선점 가능)
+      log.error("Idempotency-Key 결과 저장 실패 - storeKey: {}", storeKey, e);
+    }
+    return result;
+  }
+
+  private <T> T readResponse(IdempotencyRecord record, Class<T> resultType) {
+    try {
+      return objectMapper.readValue(record.getResponse(), resultType);
+    } catch (JsonProcessingException e) {
+      log.error("Idempotency-Key 저장 결과 변환 실패 - storeKey: {}", record.getStoreKey(), e);
+      throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(POLL_INTERVAL);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GeneralException(ErrorStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+  }
+
+  private String fingerprint(Object request) {
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(request);
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      throw new GeneralException(ErrorStatus._INTERNAL_SERVER_ERROR);
+    }
+  }
+}
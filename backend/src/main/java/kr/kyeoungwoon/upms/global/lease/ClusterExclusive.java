@@ -0,0 +1,21 @@
+package kr.kyeoungwoon.upms.global.lease;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 실행할 메서드 (주로 {@code @Scheduled} Job)
+ * <p>
+ * 같은 이름으로 실행 중인 인스턴스가 있으면 호출을 건너뜁니다. 반환값이 없는 메서드에만 사용합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClusterExclusive {
+
+  /**
+   * 잠금 이름 (클러스터 전체에서 고유)
+   */
+  String value();
+}
@@ -0,0 +1,29 @@
+package kr.kyeoungwoon.upms.global.lease;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ClusterExclusiveAspect {
+
+  private final ClusterLease clusterLease;
+
+  @Around("@annotation(clusterExclusive)")
+  public Object runExclusively(ProceedingJoinPoint joinPoint, ClusterExclusive clusterExclusive) {
+    clusterLease.runExclusively(clusterExclusive.value(), () -> {
+      try {
+        joinPoint.proceed();
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    return null;
+  }
+}
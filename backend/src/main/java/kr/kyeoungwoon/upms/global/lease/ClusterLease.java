@@ -0,0 +1,82 @@
+package kr.kyeoungwoon.upms.global.lease;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL advisory lock 기반 클러스터 리스
+ * <p>
+ * 여러 인스턴스가 같은 DB 를 사용하므로 별도 저장소 없이 DB 로 인스턴스 간 배타 실행을 보장합니다. 잠금은 전용 커넥션(세션)에 묶여 있어 인스턴스가
+ * 죽으면 자동으로 해제되고, 만료 시간을 관리할 필요가 없습니다.
+ * <p>
+ * {@link #runExclusively} 로 작업 하나(예: 주기 실행 Job, 여러 트랜잭션에 걸친 매칭 라운드 처리)를 한 인스턴스에서만 실행합니다.
+ * 잠금 키는 이름공간 해시(상위 32비트)와 대상 ID(하위 32비트)로 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLease {
+
+  private final DataSource dataSource;
+
+  /**
+   * 작업을 클러스터 전체에서 한 인스턴스만 실행 (다른 인스턴스가 실행 중이면 건너뜀)
+   * <p>
+   * 작업이 끝날 때까지 전용 커넥션 하나에 세션 잠금을 유지하고, 끝나면 해제합니다.
+   *
+   * @return 실행했으면 true, 다른 인스턴스가 실행 중이라 건너뛰었으면 false
+   */
+  public boolean runExclusively(String name, Runnable task) {
+    return runExclusively(name, 0, () -> {
+      task.run();
+      return Boolean.TRUE;
+    }).isPresent();
+  }
+
+  /**
+   * 대상 하나에 대한 작업을 클러스터 전체에서 한 인스턴스만 실행 (다른 인스턴스가 실행 중이면 건너뜀)
+   * <p>
+   * 작업 안에서 여러 트랜잭션을 나눠 커밋해도 작업이 끝날 때까지 점유가 유지됩니다.
+   *
+   * @return 다른 인스턴스가 실행 중이라 건너뛰었으면 empty
+   */
+  public <T> Optional<T> runExclusively(String namespace, long id, Supplier<T> task) {
+    long key = lockKey(namespace, id);
+    try (Connection connection = dataSource.getConnection()) {
+      if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+        log.info("[Cluster Lease] 다른 인스턴스에서 실행 중이므로 건너뜁니다. namespace={}, id={}", namespace,
+            id);
+        return Optional.empty();
+      }
+      try {
+        return Optional.of(task.get());
+      } finally {
+        advisoryLock(connection, "SELECT pg_advisory_unlock(?)", key);
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException(
+          "클러스터 리스 처리에 실패했습니다. namespace=" + namespace + ", id=" + id, e);
+    }
+  }
+
+  private boolean advisoryLock(Connection connection, String sql, long key) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, key);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private long lockKey(String namespace, long id) {
+    return ((long) namespace.hashCode() << 32) | (id & 0xFFFFFFFFL);
+  }
+}
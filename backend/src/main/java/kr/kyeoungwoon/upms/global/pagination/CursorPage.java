@@ -0,0 +1,20 @@
+package kr.kyeoungwoon.upms.global.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+@Schema(name = "CursorPage", description = "커서 기반 페이지 응답")
+public record CursorPage<T>(
+    @Schema(description = "페이지 내용")
+    List<T> content,
+    @Schema(description = "다음 페이지 커서 (마지막 페이지인 경우 null)", example = "MTczNTY4OTYwMDAwMDAwMDAwMDox")
+    String nextCursor,
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    int size
+) {
+
+}
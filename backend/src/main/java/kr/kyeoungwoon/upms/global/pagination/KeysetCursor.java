@@ -0,0 +1,37 @@
+package kr.kyeoungwoon.upms.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.GeneralException;
+
+/**
+ * (created_at, id) 기반 Keyset 커서
+ * <p>
+ * 클라이언트에게는 "epochSecond:nano:id" 를 URL-safe Base64 로 인코딩한 불투명 문자열로 전달합니다.
+ */
+public record KeysetCursor(Instant createdAt, Long id) {
+
+  public String encode() {
+    String raw = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(":");
+      if (parts.length != 3) {
+        throw new GeneralException(ErrorStatus.PAGINATION_INVALID_CURSOR);
+      }
+      Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]),
+          Long.parseLong(parts[1]));
+      return new KeysetCursor(createdAt, Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeException e) {
+      throw new GeneralException(ErrorStatus.PAGINATION_INVALID_CURSOR);
+    }
+  }
+}
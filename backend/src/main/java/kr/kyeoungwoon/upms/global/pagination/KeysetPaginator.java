@@ -0,0 +1,113 @@
+package kr.kyeoungwoon.upms.global.pagination;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import kr.kyeoungwoon.upms.global.entity.BaseEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * (created_at, id) Keyset 페이지네이션
+ * <p>
+ * 1단계에서 커서 이후의 ID만 (size + 1)개 조회하고, 2단계에서 해당 ID들만 fetch join 으로 조회합니다. 컬렉션 fetch join 과 LIMIT 을 함께
+ * 사용할 때 Hibernate 가 메모리에서 페이징하는 문제를 피하기 위함입니다.
+ */
+@Slf4j
+@Component
+public class KeysetPaginator {
+
+  public static final int DEFAULT_PAGE_SIZE = 20;
+  public static final int MAX_PAGE_SIZE = 100;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * @param entityClass 조회 대상 엔티티 (BaseEntity 상속, id 필드 보유)
+   * @param cursor      이전 페이지의 nextCursor (첫 페이지는 null)
+   * @param size        페이지 크기 (null 이면 기본값, 최대값으로 제한)
+   * @param fetcher     ID 목록으로 엔티티(또는 Projection)를 조회하는 함수 (fetch join 권장, 순서는 무관)
+   * @param idExtractor 조회 결과의 ID 추출 함수
+   * @param mapper      조회 결과 -> 응답 DTO 변환 함수
+   */
+  public <E extends BaseEntity, T, R> CursorPage<R> paginate(
+      Class<E> entityClass,
+      String cursor,
+      Integer size,
+      Function<List<Long>, List<T>> fetcher,
+      Function<T, Long> idExtractor,
+      Function<T, R> mapper) {
+
+    int pageSize = normalizeSize(size);
+    KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+    // 1. 커서 이후의 (id, createdAt) 를 pageSize + 1 개 조회 (다음 페이지 존재 여부 확인용)
+    String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+    String jpql = "SELECT e.id, e.createdAt FROM " + entityName + " e "
+        + (after != null
+        ? "WHERE e.createdAt > :createdAt OR (e.createdAt = :createdAt AND e.id > :id) "
+        : "")
+        + "ORDER BY e.createdAt ASC, e.id ASC";
+
+    TypedQuery<Object[]> keyQuery = entityManager.createQuery(jpql, Object[].class)
+        .setMaxResults(pageSize + 1);
+    if (after != null) {
+      keyQuery.setParameter("createdAt", after.createdAt());
+      keyQuery.setParameter("id", after.id());
+    }
+    List<Object[]> keys = keyQuery.getResultList();
+
+    boolean hasNext = keys.size() > pageSize;
+    List<Object[]> pageKeys = hasNext ? keys.subList(0, pageSize) : keys;
+
+    if (pageKeys.isEmpty()) {
+      return CursorPage.<R>builder()
+          .content(List.of())
+          .nextCursor(null)
+          .hasNext(false)
+          .size(pageSize)
+          .build();
+    }
+
+    List<Long> ids = pageKeys.stream().map(key -> (Long) key[0]).toList();
+
+    // 2. 해당 ID 들만 fetch join 으로 조회 후 1단계 순서대로 정렬
+    Map<Long, Integer> order = new HashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      order.put(ids.get(i), i);
+    }
+    List<R> content = fetcher.apply(ids).stream()
+        .sorted(Comparator.comparingInt(row -> order.get(idExtractor.apply(row))))
+        .map(mapper)
+        .toList();
+
+    Object[] last = pageKeys.get(pageKeys.size() - 1);
+    String nextCursor = hasNext
+        ? new KeysetCursor((Instant) last[1], (Long) last[0]).encode()
+        : null;
+
+    log.debug("Keyset 페이지 조회 - entity: {}, size: {}, hasNext: {}", entityName, pageSize,
+        hasNext);
+
+    return CursorPage.<R>builder()
+        .content(content)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .size(pageSize)
+        .build();
+  }
+
+  private int normalizeSize(Integer size) {
+    if (size == null || size <= 0) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    return Math.min(size, MAX_PAGE_SIZE);
+  }
+}
@@ -0,0 +1,39 @@
+package kr.kyeoungwoon.upms.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션 커밋 이후에 실행할 작업 등록
+ * <p>
+ * 트랜잭션이 없으면 등록하지 않습니다. 메모리 캐시 무효화처럼 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있는 경우 커밋 후 한 번 더 실행하는 용도로
+ * 사용합니다.
+ */
+public final class AfterCommit {
+
+  private AfterCommit() {
+  }
+
+  /**
+   * 트랜잭션 안이면 커밋 후에, 트랜잭션 밖이면 즉시 실행 (롤백되면 실행하지 않음)
+   */
+  public static void runOrNow(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    run(action);
+  }
+
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
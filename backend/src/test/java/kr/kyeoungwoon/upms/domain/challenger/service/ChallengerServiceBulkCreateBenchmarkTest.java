@@ -0,0 +1,58 @@
+package kr.kyeoungwoon.upms.domain.challenger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.challenger.dto.ChallengerDto;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.global.enums.Gender;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@Slf4j
+@Tag("benchmark")
+class ChallengerServiceBulkCreateBenchmarkTest extends IntegrationTest {
+
+  private static final int CHALLENGER_COUNT = 5_000;
+  private static final int BATCH_SIZE = 50;
+
+  @Autowired
+  private ChallengerService challengerService;
+
+  // Argon2 해시 비용을 빼고 DB 왕복만 측정
+  @MockitoBean
+  private PasswordEncoder passwordEncoder;
+
+  @Test
+  @DisplayName("챌린저 5,000명 일괄 등록은 행마다가 아니라 50건 단위로 왕복한다")
+  void createBulkChallengers() {
+    given(passwordEncoder.encode(anyString())).willReturn("encoded");
+    ChapterContext context = fixtures.chapter();
+    List<ChallengerDto.CreateRequest> requests = new ArrayList<>(CHALLENGER_COUNT);
+    for (int i = 0; i < CHALLENGER_COUNT; i++) {
+      requests.add(new ChallengerDto.CreateRequest(null, context.chapter().getGisu(),
+          ChallengerPart.values()[i % ChallengerPart.values().length], "챌린저" + i, "nick" + i,
+          Gender.MALE, context.school().getId(), "bulk-" + i, "password", null));
+    }
+
+    long startedAt = System.nanoTime();
+    long statementCount = countStatements(() -> challengerService.createBulk(requests));
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    log.info("챌린저 일괄 등록 {}명 - {}ms, JDBC 문장 {}개", CHALLENGER_COUNT, elapsedMillis,
+        statementCount);
+    // 시퀀스 조회 + INSERT 배치가 각각 50건당 1번, 그 외 학교/Chapter 조회 몇 번
+    long batchCount = CHALLENGER_COUNT / BATCH_SIZE;
+    assertThat(statementCount).isLessThanOrEqualTo(2 * batchCount + 10);
+  }
+}
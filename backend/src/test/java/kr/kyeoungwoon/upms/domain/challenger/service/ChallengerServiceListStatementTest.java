@@ -0,0 +1,79 @@
+package kr.kyeoungwoon.upms.domain.challenger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.kyeoungwoon.upms.domain.challenger.dto.ChallengerDto;
+import kr.kyeoungwoon.upms.domain.challenger.topology.ChapterTopologyCache;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+class ChallengerServiceListStatementTest extends IntegrationTest {
+
+  /**
+   * 페이지 조회 1, 전체 건수 1 (소속 Chapter 는 ChapterTopologyCache 에서 찾음)
+   */
+  private static final long PAGE_STATEMENT_LIMIT = 2;
+  /**
+   * 이름 검색 1 (소속 Chapter 는 ChapterTopologyCache 에서 찾음)
+   */
+  private static final long SEARCH_STATEMENT_LIMIT = 1;
+  private static final int CHALLENGER_COUNT = 100;
+
+  @Autowired
+  private ChallengerService challengerService;
+
+  @Autowired
+  private ChapterTopologyCache chapterTopologyCache;
+
+  private ChapterContext context;
+
+  @BeforeEach
+  void setUp() {
+    context = fixtures.chapter();
+    fixtures.challengers(context, ChallengerPart.WEB, CHALLENGER_COUNT);
+    // 픽스처는 서비스를 거치지 않고 Chapter 를 만들므로 직접 무효화한 뒤 다시 적재
+    chapterTopologyCache.invalidate();
+    challengerService.findAll(PageRequest.of(0, 1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 20, CHALLENGER_COUNT})
+  @DisplayName("챌린저 페이지 조회는 페이지 크기와 무관하게 고정된 쿼리 수로 소속 Chapter 까지 채운다")
+  void findAllStatementCountDoesNotGrowWithPageSize(int pageSize) {
+    AtomicReference<Page<ChallengerDto.Response>> page = new AtomicReference<>();
+
+    long statementCount = countStatements(() -> page.set(challengerService.findAll(
+        PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "id")))));
+
+    assertThat(statementCount).isLessThanOrEqualTo(PAGE_STATEMENT_LIMIT);
+    // 가장 최근에 만든 챌린저는 모두 이 테스트의 Chapter 소속
+    assertThat(page.get().getContent())
+        .hasSize(pageSize)
+        .allSatisfy(response ->
+            assertThat(response.chapterId()).isEqualTo(context.chapter().getId()));
+  }
+
+  @Test
+  @DisplayName("챌린저 이름 검색은 검색 결과 수와 무관하게 고정된 쿼리 수로 처리된다")
+  void findByNameStatementCountDoesNotGrowWithResults() {
+    AtomicReference<List<ChallengerDto.Response>> responses = new AtomicReference<>();
+
+    long statementCount = countStatements(
+        () -> responses.set(challengerService.findChallengerByName("챌린저-")));
+
+    assertThat(statementCount).isLessThanOrEqualTo(SEARCH_STATEMENT_LIMIT);
+    assertThat(responses.get()).hasSizeGreaterThanOrEqualTo(CHALLENGER_COUNT);
+  }
+}
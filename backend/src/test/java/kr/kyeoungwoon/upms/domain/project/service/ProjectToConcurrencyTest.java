@@ -0,0 +1,109 @@
+package kr.kyeoungwoon.upms.domain.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.dto.ProjectMemberDto;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationService;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.security.UserPrincipal;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ProjectToConcurrencyTest extends IntegrationTest {
+
+  private static final int TO_COUNT = 5;
+  private static final int APPLICANT_COUNT = 200;
+  private static final int ADMIN_ADD_COUNT = 100;
+  private static final int THREAD_COUNT = 16;
+
+  @Autowired
+  private ProjectApplicationService projectApplicationService;
+
+  @Autowired
+  private ProjectMemberService projectMemberService;
+
+  @Autowired
+  private ProjectMemberRepository projectMemberRepository;
+
+  @Test
+  @DisplayName("합격 처리와 운영진 멤버 추가가 동시에 몰려도 파트 인원이 TO 를 넘지 않는다")
+  void concurrentAssignmentsNeverExceedTo() throws InterruptedException {
+    ChapterContext context = fixtures.chapter();
+    Challenger productOwner = fixtures.challenger(context, ChallengerPart.PLAN);
+    Project project = fixtures.project(context, productOwner);
+    fixtures.projectTo(project, ChallengerPart.WEB, TO_COUNT);
+    ProjectApplicationForm form = fixtures.form(project);
+
+    // 지원 기간이 끝나고 합/불 결정 기간 중인 라운드
+    Instant now = Instant.now();
+    ProjectMatchingRound round = fixtures.round(context, now.minus(Duration.ofDays(2)),
+        now.minus(Duration.ofHours(1)), now.plus(Duration.ofDays(1)));
+    List<ProjectApplication> applications = fixtures.applications(form, round,
+        fixtures.challengers(context, ChallengerPart.WEB, APPLICANT_COUNT));
+    List<Challenger> directMembers = fixtures.challengers(context, ChallengerPart.WEB,
+        ADMIN_ADD_COUNT);
+
+    UserPrincipal owner = new UserPrincipal(productOwner.getId(), List.of());
+    List<Runnable> tasks = new ArrayList<>();
+    applications.forEach(application -> tasks.add(() -> projectApplicationService.update(
+        application.getId(),
+        new ProjectApplicationDto.UpdateRequest(ApplicationStatus.CONFIRMED), owner)));
+    directMembers.forEach(challenger -> tasks.add(() -> projectMemberService.create(
+        new ProjectMemberDto.CreateRequest(project.getId(), challenger.getId(), true))));
+
+    AtomicInteger assigned = new AtomicInteger();
+    AtomicInteger rejected = new AtomicInteger();
+    Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      for (Runnable task : tasks) {
+        executor.submit(() -> {
+          try {
+            start.await();
+            task.run();
+            assigned.incrementAndGet();
+          } catch (DomainException e) {
+            rejected.incrementAndGet();
+          } catch (Throwable e) {
+            unexpected.add(e);
+          }
+        });
+      }
+      start.countDown();
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+    assertThat(unexpected).isEmpty();
+    assertThat(assigned.get()).isEqualTo(TO_COUNT);
+    assertThat(rejected.get()).isEqualTo(tasks.size() - TO_COUNT);
+    assertThat(projectMemberRepository.countByProjectIdAndChallengerPart(project.getId(),
+        ChallengerPart.WEB)).isEqualTo(TO_COUNT);
+  }
+}
@@ -0,0 +1,148 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class DecideApplicationsCommandHandlerTest extends IntegrationTest {
+
+  /**
+   * 프로젝트 1, 지원서 일괄 조회 1, TO 행 잠금 1, 멤버 조회 1, 파트 집계 1, 시퀀스 최대 2, 멤버 INSERT 1 (배치), 지원서 UPDATE 1
+   * (배치), 카운터 upsert 3 (대기/합격/불합격)
+   */
+  private static final long DECIDE_STATEMENT_LIMIT = 12;
+  private static final int APPLICANT_COUNT = 20;
+  private static final int TO_COUNT = 5;
+  private static final int CONFIRM_COUNT = 5;
+
+  @Autowired
+  private DecideApplicationsCommandHandler decideApplicationsCommandHandler;
+
+  @Autowired
+  private ProjectMemberRepository projectMemberRepository;
+
+  @Autowired
+  private ProjectApplicationRepository projectApplicationRepository;
+
+  private Project project;
+  private Challenger productOwner;
+  private List<ProjectApplication> applications;
+
+  /**
+   * 지원자 20명 중 첫 번째는 이미 프로젝트 멤버이고, TO 5 중 1자리가 차 있는 상태
+   */
+  @BeforeEach
+  void setUp() {
+    ChapterContext context = fixtures.chapter();
+    productOwner = fixtures.challenger(context, ChallengerPart.PLAN);
+    project = fixtures.project(context, productOwner);
+    fixtures.projectTo(project, ChallengerPart.WEB, TO_COUNT);
+    ProjectApplicationForm form = fixtures.form(project);
+
+    // 지원 기간이 끝나고 합/불 결정 기간 중인 라운드
+    Instant now = Instant.now();
+    ProjectMatchingRound round = fixtures.round(context, now.minus(Duration.ofDays(2)),
+        now.minus(Duration.ofHours(1)), now.plus(Duration.ofDays(1)));
+    List<Challenger> applicants = fixtures.challengers(context, ChallengerPart.WEB,
+        APPLICANT_COUNT);
+    applications = fixtures.applications(form, round, applicants);
+    fixtures.member(project, applicants.getFirst());
+  }
+
+  @Test
+  @DisplayName("지원서 20건 일괄 합/불 결정은 건수와 무관하게 고정된 쿼리 수로 처리된다")
+  void decideStatementCountDoesNotGrowWithDecisions() {
+    DecideApplicationsCommand command = command(mixedDecisions());
+
+    long statementCount = countStatements(() -> decideApplicationsCommandHandler.handle(command));
+
+    assertThat(statementCount).isLessThanOrEqualTo(DECIDE_STATEMENT_LIMIT);
+  }
+
+  @Test
+  @DisplayName("기존 멤버와 TO 초과 항목만 반영하지 않고 나머지 합격/불합격은 반영한다")
+  void decideMixedBatchReportsPerItemResults() {
+    ProjectApplicationDto.BulkDecisionResponse response = decideApplicationsCommandHandler.handle(
+        command(mixedDecisions()));
+
+    // 기존 멤버 1, 합격 4 (남은 TO), TO 초과 1, 불합격 14
+    List<ProjectApplicationDto.DecisionResult> results = response.results();
+    assertThat(results).hasSize(APPLICANT_COUNT);
+    assertThat(results).extracting(ProjectApplicationDto.DecisionResult::applicationId)
+        .containsExactlyElementsOf(applications.stream().map(ProjectApplication::getId).toList());
+    assertThat(results.getFirst().success()).isFalse();
+    assertThat(results.getFirst().errorCode()).isEqualTo(
+        ErrorStatus.PROJECT_APPLICATION_STATUS_CHANGE_ALREADY_MEMBER.getCode());
+    assertThat(results.subList(1, CONFIRM_COUNT))
+        .allSatisfy(result -> assertThat(result.success()).isTrue());
+    assertThat(results.get(CONFIRM_COUNT).success()).isFalse();
+    assertThat(results.get(CONFIRM_COUNT).errorCode()).isEqualTo(
+        ErrorStatus.PA_CANNOT_EXCEED_TO_COUNT.getCode());
+    assertThat(results.subList(CONFIRM_COUNT + 1, APPLICANT_COUNT))
+        .allSatisfy(result -> assertThat(result.success()).isTrue());
+    assertThat(response.successCount()).isEqualTo(APPLICANT_COUNT - 2);
+    assertThat(response.failureCount()).isEqualTo(2);
+
+    // 반영된 항목만 상태가 바뀌고, 파트 인원은 TO 를 넘지 않음
+    Map<Long, ApplicationStatus> statusById = projectApplicationRepository.findAllById(
+            applications.stream().map(ProjectApplication::getId).toList())
+        .stream()
+        .collect(Collectors.toMap(ProjectApplication::getId, ProjectApplication::getStatus));
+    assertThat(statusById.get(applications.getFirst().getId()))
+        .isEqualTo(ApplicationStatus.PENDING);
+    assertThat(statusById.get(applications.get(CONFIRM_COUNT).getId()))
+        .isEqualTo(ApplicationStatus.PENDING);
+    assertThat(statusById.values().stream()
+        .collect(Collectors.groupingBy(Function.identity(), Collectors.counting())))
+        .containsEntry(ApplicationStatus.CONFIRMED, (long) CONFIRM_COUNT - 1)
+        .containsEntry(ApplicationStatus.REJECTED, (long) APPLICANT_COUNT - CONFIRM_COUNT - 1);
+    assertThat(projectMemberRepository.countByProjectIdAndChallengerPart(project.getId(),
+        ChallengerPart.WEB)).isEqualTo(TO_COUNT);
+  }
+
+  /**
+   * 앞의 6건(기존 멤버 1 + 5)은 합격, 나머지는 불합격
+   */
+  private List<ProjectApplicationDto.DecisionItem> mixedDecisions() {
+    List<ProjectApplicationDto.DecisionItem> decisions = new ArrayList<>(APPLICANT_COUNT);
+    for (int i = 0; i < applications.size(); i++) {
+      decisions.add(ProjectApplicationDto.DecisionItem.builder()
+          .applicationId(applications.get(i).getId())
+          .status(i <= CONFIRM_COUNT ? ApplicationStatus.CONFIRMED : ApplicationStatus.REJECTED)
+          .build());
+    }
+    return decisions;
+  }
+
+  private DecideApplicationsCommand command(List<ProjectApplicationDto.DecisionItem> decisions) {
+    return DecideApplicationsCommand.builder()
+        .projectId(project.getId())
+        .decisions(decisions)
+        .requesterId(productOwner.getId())
+        .admin(false)
+        .build();
+  }
+}
@@ -0,0 +1,109 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.service.ProjectMatchingRoundService;
+import kr.kyeoungwoon.upms.global.apiPayload.code.status.ErrorStatus;
+import kr.kyeoungwoon.upms.global.apiPayload.exception.DomainException;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class SubmitApplicationCommandHandlerTest extends IntegrationTest {
+
+  /**
+   * 컨텍스트 1, 질문 1, 시퀀스 최대 2 (지원서, 응답), 지원서 INSERT 1, 응답 INSERT 1 (배치), 카운터 upsert 1
+   */
+  private static final long SUBMIT_STATEMENT_LIMIT = 7;
+  private static final int QUESTION_COUNT = 50;
+
+  @Autowired
+  private SubmitApplicationCommandHandler submitApplicationCommandHandler;
+
+  @Autowired
+  private ProjectMatchingRoundService projectMatchingRoundService;
+
+  private ChapterContext context;
+  private ProjectApplicationForm form;
+  private List<ApplicationFormQuestion> questions;
+
+  @BeforeEach
+  void setUp() {
+    context = fixtures.chapter();
+    Challenger productOwner = fixtures.challenger(context, ChallengerPart.PLAN);
+    Project project = fixtures.project(context, productOwner);
+    fixtures.projectTo(project, ChallengerPart.WEB, 100);
+    form = fixtures.form(project);
+    questions = fixtures.questions(form, QUESTION_COUNT);
+
+    Instant now = Instant.now();
+    fixtures.round(context, now.minus(Duration.ofHours(1)), now.plus(Duration.ofDays(1)),
+        now.plus(Duration.ofDays(2)));
+    // 매칭 라운드 타임라인 캐시 적재
+    projectMatchingRoundService.findCurrent(context.chapter().getId());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 20, QUESTION_COUNT})
+  @DisplayName("지원서 제출은 응답 수와 무관하게 고정된 쿼리 수로 처리된다")
+  void submitStatementCountDoesNotGrowWithResponses(int responseCount) {
+    Challenger applicant = fixtures.challenger(context, ChallengerPart.WEB);
+    SubmitApplicationCommand command = command(applicant,
+        questions.subList(0, responseCount).stream().map(ApplicationFormQuestion::getId)
+            .toList());
+
+    long statementCount = countStatements(() -> submitApplicationCommandHandler.handle(command));
+
+    assertThat(statementCount).isLessThanOrEqualTo(SUBMIT_STATEMENT_LIMIT);
+  }
+
+  @Test
+  @DisplayName("같은 질문에 대한 응답이 중복되면 제출을 거부한다")
+  void rejectDuplicatedQuestionResponses() {
+    Challenger applicant = fixtures.challenger(context, ChallengerPart.WEB);
+    Long questionId = questions.getFirst().getId();
+
+    assertThatThrownBy(() -> submitApplicationCommandHandler.handle(
+        command(applicant, List.of(questionId, questionId))))
+        .isInstanceOfSatisfying(DomainException.class, e ->
+            assertThat(e.getCode()).isEqualTo(ErrorStatus.PA_DUPLICATED_QUESTION_RESPONSE));
+  }
+
+  @Test
+  @DisplayName("같은 매칭 차수에 다시 제출하면 중복 지원으로 거부한다")
+  void rejectDuplicatedApplicationInSameRound() {
+    Challenger applicant = fixtures.challenger(context, ChallengerPart.WEB);
+    SubmitApplicationCommand command = command(applicant, List.of(questions.getFirst().getId()));
+    submitApplicationCommandHandler.handle(command);
+
+    assertThatThrownBy(() -> submitApplicationCommandHandler.handle(command))
+        .isInstanceOfSatisfying(DomainException.class, e ->
+            assertThat(e.getCode()).isEqualTo(ErrorStatus.PA_ALREADY_APPLIED));
+  }
+
+  private SubmitApplicationCommand command(Challenger applicant, List<Long> questionIds) {
+    return SubmitApplicationCommand.builder()
+        .formId(form.getId())
+        .applicantId(applicant.getId())
+        .responses(questionIds.stream()
+            .map(questionId -> new ProjectApplicationResponseDto.SingleQuestionResponse(
+                questionId, new String[]{"답변"}))
+            .toList())
+        .build();
+  }
+}
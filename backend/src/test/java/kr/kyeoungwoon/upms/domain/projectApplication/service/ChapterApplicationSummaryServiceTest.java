@@ -0,0 +1,77 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationDto;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ChapterApplicationSummaryServiceTest extends IntegrationTest {
+
+  /**
+   * Chapter 확인, 챌린저, 매칭 라운드, 지원서 요약, 활성 멤버
+   */
+  private static final long SUMMARY_STATEMENT_COUNT = 5;
+
+  @Autowired
+  private ChapterApplicationSummaryService chapterApplicationSummaryService;
+
+  @Test
+  @DisplayName("챕터 지원 현황 요약은 챌린저/라운드/지원서 수와 무관하게 같은 쿼리 수로 조회한다")
+  void summaryStatementCountDoesNotGrowWithChapterSize() {
+    ChapterContext small = chapterWithApplications(3, 1);
+    ChapterContext large = chapterWithApplications(60, 3);
+
+    long smallCount = countStatements(() -> chapterApplicationSummaryService
+        .findChapterApplicationSummary(small.chapter().getId()));
+    long largeCount = countStatements(() -> chapterApplicationSummaryService
+        .findChapterApplicationSummary(large.chapter().getId()));
+
+    assertThat(smallCount).isEqualTo(SUMMARY_STATEMENT_COUNT);
+    assertThat(largeCount).isEqualTo(SUMMARY_STATEMENT_COUNT);
+
+    // PO 1명 + 지원자 60명, 모두 3개 라운드 현황을 가짐
+    List<ProjectApplicationDto.ChallengerApplicationSummary> summaries =
+        chapterApplicationSummaryService.findChapterApplicationSummary(large.chapter().getId());
+    assertThat(summaries).hasSize(1 + 60);
+    assertThat(summaries).allSatisfy(summary ->
+        assertThat(summary.matchingRoundApplications()).hasSize(3));
+  }
+
+  /**
+   * 라운드마다 모든 지원자가 한 번씩 지원하고, 첫 번째 지원자는 프로젝트 멤버인 Chapter
+   */
+  private ChapterContext chapterWithApplications(int applicantCount, int roundCount) {
+    ChapterContext context = fixtures.chapter();
+    Challenger productOwner = fixtures.challenger(context, ChallengerPart.PLAN);
+    Project project = fixtures.project(context, productOwner);
+    ProjectApplicationForm form = fixtures.form(project);
+    List<Challenger> applicants = fixtures.challengers(context, ChallengerPart.WEB,
+        applicantCount);
+
+    Instant startAt = Instant.now().minus(Duration.ofDays(30));
+    List<ProjectMatchingRound> rounds = new ArrayList<>();
+    for (int i = 0; i < roundCount; i++) {
+      Instant roundStart = startAt.plus(Duration.ofDays(i * 3L));
+      rounds.add(fixtures.round(context, roundStart, roundStart.plus(Duration.ofDays(1)),
+          roundStart.plus(Duration.ofDays(2))));
+    }
+    for (ProjectMatchingRound round : rounds) {
+      fixtures.applications(form, round, applicants);
+    }
+    fixtures.member(project, applicants.getFirst());
+    return context;
+  }
+}
@@ -0,0 +1,69 @@
+package kr.kyeoungwoon.upms.domain.projectApplication.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.projectApplication.dto.ProjectApplicationResponseDto;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@Slf4j
+@Tag("benchmark")
+class ProjectApplicationResponseServiceBulkCreateBenchmarkTest extends IntegrationTest {
+
+  private static final int APPLICATION_COUNT = 1_000;
+  private static final int QUESTION_COUNT = 50;
+
+  /**
+   * 지원서 1, 질문 1, 시퀀스 최대 1, 응답 INSERT 배치 1 (+ 여유 1)
+   */
+  private static final long STATEMENTS_PER_APPLICATION = 5;
+
+  @Autowired
+  private ProjectApplicationResponseService projectApplicationResponseService;
+
+  @Test
+  @DisplayName("지원서 1,000건에 응답 50개씩 (총 50,000건) 일괄 저장은 지원서당 고정된 왕복으로 끝난다")
+  void bulkCreateResponses() {
+    ChapterContext context = fixtures.chapter();
+    Challenger productOwner = fixtures.challenger(context, ChallengerPart.PLAN);
+    Project project = fixtures.project(context, productOwner);
+    ProjectApplicationForm form = fixtures.form(project);
+    List<ApplicationFormQuestion> questions = fixtures.questions(form, QUESTION_COUNT);
+    Instant now = Instant.now();
+    ProjectMatchingRound round = fixtures.round(context, now.minus(Duration.ofHours(1)),
+        now.plus(Duration.ofDays(1)), now.plus(Duration.ofDays(2)));
+    List<ProjectApplication> applications = fixtures.applications(form, round,
+        fixtures.challengers(context, ChallengerPart.WEB, APPLICATION_COUNT));
+
+    List<ProjectApplicationResponseDto.SingleQuestionResponse> responses = questions.stream()
+        .map(question -> new ProjectApplicationResponseDto.SingleQuestionResponse(
+            question.getId(), new String[]{"응답 내용"}))
+        .toList();
+
+    long startedAt = System.nanoTime();
+    long statementCount = countStatements(() -> applications.forEach(application ->
+        projectApplicationResponseService.bulkCreate(
+            new ProjectApplicationResponseDto.BulkCreateRequest(application.getId(),
+                responses))));
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    log.info("지원서 응답 일괄 저장 {}건 - {}ms, JDBC 문장 {}개", APPLICATION_COUNT * QUESTION_COUNT,
+        elapsedMillis, statementCount);
+    assertThat(statementCount).isLessThanOrEqualTo(STATEMENTS_PER_APPLICATION * APPLICATION_COUNT);
+  }
+}
@@ -0,0 +1,129 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.scheduler.ProjectMatchingRoundAutoDecisionScheduler;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.support.IntegrationTest;
+import kr.kyeoungwoon.upms.support.TestFixtures.ChapterContext;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Tag("benchmark")
+class AutoDecisionJobBenchmarkTest extends IntegrationTest {
+
+  private static final int PROJECT_COUNT = 500;
+  private static final int ROUND_COUNT = 10;
+  private static final int APPLICANTS_PER_PART = 2_500;
+  private static final int TO_COUNT = 3;
+  private static final List<ChallengerPart> PARTS = List.of(ChallengerPart.WEB,
+      ChallengerPart.SPRINGBOOT);
+
+  @Autowired
+  private AutoDecisionJob autoDecisionJob;
+
+  @Autowired
+  private ProjectApplicationRepository projectApplicationRepository;
+
+  @Autowired
+  private ProjectMemberRepository projectMemberRepository;
+
+  @Autowired
+  private ProjectMatchingRoundRepository projectMatchingRoundRepository;
+
+  @Autowired
+  private ProjectApplicationCounterService projectApplicationCounterService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  // 마감 큐/안전망 스케줄러가 같은 라운드를 먼저 가져가지 않도록 직접 실행만 측정
+  @MockitoBean
+  private ProjectMatchingRoundAutoDecisionScheduler autoDecisionScheduler;
+
+  @Test
+  @DisplayName("프로젝트 500개에 걸친 대기 지원서 50,000건을 자동 합/불 처리한다")
+  void autoDecide50kPendingApplications() {
+    ChapterContext context = fixtures.chapter();
+    Challenger productOwner = fixtures.challenger(context, ChallengerPart.PLAN);
+    List<ProjectApplicationForm> forms = new ArrayList<>(PROJECT_COUNT);
+    for (int i = 0; i < PROJECT_COUNT; i++) {
+      Project project = fixtures.project(context, productOwner);
+      PARTS.forEach(part -> fixtures.projectTo(project, part, TO_COUNT));
+      forms.add(fixtures.form(project));
+    }
+    List<Challenger> applicants = new ArrayList<>();
+    PARTS.forEach(part -> applicants.addAll(
+        fixtures.challengers(context, part, APPLICANTS_PER_PART)));
+
+    // 라운드마다 모든 챌린저가 한 번씩, 프로젝트마다 파트별 5명씩 지원
+    Instant now = Instant.now();
+    List<Long> roundIds = new ArrayList<>(ROUND_COUNT);
+    for (int r = 0; r < ROUND_COUNT; r++) {
+      ProjectMatchingRound round = fixtures.round(context, now.minus(Duration.ofDays(3)),
+          now.minus(Duration.ofDays(2)), now.minus(Duration.ofHours(1)));
+      List<ProjectApplication> applications = new ArrayList<>(applicants.size());
+      for (int i = 0; i < applicants.size(); i++) {
+        applications.add(ProjectApplication.builder()
+            .form(forms.get((i + r) % PROJECT_COUNT))
+            .applicant(applicants.get(i))
+            .matchingRound(round)
+            .status(ApplicationStatus.PENDING)
+            .build());
+      }
+      transactionTemplate.executeWithoutResult(
+          status -> projectApplicationRepository.saveAll(applications));
+      roundIds.add(round.getId());
+    }
+    projectApplicationCounterService.reconcile();
+    int applicationCount = ROUND_COUNT * applicants.size();
+
+    long startedAt = System.nanoTime();
+    long statementCount = countStatements(() -> autoDecisionJob.runRounds(roundIds).join());
+    long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+    log.info("자동 합/불 처리 - 라운드 {}개, 프로젝트 {}개, 대기 지원서 {}건 - {}ms, JDBC 문장 {}개",
+        ROUND_COUNT, PROJECT_COUNT, applicationCount, elapsedMillis, statementCount);
+
+    // 모든 라운드가 처리 완료되고 대기 지원서가 남지 않음
+    assertThat(projectMatchingRoundRepository.findAllById(roundIds))
+        .allSatisfy(round -> assertThat(round.getIsAutoDecisionExecuted()).isTrue());
+    assertThat(roundIds).allSatisfy(roundId ->
+        assertThat(projectApplicationRepository.findPendingDecisionRows(roundId)).isEmpty());
+
+    // 프로젝트 파트별 멤버 수가 TO 를 넘지 않음
+    Map<Long, ChallengerPart> partByChallengerId = applicants.stream()
+        .collect(Collectors.toMap(Challenger::getId, Challenger::getPart));
+    Map<String, Long> memberCountByProjectPart = new HashMap<>();
+    projectMemberRepository.findKeysByChapterId(context.chapter().getId()).forEach(row ->
+        memberCountByProjectPart.merge(
+            row.getProjectId() + ":" + partByChallengerId.get(row.getChallengerId()), 1L,
+            Long::sum));
+    assertThat(memberCountByProjectPart.values())
+        .isNotEmpty()
+        .allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(TO_COUNT));
+  }
+}
@@ -0,0 +1,73 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinCostFlowTest {
+
+  @Test
+  @DisplayName("최대 유량을 흘리면서 비용이 가장 작은 경로 조합을 고른다")
+  void findsMaxFlowWithMinCost() {
+    // 0 -> 1 -> 2 -> 3 (비용 3), 0 -> 1 -> 3 (비용 4), 0 -> 2 -> 3 (비용 3)
+    MinCostFlow flow = new MinCostFlow(4, 5);
+    int sourceToA = flow.addEdge(0, 1, 2, 1);
+    int sourceToB = flow.addEdge(0, 2, 1, 2);
+    int aToB = flow.addEdge(1, 2, 1, 1);
+    int aToSink = flow.addEdge(1, 3, 1, 3);
+    int bToSink = flow.addEdge(2, 3, 2, 1);
+
+    long[] result = flow.run(0, 3);
+
+    assertThat(result).containsExactly(3L, 10L);
+    assertThat(flow.flowOf(sourceToA)).isEqualTo(2);
+    assertThat(flow.flowOf(sourceToB)).isEqualTo(1);
+    assertThat(flow.flowOf(aToB)).isEqualTo(1);
+    assertThat(flow.flowOf(aToSink)).isEqualTo(1);
+    assertThat(flow.flowOf(bToSink)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("같은 구간의 간선이 여러 개면 싼 간선부터 채운다")
+  void fillsCheaperParallelEdgeFirst() {
+    MinCostFlow flow = new MinCostFlow(3, 3);
+    flow.addEdge(0, 1, 1, 0);
+    int expensive = flow.addEdge(1, 2, 1, 5);
+    int cheap = flow.addEdge(1, 2, 1, 1);
+
+    long[] result = flow.run(0, 2);
+
+    assertThat(result).containsExactly(1L, 1L);
+    assertThat(flow.flowOf(cheap)).isEqualTo(1);
+    assertThat(flow.flowOf(expensive)).isZero();
+  }
+
+  @Test
+  @DisplayName("sink 에 도달할 수 없으면 유량을 흘리지 않는다")
+  void noFlowWhenSinkUnreachable() {
+    MinCostFlow flow = new MinCostFlow(3, 1);
+    int edge = flow.addEdge(0, 1, 5, 1);
+
+    long[] result = flow.run(0, 2);
+
+    assertThat(result).containsExactly(0L, 0L);
+    assertThat(flow.flowOf(edge)).isZero();
+  }
+
+  @Test
+  @DisplayName("예상보다 간선이 많아도 배열을 늘려 처리한다")
+  void growsEdgeArrays() {
+    int middleCount = 100;
+    MinCostFlow flow = new MinCostFlow(middleCount + 2, 1);
+    for (int i = 0; i < middleCount; i++) {
+      flow.addEdge(0, i + 2, 1, i);
+      flow.addEdge(i + 2, 1, 1, 0);
+    }
+
+    long[] result = flow.run(0, 1);
+
+    assertThat(result).containsExactly((long) middleCount,
+        (long) middleCount * (middleCount - 1) / 2);
+  }
+}
@@ -0,0 +1,67 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.ProjectMemberKey;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.placement.PlacementPlanner.Candidate;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.placement.PlacementPlanner.OpenSlot;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+@Tag("benchmark")
+class PlacementPlannerBenchmarkTest {
+
+  private static final int PROJECT_COUNT = 500;
+  private static final int CANDIDATE_COUNT = 5_000;
+  private static final int APPLIED_PER_CANDIDATE = 3;
+  private static final long PLAN_MILLIS_LIMIT = 500;
+  private static final List<ChallengerPart> PARTS = List.of(ChallengerPart.DESIGN,
+      ChallengerPart.WEB, ChallengerPart.ANDROID, ChallengerPart.IOS, ChallengerPart.SPRINGBOOT);
+
+  private final PlacementPlanner placementPlanner = new PlacementPlanner();
+
+  @Test
+  @DisplayName("미배정 챌린저 5,000명을 프로젝트 500개의 남은 자리에 0.5초 안에 배정 계획한다")
+  void plan5kCandidates() {
+    Random random = new Random(42L);
+    List<OpenSlot> slots = new ArrayList<>();
+    for (long projectId = 1; projectId <= PROJECT_COUNT; projectId++) {
+      for (ChallengerPart part : PARTS) {
+        slots.add(new OpenSlot(projectId, part, random.nextInt(4)));
+      }
+    }
+    List<Candidate> candidates = new ArrayList<>(CANDIDATE_COUNT);
+    Set<ProjectMemberKey> appliedPairs = new HashSet<>();
+    for (long challengerId = 1; challengerId <= CANDIDATE_COUNT; challengerId++) {
+      candidates.add(new Candidate(challengerId, PARTS.get(random.nextInt(PARTS.size()))));
+      for (int i = 0; i < APPLIED_PER_CANDIDATE; i++) {
+        appliedPairs.add(new ProjectMemberKey(1L + random.nextInt(PROJECT_COUNT), challengerId));
+      }
+    }
+    int openSlotCount = slots.stream().mapToInt(OpenSlot::remaining).sum();
+
+    // JIT 워밍업 후 측정
+    placementPlanner.plan(1L, slots, candidates, appliedPairs);
+    long startedAt = System.nanoTime();
+    PlacementPlan plan = placementPlanner.plan(1L, slots, candidates, appliedPairs);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    log.info("미배정 챌린저 배정 계획 - 챌린저 {}명, 남은 자리 {}개, 지원 이력 {}건 - {}ms, 배정 {}명 (지원 프로젝트 {}명)",
+        CANDIDATE_COUNT, openSlotCount, appliedPairs.size(), elapsedMillis,
+        plan.assignments().size(), plan.preferredCount());
+
+    // 자리보다 챌린저가 많으므로 남은 자리를 모두 채움
+    assertThat(plan.assignments()).hasSize(openSlotCount);
+    assertThat(elapsedMillis).isLessThan(PLAN_MILLIS_LIMIT);
+  }
+}
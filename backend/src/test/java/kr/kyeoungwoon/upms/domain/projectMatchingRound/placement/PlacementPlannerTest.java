@@ -0,0 +1,130 @@
+package kr.kyeoungwoon.upms.domain.projectMatchingRound.placement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.autodecision.ProjectMemberKey;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.placement.PlacementPlanner.Candidate;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.placement.PlacementPlanner.OpenSlot;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlacementPlannerTest {
+
+  private static final Long CHAPTER_ID = 1L;
+
+  private final PlacementPlanner placementPlanner = new PlacementPlanner();
+
+  @Test
+  @DisplayName("챌린저는 자기 파트의 남은 자리에만, 자리 수를 넘지 않게 한 번씩 배정된다")
+  void placesWithinPartAndRemainingSlots() {
+    List<OpenSlot> slots = List.of(
+        new OpenSlot(10L, ChallengerPart.WEB, 2),
+        new OpenSlot(20L, ChallengerPart.WEB, 1),
+        new OpenSlot(20L, ChallengerPart.SPRINGBOOT, 2),
+        new OpenSlot(30L, ChallengerPart.ANDROID, 0));
+    List<Candidate> candidates = new ArrayList<>();
+    candidates.addAll(candidates(100L, ChallengerPart.WEB, 5));
+    candidates.addAll(candidates(200L, ChallengerPart.SPRINGBOOT, 1));
+    candidates.addAll(candidates(300L, ChallengerPart.ANDROID, 2));
+    candidates.addAll(candidates(400L, ChallengerPart.DESIGN, 1));
+
+    PlacementPlan plan = placementPlanner.plan(CHAPTER_ID, slots, candidates, Set.of());
+
+    // WEB 3자리 모두, SPRINGBOOT 1명, 자리 없는 ANDROID/DESIGN 은 배정하지 않음
+    Map<Long, ChallengerPart> partByChallengerId = candidates.stream()
+        .collect(Collectors.toMap(Candidate::challengerId, Candidate::part));
+    assertThat(plan.assignments()).hasSize(4);
+    assertThat(plan.assignments()).extracting(ProjectMemberKey::challengerId)
+        .doesNotHaveDuplicates();
+    assertThat(plan.assignments()).allSatisfy(assignment -> assertThat(slots).anySatisfy(slot -> {
+      assertThat(slot.projectId()).isEqualTo(assignment.projectId());
+      assertThat(slot.part()).isEqualTo(partByChallengerId.get(assignment.challengerId()));
+    }));
+    assertThat(countByProject(plan, ChallengerPart.WEB, partByChallengerId))
+        .containsEntry(10L, 2L)
+        .containsEntry(20L, 1L);
+    assertThat(countByProject(plan, ChallengerPart.SPRINGBOOT, partByChallengerId))
+        .containsEntry(20L, 1L);
+    assertThat(plan.candidateCount()).isEqualTo(candidates.size());
+    assertThat(plan.openSlotCount()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("남은 자리가 있으면 챌린저가 지원했던 프로젝트에 먼저 배정한다")
+  void prefersAppliedProjects() {
+    List<OpenSlot> slots = List.of(
+        new OpenSlot(10L, ChallengerPart.WEB, 2),
+        new OpenSlot(20L, ChallengerPart.WEB, 2));
+    List<Candidate> candidates = candidates(100L, ChallengerPart.WEB, 3);
+    // 두 명은 20번 프로젝트에 지원했고, 한 명은 지원 이력 없음
+    Set<ProjectMemberKey> appliedPairs = Set.of(
+        new ProjectMemberKey(20L, 100L),
+        new ProjectMemberKey(20L, 101L));
+
+    PlacementPlan plan = placementPlanner.plan(CHAPTER_ID, slots, candidates, appliedPairs);
+
+    assertThat(plan.assignments()).containsExactlyInAnyOrder(
+        new ProjectMemberKey(20L, 100L),
+        new ProjectMemberKey(20L, 101L),
+        new ProjectMemberKey(10L, 102L));
+    assertThat(plan.preferredCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("지원 이력이 없으면 남은 자리 대비 채워진 비율이 프로젝트 간에 고르게 배정한다")
+  void balancesFillRatioAcrossProjects() {
+    List<OpenSlot> slots = List.of(
+        new OpenSlot(10L, ChallengerPart.WEB, 2),
+        new OpenSlot(20L, ChallengerPart.WEB, 6),
+        new OpenSlot(30L, ChallengerPart.WEB, 4));
+    List<Candidate> candidates = candidates(100L, ChallengerPart.WEB, 6);
+    Map<Long, ChallengerPart> partByChallengerId = candidates.stream()
+        .collect(Collectors.toMap(Candidate::challengerId, Candidate::part));
+
+    PlacementPlan plan = placementPlanner.plan(CHAPTER_ID, slots, candidates, Set.of());
+
+    // 12자리 중 6명 -> 모든 프로젝트가 남은 자리의 절반씩
+    assertThat(plan.assignments()).hasSize(6);
+    assertThat(countByProject(plan, ChallengerPart.WEB, partByChallengerId))
+        .containsEntry(10L, 1L)
+        .containsEntry(20L, 3L)
+        .containsEntry(30L, 2L);
+    assertThat(plan.preferredCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("자리나 대상 챌린저가 없으면 빈 계획을 돌려준다")
+  void emptyPlanWithoutSlotsOrCandidates() {
+    PlacementPlan noSlots = placementPlanner.plan(CHAPTER_ID,
+        List.of(new OpenSlot(10L, ChallengerPart.WEB, 0)),
+        candidates(100L, ChallengerPart.WEB, 2), Set.of());
+    PlacementPlan noCandidates = placementPlanner.plan(CHAPTER_ID,
+        List.of(new OpenSlot(10L, ChallengerPart.WEB, 3)), List.of(), Set.of());
+
+    assertThat(noSlots.assignments()).isEmpty();
+    assertThat(noSlots.candidateCount()).isEqualTo(2);
+    assertThat(noCandidates.assignments()).isEmpty();
+    assertThat(noCandidates.openSlotCount()).isEqualTo(3);
+  }
+
+  private static List<Candidate> candidates(long firstId, ChallengerPart part, int count) {
+    List<Candidate> candidates = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      candidates.add(new Candidate(firstId + i, part));
+    }
+    return candidates;
+  }
+
+  private static Map<Long, Long> countByProject(PlacementPlan plan, ChallengerPart part,
+      Map<Long, ChallengerPart> partByChallengerId) {
+    return plan.assignments().stream()
+        .filter(assignment -> partByChallengerId.get(assignment.challengerId()) == part)
+        .collect(Collectors.groupingBy(ProjectMemberKey::projectId, Collectors.counting()));
+  }
+}
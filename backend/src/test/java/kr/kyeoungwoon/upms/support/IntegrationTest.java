@@ -0,0 +1,36 @@
+package kr.kyeoungwoon.upms.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * PostgreSQL 컨테이너 기반 통합 테스트 공통 설정
+ * <p>
+ * 테스트 사이에 데이터를 지우지 않으므로, 각 테스트는 TestFixtures 로 자기 Chapter 를 새로 만들어 그 안에서만 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({PostgresContainerConfig.class, TestFixtures.class})
+public abstract class IntegrationTest {
+
+  @Autowired
+  protected TestFixtures fixtures;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  /**
+   * action 실행 중 준비된 JDBC 문장 수 (배치는 묶음 하나당 1)
+   */
+  protected long countStatements(Runnable action) {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+    action.run();
+    return statistics.getPrepareStatementCount();
+  }
+}
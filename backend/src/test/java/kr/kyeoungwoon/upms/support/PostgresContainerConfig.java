@@ -0,0 +1,23 @@
+package kr.kyeoungwoon.upms.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 통합 테스트용 PostgreSQL 컨테이너
+ * <p>
+ * 운영과 같은 PostgreSQL 에서 native upsert, 행 잠금, advisory lock 을 그대로 검증합니다. 같은 설정을 쓰는 테스트는 컨텍스트와 컨테이너를
+ * 함께 재사용합니다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresContainerConfig {
+
+  @Bean
+  @ServiceConnection
+  PostgreSQLContainer<?> postgresContainer() {
+    return new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"));
+  }
+}
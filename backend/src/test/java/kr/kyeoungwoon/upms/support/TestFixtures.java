@@ -0,0 +1,193 @@
+package kr.kyeoungwoon.upms.support;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Challenger;
+import kr.kyeoungwoon.upms.domain.challenger.entity.Chapter;
+import kr.kyeoungwoon.upms.domain.challenger.entity.ChapterSchool;
+import kr.kyeoungwoon.upms.domain.challenger.entity.School;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChallengerRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.ChapterSchoolRepository;
+import kr.kyeoungwoon.upms.domain.challenger.repository.SchoolRepository;
+import kr.kyeoungwoon.upms.domain.project.entity.Project;
+import kr.kyeoungwoon.upms.domain.project.entity.ProjectMember;
+import kr.kyeoungwoon.upms.domain.project.entity.ProjectTo;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectMemberRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectRepository;
+import kr.kyeoungwoon.upms.domain.project.repository.ProjectToRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.entity.ProjectApplication;
+import kr.kyeoungwoon.upms.domain.projectApplication.repository.ProjectApplicationRepository;
+import kr.kyeoungwoon.upms.domain.projectApplication.service.ProjectApplicationCounterService;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ApplicationFormQuestion;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.entity.ProjectApplicationForm;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ApplicationFormQuestionRepository;
+import kr.kyeoungwoon.upms.domain.projectApplicationForm.repository.ProjectApplicationFormRepository;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.entity.ProjectMatchingRound;
+import kr.kyeoungwoon.upms.domain.projectMatchingRound.repository.ProjectMatchingRoundRepository;
+import kr.kyeoungwoon.upms.global.enums.ApplicationStatus;
+import kr.kyeoungwoon.upms.global.enums.ChallengerPart;
+import kr.kyeoungwoon.upms.global.enums.Gender;
+import kr.kyeoungwoon.upms.global.enums.QuestionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 통합 테스트 데이터 생성
+ * <p>
+ * 서비스 검증 로직을 거치지 않고 리포지토리로 바로 저장합니다. 이름과 학번에는 고유 접미사를 붙여 테스트끼리 유니크 제약이 겹치지 않도록 합니다.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestFixtures {
+
+  private static final long GISU = 9L;
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  private final SchoolRepository schoolRepository;
+  private final ChapterRepository chapterRepository;
+  private final ChapterSchoolRepository chapterSchoolRepository;
+  private final ChallengerRepository challengerRepository;
+  private final ProjectRepository projectRepository;
+  private final ProjectToRepository projectToRepository;
+  private final ProjectMemberRepository projectMemberRepository;
+  private final ProjectApplicationFormRepository projectApplicationFormRepository;
+  private final ApplicationFormQuestionRepository applicationFormQuestionRepository;
+  private final ProjectMatchingRoundRepository projectMatchingRoundRepository;
+  private final ProjectApplicationRepository projectApplicationRepository;
+  private final ProjectApplicationCounterService projectApplicationCounterService;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 학교 하나로 구성된 Chapter
+   */
+  public ChapterContext chapter() {
+    return transactionTemplate.execute(status -> {
+      String suffix = uniqueSuffix();
+      School school = schoolRepository.save(School.builder()
+          .name("학교-" + suffix)
+          .build());
+      Chapter chapter = chapterRepository.save(Chapter.builder()
+          .name("지부-" + suffix)
+          .gisu(GISU)
+          .build());
+      chapterSchoolRepository.save(ChapterSchool.builder()
+          .chapter(chapter)
+          .school(school)
+          .build());
+      return new ChapterContext(chapter, school);
+    });
+  }
+
+  public Challenger challenger(ChapterContext context, ChallengerPart part) {
+    return challengers(context, part, 1).getFirst();
+  }
+
+  public List<Challenger> challengers(ChapterContext context, ChallengerPart part, int count) {
+    List<Challenger> challengers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String suffix = uniqueSuffix();
+      challengers.add(Challenger.builder()
+          .gisu(GISU)
+          .part(part)
+          .name("챌린저-" + suffix)
+          .nickname("nick-" + suffix)
+          .gender(Gender.MALE)
+          .school(context.school())
+          .studentId(suffix)
+          .password("password")
+          .build());
+    }
+    return transactionTemplate.execute(status -> challengerRepository.saveAll(challengers));
+  }
+
+  public Project project(ChapterContext context, Challenger productOwner) {
+    return transactionTemplate.execute(status -> projectRepository.save(Project.builder()
+        .name("프로젝트-" + uniqueSuffix())
+        .productOwner(productOwner)
+        .chapter(context.chapter())
+        .build()));
+  }
+
+  public ProjectTo projectTo(Project project, ChallengerPart part, int toCount) {
+    return transactionTemplate.execute(status -> projectToRepository.save(ProjectTo.builder()
+        .project(project)
+        .part(part)
+        .toCount(toCount)
+        .build()));
+  }
+
+  public ProjectMember member(Project project, Challenger challenger) {
+    return transactionTemplate.execute(status -> projectMemberRepository.save(
+        ProjectMember.builder()
+            .project(project)
+            .challenger(challenger)
+            .build()));
+  }
+
+  public ProjectApplicationForm form(Project project) {
+    return transactionTemplate.execute(status -> projectApplicationFormRepository.save(
+        ProjectApplicationForm.builder()
+            .project(project)
+            .title("지원서-" + uniqueSuffix())
+            .build()));
+  }
+
+  public List<ApplicationFormQuestion> questions(ProjectApplicationForm form, int count) {
+    List<ApplicationFormQuestion> questions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      questions.add(ApplicationFormQuestion.builder()
+          .form(form)
+          .questionNo(i + 1)
+          .title("질문 " + (i + 1))
+          .type(QuestionType.SUBJECTIVE)
+          .build());
+    }
+    return transactionTemplate.execute(
+        status -> applicationFormQuestionRepository.saveAll(questions));
+  }
+
+  public ProjectMatchingRound round(ChapterContext context, Instant startAt, Instant endAt,
+      Instant decisionDeadlineAt) {
+    return transactionTemplate.execute(status -> projectMatchingRoundRepository.save(
+        ProjectMatchingRound.builder()
+            .name("차수-" + uniqueSuffix())
+            .chapter(context.chapter())
+            .startAt(startAt)
+            .endAt(endAt)
+            .decisionDeadlineAt(decisionDeadlineAt)
+            .build()));
+  }
+
+  /**
+   * 대기 상태 지원서를 저장하고 지원서 카운터를 맞춥니다.
+   */
+  public List<ProjectApplication> applications(ProjectApplicationForm form,
+      ProjectMatchingRound round, List<Challenger> applicants) {
+    List<ProjectApplication> applications = new ArrayList<>(applicants.size());
+    for (Challenger applicant : applicants) {
+      applications.add(ProjectApplication.builder()
+          .form(form)
+          .applicant(applicant)
+          .matchingRound(round)
+          .status(ApplicationStatus.PENDING)
+          .build());
+    }
+    List<ProjectApplication> saved = transactionTemplate.execute(
+        status -> projectApplicationRepository.saveAll(applications));
+    projectApplicationCounterService.reconcile();
+    return saved;
+  }
+
+  private static String uniqueSuffix() {
+    return UUID.randomUUID().toString().substring(0, 8) + "-" + SEQUENCE.incrementAndGet();
+  }
+
+  public record ChapterContext(Chapter chapter, School school) {
+
+  }
+}
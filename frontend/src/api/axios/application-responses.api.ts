@@ -2,6 +2,7 @@
  * 프로젝트 지원서 응답 API
  */
 import { BaseApi } from '@api/base/BaseApi';
+import type { CursorPage, CursorPageParams } from '@api/types/common';
 import {
   ProjectApplicationResponseBulkCreateRequest,
   ProjectApplicationResponseCreateRequest,
@@ -21,6 +22,15 @@ class ApplicationResponseApi extends BaseApi {
     return this.get<ProjectApplicationResponseItem[]>('/v1/application-responses', { params });
   }
 
+  // 지원서 응답 커서 기반 페이지 조회
+  async getApplicationResponsePage(
+    params?: CursorPageParams,
+  ): Promise<CursorPage<ProjectApplicationResponseItem>> {
+    return this.get<CursorPage<ProjectApplicationResponseItem>>('/v1/application-responses/page', {
+      params,
+    });
+  }
+
   // 지원서 응답 생성
   async createApplicationResponse(
     request: ProjectApplicationResponseCreateRequest,
@@ -2,6 +2,7 @@
  * 프로젝트 지원 API
  */
 import { BaseApi } from '@api/base/BaseApi';
+import type { CursorPage, CursorPageParams } from '@api/types/common';
 import type {
   ChallengerApplicationSummary,
   ProjectApplication,
@@ -27,6 +28,11 @@ class ApplicationApi extends BaseApi {
     });
   }
 
+  // 지원서 커서 기반 페이지 조회
+  async getApplicationPage(params?: CursorPageParams): Promise<CursorPage<ProjectApplication>> {
+    return this.get<CursorPage<ProjectApplication>>('/v1/application/page', { params });
+  }
+
   async getMyApplications(): Promise<ProjectApplicationDetail[]> {
     return this.get<ProjectApplicationDetail[]>('/v1/application/me');
   }
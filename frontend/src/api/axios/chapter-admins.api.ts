@@ -2,6 +2,7 @@
  * 챕터 관리자 API
  */
 import { BaseApi } from '@api/base/BaseApi';
+import type { CursorPage, CursorPageParams } from '@api/types/common';
 import type {
   ChapterAdmin,
   ChapterAdminCreateRequest,
@@ -22,6 +23,11 @@ class ChapterAdminApi extends BaseApi {
     return this.get<ChapterAdmin[]>('/v1/chapter-admins', { params });
   }
 
+  // 챕터 관리자 커서 기반 페이지 조회
+  async getChapterAdminPage(params?: CursorPageParams): Promise<CursorPage<ChapterAdmin>> {
+    return this.get<CursorPage<ChapterAdmin>>('/v1/chapter-admins/page', { params });
+  }
+
   // 챕터 관리자 생성
   async createChapterAdmin(request: ChapterAdminCreateRequest): Promise<ChapterAdmin> {
     return this.post<ChapterAdmin>('/v1/chapter-admins', request);
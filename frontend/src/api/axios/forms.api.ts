@@ -2,6 +2,7 @@
  * 프로젝트 지원 폼 API
  */
 import { BaseApi } from '@api/base/BaseApi';
+import type { CursorPage, CursorPageParams } from '@api/types/common';
 import type {
   ProjectApplicationForm,
   ProjectApplicationFormCreateRequest,
@@ -20,6 +21,11 @@ class FormApi extends BaseApi {
     return this.get<ProjectApplicationForm[]>('/v1/form', { params });
   }
 
+  // 지원서 폼 커서 기반 페이지 조회
+  async getFormPage(params?: CursorPageParams): Promise<CursorPage<ProjectApplicationForm>> {
+    return this.get<CursorPage<ProjectApplicationForm>>('/v1/form/page', { params });
+  }
+
   // 지원서 폼 생성
   async createForm(request: ProjectApplicationFormCreateRequest): Promise<ProjectApplicationForm> {
     return this.post<ProjectApplicationForm>('/v1/form', request);
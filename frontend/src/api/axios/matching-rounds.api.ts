@@ -2,6 +2,7 @@
  * 프로젝트 매칭 라운드 API
  */
 import { BaseApi } from '@api/base/BaseApi';
+import type { CursorPage, CursorPageParams } from '@api/types/common';
 import {
   ProjectMatchingRoundCreateRequest,
   ProjectMatchingRoundGetRequest,
@@ -21,6 +22,17 @@ class MatchingRoundApi extends BaseApi {
     });
   }
 
+  /**
+   * 매칭 라운드 커서 기반 페이지 조회
+   */
+  async getMatchingRoundPage(
+    params?: CursorPageParams,
+  ): Promise<CursorPage<ProjectMatchingRoundResponse>> {
+    return this.get<CursorPage<ProjectMatchingRoundResponse>>('/v1/matching-rounds/page', {
+      params,
+    });
+  }
+
   /**
    * 기간으로 매칭 라운드 목록 조회 (겹치는 라운드 포함)
    */
@@ -2,6 +2,7 @@
  * 프로젝트 TO API
  */
 import { BaseApi } from '@api/base/BaseApi';
+import type { CursorPage, CursorPageParams } from '@api/types/common';
 import type {
   ProjectToBulkCreateRequest,
   ProjectToCreateRequest,
@@ -21,6 +22,11 @@ class ProjectToApi extends BaseApi {
     return this.get<ProjectToResponse[]>('/v1/project-to', { params });
   }
 
+  // 프로젝트 TO 커서 기반 페이지 조회
+  async getProjectToPage(params?: CursorPageParams): Promise<CursorPage<ProjectToResponse>> {
+    return this.get<CursorPage<ProjectToResponse>>('/v1/project-to/page', { params });
+  }
+
   // 프로젝트 TO 생성
   async createProjectTo(request: ProjectToCreateRequest): Promise<ProjectToResponse> {
     return this.post<ProjectToResponse>('/v1/project-to', request);
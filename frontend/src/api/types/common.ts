@@ -9,6 +9,18 @@ export interface ApiResponse<T> {
   result: T;
 }
 
+export interface CursorPage<T> {
+  content: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  size: number;
+}
+
+export interface CursorPageParams {
+  cursor?: string;
+  size?: number;
+}
+
 export interface ApiResponseVoid {
   isSuccess: boolean;
   code: string;